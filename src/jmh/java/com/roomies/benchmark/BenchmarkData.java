@@ -0,0 +1,88 @@
+package com.roomies.benchmark;
+
+import com.roomies.dto.shoppingitem.ShoppingItemResponseDto;
+import com.roomies.entity.Frequency;
+import com.roomies.entity.Household;
+import com.roomies.entity.Role;
+import com.roomies.entity.Rotation;
+import com.roomies.entity.Task;
+import com.roomies.entity.TaskResponsible;
+import com.roomies.entity.User;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Deterministic in-memory fixtures shaped like a typical household board. */
+final class BenchmarkData {
+  private BenchmarkData() {}
+
+  static Household household() {
+    Household h = new Household();
+    h.setHouseholdId(1L);
+    h.setName("Benchmark House");
+    return h;
+  }
+
+  static List<User> members(Household h, int count) {
+    List<User> users = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      User u = new User();
+      u.setUserId((long) i + 1);
+      u.setEmail("member" + i + "@example.com");
+      u.setDisplayName("Member " + i);
+      u.setRole(Role.MEMBER);
+      u.setHousehold(h);
+      users.add(u);
+    }
+    return users;
+  }
+
+  static List<Task> tasks(Household h, int count) {
+    Frequency[] frequencies = Frequency.values();
+    LocalDate start = LocalDate.of(2024, 1, 31);
+    List<Task> tasks = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Task t = new Task();
+      t.setTaskId((long) i + 1);
+      t.setHousehold(h);
+      t.setDescription("Task " + i);
+      t.setFrequency(frequencies[i % frequencies.length]);
+      t.setRotation(i % 2 == 0 ? Rotation.SINGLE : Rotation.TEAM);
+      t.setStartDate(start);
+      t.setNextDue(start.atStartOfDay().plusDays(i));
+      tasks.add(t);
+    }
+    return tasks;
+  }
+
+  /** Responsibles ordered by task ID then position, as the repository returns them. */
+  static List<TaskResponsible> responsibles(List<Task> tasks, List<User> members) {
+    List<TaskResponsible> out = new ArrayList<>(tasks.size() * members.size());
+    for (Task t : tasks) {
+      int pos = 1;
+      for (User u : members) {
+        out.add(new TaskResponsible(t, u, pos++));
+      }
+    }
+    return out;
+  }
+
+  static List<ShoppingItemResponseDto> shoppingItems(int count) {
+    LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+    List<ShoppingItemResponseDto> items = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ShoppingItemResponseDto dto = new ShoppingItemResponseDto();
+      dto.setItemId((long) i + 1);
+      dto.setName("Item " + i);
+      dto.setQuantity(i + " pcs");
+      dto.setPurchased(i % 3 == 0);
+      dto.setAddedBy("Member " + (i % 4));
+      dto.setPurchasedBy(dto.isPurchased() ? "Member 0" : null);
+      dto.setAddedAt(now.minusHours(i));
+      dto.setPurchasedAt(dto.isPurchased() ? now : null);
+      items.add(dto);
+    }
+    return items;
+  }
+}
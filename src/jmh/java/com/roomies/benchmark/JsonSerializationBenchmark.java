@@ -0,0 +1,64 @@
+package com.roomies.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.roomies.dto.shoppingitem.ShoppingItemResponseDto;
+import com.roomies.dto.task.TaskResponseDto;
+import com.roomies.entity.Household;
+import com.roomies.entity.Task;
+import com.roomies.entity.TaskResponsible;
+import com.roomies.entity.User;
+import com.roomies.service.util.TaskMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/** Response-body serialization cost, using the same Jackson setup Spring MVC builds. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+  @Param({"20", "200"})
+  public int size;
+
+  private ObjectWriter writer;
+  private List<TaskResponseDto> tasks;
+  private List<ShoppingItemResponseDto> shoppingItems;
+
+  @Setup
+  public void setup() {
+    ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+    writer = mapper.writer();
+
+    Household h = BenchmarkData.household();
+    List<User> members = BenchmarkData.members(h, 4);
+    List<Task> taskEntities = BenchmarkData.tasks(h, size);
+    Map<Long, List<TaskResponsible>> grouped =
+        TaskMapper.groupByTaskId(BenchmarkData.responsibles(taskEntities, members));
+    tasks = taskEntities.stream()
+        .map(t -> TaskMapper.toDto(t, grouped.getOrDefault(t.getTaskId(), List.of())))
+        .toList();
+    shoppingItems = BenchmarkData.shoppingItems(size);
+  }
+
+  @Benchmark
+  public byte[] serializeTasks() throws JsonProcessingException {
+    return writer.writeValueAsBytes(tasks);
+  }
+
+  @Benchmark
+  public byte[] serializeShoppingItems() throws JsonProcessingException {
+    return writer.writeValueAsBytes(shoppingItems);
+  }
+}
@@ -0,0 +1,74 @@
+package com.roomies.benchmark;
+
+import com.roomies.entity.Role;
+import com.roomies.entity.User;
+import com.roomies.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Per-request cost of verifying an access token.
+ * {@code legacyVerify} mirrors the old filter path: a new key and parser for every claim
+ * lookup, and three parses per request (subject, subject again, expiration).
+ * {@code parseOnce} is the current path: one parse with the parser built at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+  private static final String SECRET = "benchmark-access-secret-that-is-at-least-256-bits-long";
+
+  private JwtService jwtService;
+  private User user;
+  private String token;
+
+  @Setup
+  public void setup() {
+    jwtService = new JwtService();
+    ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+    ReflectionTestUtils.setField(jwtService, "refreshSecretKey", SECRET + "-refresh");
+    ReflectionTestUtils.invokeMethod(jwtService, "init");
+
+    user = new User();
+    user.setUserId(1L);
+    user.setEmail("bench@example.com");
+    user.setRole(Role.MEMBER);
+    token = jwtService.generateToken(user);
+  }
+
+  @Benchmark
+  public boolean legacyVerify() {
+    String username = legacyClaims(token).getSubject();
+    return username.equals(legacyClaims(token).getSubject())
+        && !legacyClaims(token).getExpiration().before(new Date());
+  }
+
+  @Benchmark
+  public Claims parseOnce() {
+    return jwtService.parseAccessToken(token);
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return jwtService.generateToken(user);
+  }
+
+  private static Claims legacyClaims(String token) {
+    Key key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+  }
+}
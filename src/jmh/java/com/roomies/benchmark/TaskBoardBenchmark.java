@@ -0,0 +1,122 @@
+package com.roomies.benchmark;
+
+import com.roomies.dto.task.TaskResponseDto;
+import com.roomies.entity.Household;
+import com.roomies.entity.Task;
+import com.roomies.entity.TaskResponsible;
+import com.roomies.entity.User;
+import com.roomies.repository.IdSequences;
+import com.roomies.repository.TaskBoardRepositoryImpl;
+import com.roomies.service.util.TaskMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Cost of building the task board. {@link #readBoard} runs the read path behind
+ * {@code TaskService.getTasksForHousehold}, {@link TaskBoardRepositoryImpl}'s single query
+ * streamed into DTOs, on in-memory H2 with the Flyway schema. The other benchmarks measure
+ * the CPU part of the entity path that {@code SyncService} still uses for changed tasks:
+ * grouping responsibles and mapping through {@code TaskMapper.toDto}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskBoardBenchmark {
+
+  @Param({"20", "200"})
+  public int taskCount;
+
+  private List<Task> tasks;
+  private List<TaskResponsible> responsibles;
+  private Map<Long, List<TaskResponsible>> grouped;
+
+  private SingleConnectionDataSource dataSource;
+  private TaskBoardRepositoryImpl boardRepo;
+  private long householdId;
+
+  @Setup
+  public void setup() {
+    Household h = BenchmarkData.household();
+    List<User> members = BenchmarkData.members(h, 4);
+    tasks = BenchmarkData.tasks(h, taskCount);
+    responsibles = BenchmarkData.responsibles(tasks, members);
+    grouped = TaskMapper.groupByTaskId(responsibles);
+    seed(members);
+  }
+
+  /** Writes the same household into H2, with ids reserved from id_sequences. */
+  private void seed(List<User> members) {
+    dataSource = new SingleConnectionDataSource(
+        "jdbc:h2:mem:task_board;MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "", true);
+    Flyway.configure().dataSource(dataSource).load().migrate();
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    IdSequences ids = new IdSequences(jdbc, new DataSourceTransactionManager(dataSource));
+    boardRepo = new TaskBoardRepositoryImpl(jdbc);
+
+    householdId = ids.reserve("households", 1);
+    jdbc.update("INSERT INTO households (household_id, name, join_code) VALUES (?, 'Bench', 'BOARD1')",
+        householdId);
+    List<Long> userIds = new ArrayList<>(members.size());
+    for (User u : members) {
+      long userId = ids.reserve("users", 1);
+      jdbc.update("INSERT INTO users (user_id, email, display_name, password, household_id) VALUES (?, ?, ?, ?, ?)",
+          userId, u.getEmail(), u.getDisplayName(), "x".repeat(60), householdId);
+      userIds.add(userId);
+    }
+    for (Task t : tasks) {
+      long taskId = ids.reserve("tasks", 1);
+      jdbc.update("INSERT INTO tasks (task_id, household_id, description, frequency, rotation, start_date, next_due) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?)", taskId, householdId, t.getDescription(), t.getFrequency().name(),
+          t.getRotation().name(), t.getStartDate(), t.getNextDue());
+      for (int p = 0; p < userIds.size(); p++) {
+        jdbc.update("INSERT INTO task_responsibles (responsible_id, task_id, user_id, position) VALUES (?, ?, ?, ?)",
+            ids.reserve("task_responsibles", 1), taskId, userIds.get(p), p + 1);
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    dataSource.destroy();
+  }
+
+  @Benchmark
+  public List<TaskResponseDto> readBoard() {
+    return boardRepo.findBoardByHousehold(householdId);
+  }
+
+  @Benchmark
+  public Map<Long, List<TaskResponsible>> groupResponsibles() {
+    return TaskMapper.groupByTaskId(responsibles);
+  }
+
+  @Benchmark
+  public List<TaskResponseDto> mapToDtos() {
+    return tasks.stream()
+        .map(t -> TaskMapper.toDto(t, grouped.getOrDefault(t.getTaskId(), List.of())))
+        .toList();
+  }
+
+  @Benchmark
+  public List<TaskResponseDto> buildBoard() {
+    Map<Long, List<TaskResponsible>> byTaskId = TaskMapper.groupByTaskId(responsibles);
+    return tasks.stream()
+        .map(t -> TaskMapper.toDto(t, byTaskId.getOrDefault(t.getTaskId(), List.of())))
+        .toList();
+  }
+}
@@ -0,0 +1,151 @@
+package com.roomies.benchmark;
+
+import com.roomies.entity.Frequency;
+import com.roomies.entity.Rotation;
+import com.roomies.repository.IdSequences;
+import com.roomies.repository.TaskBulkInsertRepositoryImpl;
+import com.roomies.repository.projection.NewTaskRow;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Throughput of creating an onboarding template of tasks: the per-item path of
+ * {@code TaskService.createTask} (insert the task, then look up and insert each responsible)
+ * against the batched {@link TaskBulkInsertRepositoryImpl}. Runs on in-memory H2 with the
+ * Flyway schema, so it measures statement round trips rather than network latency; the gap
+ * widens against a remote MySQL.
+ *
+ * <p>The id columns have no AUTO_INCREMENT (V13), so the per-item path reserves its ids up
+ * front with one {@link IdSequences} call per table; the statements per task are unchanged.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskBulkInsertBenchmark {
+
+  private static final String SELECT_USER_SQL = "SELECT household_id FROM users WHERE user_id = ?";
+  private static final String INSERT_TASK_SQL = """
+      INSERT INTO tasks (task_id, household_id, description, frequency, rotation, start_date, next_due)
+      VALUES (?, ?, ?, ?, ?, ?, ?)
+      """;
+  private static final String INSERT_RESPONSIBLE_SQL =
+      "INSERT INTO task_responsibles (responsible_id, task_id, user_id, position) VALUES (?, ?, ?, ?)";
+
+  @Param({"10", "100"})
+  public int taskCount;
+
+  private SingleConnectionDataSource dataSource;
+  private JdbcTemplate jdbc;
+  private IdSequences idSequences;
+  private TaskBulkInsertRepositoryImpl bulkRepo;
+  private long householdId;
+  private List<NewTaskRow> template;
+  private String selectUsersSql;
+
+  @Setup
+  public void setup() {
+    dataSource = new SingleConnectionDataSource(
+        "jdbc:h2:mem:bulk_insert;MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "", true);
+    Flyway.configure().dataSource(dataSource).load().migrate();
+    jdbc = new JdbcTemplate(dataSource);
+    idSequences = new IdSequences(jdbc, new DataSourceTransactionManager(dataSource));
+    bulkRepo = new TaskBulkInsertRepositoryImpl(jdbc, idSequences);
+
+    householdId = idSequences.reserve("households", 1);
+    jdbc.update("INSERT INTO households (household_id, name, join_code) VALUES (?, 'Bench', 'BENCH1')",
+        householdId);
+    List<Long> members = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      long userId = idSequences.reserve("users", 1);
+      jdbc.update("INSERT INTO users (user_id, email, display_name, password, household_id) VALUES (?, ?, ?, ?, ?)",
+          userId, "bench" + i + "@example.com", "Member " + i, "x".repeat(60), householdId);
+      members.add(userId);
+    }
+
+    LocalDate start = LocalDate.now();
+    template = new ArrayList<>(taskCount);
+    for (int t = 0; t < taskCount; t++) {
+      List<Long> responsibles = List.of(members.get(t % 4), members.get((t + 1) % 4));
+      template.add(new NewTaskRow("Task " + t, Frequency.WEEKLY, Rotation.TEAM, start,
+          start.atStartOfDay(), responsibles));
+    }
+    selectUsersSql = "SELECT user_id, household_id FROM users WHERE user_id IN ("
+        + String.join(", ", members.stream().map(String::valueOf).toList()) + ")";
+  }
+
+  @Setup(Level.Invocation)
+  public void clearTasks() {
+    jdbc.update("DELETE FROM task_responsibles");
+    jdbc.update("DELETE FROM tasks");
+  }
+
+  @TearDown
+  public void tearDown() {
+    dataSource.destroy();
+  }
+
+  @Benchmark
+  public List<Long> perItem() throws Exception {
+    long nextTaskId = idSequences.reserve("tasks", template.size());
+    long nextResponsibleId = idSequences.reserve("task_responsibles",
+        template.stream().mapToInt(t -> t.responsibleUserIds().size()).sum());
+    Connection con = dataSource.getConnection();
+    List<Long> ids = new ArrayList<>(template.size());
+    try (PreparedStatement insertTask = con.prepareStatement(INSERT_TASK_SQL);
+         PreparedStatement selectUser = con.prepareStatement(SELECT_USER_SQL);
+         PreparedStatement insertResponsible = con.prepareStatement(INSERT_RESPONSIBLE_SQL)) {
+      for (NewTaskRow t : template) {
+        long taskId = nextTaskId++;
+        insertTask.setLong(1, taskId);
+        insertTask.setLong(2, householdId);
+        insertTask.setString(3, t.description());
+        insertTask.setString(4, t.frequency().name());
+        insertTask.setString(5, t.rotation().name());
+        insertTask.setObject(6, t.startDate());
+        insertTask.setObject(7, t.nextDue());
+        insertTask.executeUpdate();
+        ids.add(taskId);
+
+        int position = 1;
+        for (Long userId : t.responsibleUserIds()) {
+          selectUser.setLong(1, userId);
+          try (ResultSet rs = selectUser.executeQuery()) {
+            rs.next();
+          }
+          insertResponsible.setLong(1, nextResponsibleId++);
+          insertResponsible.setLong(2, taskId);
+          insertResponsible.setLong(3, userId);
+          insertResponsible.setInt(4, position++);
+          insertResponsible.executeUpdate();
+        }
+      }
+    }
+    return ids;
+  }
+
+  @Benchmark
+  public List<Long> batched() {
+    jdbc.queryForList(selectUsersSql);
+    return bulkRepo.insertAll(householdId, template);
+  }
+}
@@ -0,0 +1,52 @@
+package com.roomies.benchmark;
+
+import com.roomies.entity.Frequency;
+import com.roomies.service.util.TaskSchedule;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Schedule arithmetic used when completing a task and when re-anchoring it on update. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskScheduleBenchmark {
+
+  /** How far back a re-anchored start date lies; drives the catch-up cost. */
+  @Param({"30", "3650"})
+  public int startDaysAgo;
+
+  private LocalDate today;
+  private LocalDate startDate;
+  private LocalDateTime due;
+
+  @Setup
+  public void setup() {
+    today = LocalDate.of(2025, 6, 15);
+    startDate = today.minusDays(startDaysAgo);
+    due = today.atStartOfDay();
+  }
+
+  @Benchmark
+  public LocalDateTime nextAfterMonthly() {
+    return TaskSchedule.nextAfter(due, Frequency.MONTHLY);
+  }
+
+  @Benchmark
+  public LocalDateTime alignDaily() {
+    return TaskSchedule.alignFromStart(startDate, Frequency.DAILY, today);
+  }
+
+  @Benchmark
+  public LocalDateTime alignMonthly() {
+    return TaskSchedule.alignFromStart(startDate, Frequency.MONTHLY, today);
+  }
+}
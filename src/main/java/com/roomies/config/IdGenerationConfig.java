@@ -0,0 +1,18 @@
+package com.roomies.config;
+
+import com.roomies.entity.PooledIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Passes {@code roomies.ids.allocation-size} to {@link PooledIdGenerator}. */
+@Configuration
+public class IdGenerationConfig {
+
+  @Bean
+  HibernatePropertiesCustomizer idAllocationSize(
+      @Value("${roomies.ids.allocation-size:" + PooledIdGenerator.DEFAULT_ALLOCATION_SIZE + "}") int allocationSize) {
+    return properties -> properties.put(PooledIdGenerator.ALLOCATION_SIZE_SETTING, allocationSize);
+  }
+}
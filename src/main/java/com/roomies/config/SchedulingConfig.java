@@ -0,0 +1,12 @@
+package com.roomies.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** Enables background jobs; set {@code roomies.scheduling.enabled=false} to run without them. */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "roomies.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -1,17 +1,35 @@
 package com.roomies.config;
 
+import com.roomies.security.StompAuthInterceptor;
+import com.roomies.service.event.OutboundBackpressure;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+  private final StompAuthInterceptor authInterceptor;
+  private final OutboundBackpressure outboundBackpressure;
+  private final String[] allowedOrigins;
+
+  public WebSocketConfig(StompAuthInterceptor authInterceptor,
+      OutboundBackpressure outboundBackpressure,
+      @Value("${roomies.ws.allowed-origins:http://localhost:*}") String[] allowedOrigins) {
+    this.authInterceptor = authInterceptor;
+    this.outboundBackpressure = outboundBackpressure;
+    this.allowedOrigins = allowedOrigins;
+  }
+
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
-    registry.addEndpoint("/ws").setAllowedOriginPatterns("*").withSockJS();
+    registry.addEndpoint("/ws").setAllowedOriginPatterns(allowedOrigins).withSockJS();
   }
 
   @Override
@@ -19,4 +37,19 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     config.enableSimpleBroker("/topic");
     config.setApplicationDestinationPrefixes("/app");
   }
+
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    registration.interceptors(authInterceptor);
+  }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    registration.interceptors(outboundBackpressure);
+  }
+
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    registration.addDecoratorFactory(outboundBackpressure);
+  }
 }
@@ -3,6 +3,7 @@ package com.roomies.controller;
 import com.roomies.dto.household.HouseholdCreateDto;
 import com.roomies.dto.household.HouseholdDetailsResponseDto;
 import com.roomies.dto.household.JoinHouseholdRequestDto;
+import com.roomies.security.AuthenticatedUser;
 import com.roomies.service.HouseholdService;
 import jakarta.validation.Valid;
 import java.util.Map;
@@ -15,15 +16,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/household")
 public class HouseholdController {
 
   private final HouseholdService householdService;
+  private final HouseholdEtags etags;
 
-  public HouseholdController(HouseholdService householdService) {
+  public HouseholdController(HouseholdService householdService, HouseholdEtags etags) {
     this.householdService = householdService;
+    this.etags = etags;
   }
 
   @PreAuthorize("isAuthenticated()")
@@ -47,11 +51,14 @@ public class HouseholdController {
 
   /**
    * Returns the authenticated user's household details: id, name, joinCode, members.
+   * Answers 304 when {@code If-None-Match} carries the current ETag.
    */
   @PreAuthorize("isAuthenticated()")
   @GetMapping("/me")
   public ResponseEntity<HouseholdDetailsResponseDto> getMyHousehold(
-      @AuthenticationPrincipal UserDetails userDetails) {
-    return ResponseEntity.ok(householdService.getMyHouseholdDetails(userDetails.getUsername()));
+      @AuthenticationPrincipal AuthenticatedUser principal,
+      WebRequest request) {
+    return etags.respond(request, principal.getHouseholdId(), "household",
+        () -> householdService.getMyHouseholdDetails(principal.getUsername()));
   }
 }
@@ -0,0 +1,53 @@
+package com.roomies.controller;
+
+import com.roomies.service.HouseholdVersionService;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET for household-scoped lists.
+ *
+ * <p>The strong ETag is derived from the household's change version, which every task,
+ * shopping item and member change bumps, so a matching {@code If-None-Match} is answered
+ * with {@code 304 Not Modified} after a single primary-key read, without loading or
+ * serializing the body.
+ */
+@Component
+class HouseholdEtags {
+
+  /** Clients may store the response but must revalidate it before every use. */
+  static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private final HouseholdVersionService versionService;
+
+  HouseholdEtags(HouseholdVersionService versionService) {
+    this.versionService = versionService;
+  }
+
+  /** Strong ETag of the given representation of the household at its current version. */
+  String etag(Long householdId, String representation) {
+    return "\"" + representation + "-" + householdId + "-" + versionService.currentVersion(householdId) + "\"";
+  }
+
+  /**
+   * Answers 304 if the client's copy is current, otherwise 200 with the supplied body.
+   * The version is read before the body, so a concurrent change can only make the
+   * returned ETag older than the body, which costs the client one extra full response.
+   */
+  <T> ResponseEntity<T> respond(WebRequest request, Long householdId, String representation,
+      Supplier<T> body) {
+    if (householdId == null) {
+      // Let the service report the missing household
+      return ResponseEntity.ok(body.get());
+    }
+    // checkNotModified also writes the ETag header, for both outcomes
+    if (request.checkNotModified(etag(householdId, representation))) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+    }
+    return ResponseEntity.ok().cacheControl(REVALIDATE).body(body.get());
+  }
+}
@@ -3,14 +3,15 @@ package com.roomies.controller;
 import com.roomies.dto.shoppingitem.ShoppingItemIdListRequestDto;
 import com.roomies.dto.shoppingitem.ShoppingItemRequestDto;
 import com.roomies.dto.shoppingitem.ShoppingItemResponseDto;
+import com.roomies.security.AuthenticatedUser;
 import com.roomies.service.ShoppingItemService;
 import jakarta.validation.Valid;
 import java.util.Map;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,39 +20,44 @@ import java.util.List;
 public class ShoppingItemController {
 
   private final ShoppingItemService shoppingItemService;
+  private final HouseholdEtags etags;
   private static final String MESSAGE_KEY = "message";
 
-  public ShoppingItemController(ShoppingItemService shoppingItemService) {
+  public ShoppingItemController(ShoppingItemService shoppingItemService, HouseholdEtags etags) {
     this.shoppingItemService = shoppingItemService;
+    this.etags = etags;
   }
 
   /**
    * Creates a new shopping item.
    *
    * @param dto         the request DTO containing item details
-   * @param userDetails the authenticated user's details
+   * @param principal   the authenticated user
    * @return a response entity with a success message
    */
   @PreAuthorize("isAuthenticated()")
   @PostMapping
   public ResponseEntity<Map<String, String>> createItem(
       @Valid @RequestBody ShoppingItemRequestDto dto,
-      @AuthenticationPrincipal UserDetails userDetails) {
-    shoppingItemService.createItem(dto, userDetails.getUsername());
+      @AuthenticationPrincipal AuthenticatedUser principal) {
+    shoppingItemService.createItem(dto, principal.getUsername());
     return ResponseEntity.ok(Map.of(MESSAGE_KEY,"Shopping item created successfully"));
   }
 
   /**
    * Retrieves all shopping items for the authenticated user's household.
    *
-   * @param userDetails the authenticated user's details
-   * @return a response entity containing the list of shopping items
+   * @param principal   the authenticated user
+   * @param request     the current request, checked against {@code If-None-Match}
+   * @return a response entity containing the list of shopping items, or 304 if unchanged
    */
   @PreAuthorize("isAuthenticated()")
   @GetMapping
   public ResponseEntity<List<ShoppingItemResponseDto>> getItems(
-      @AuthenticationPrincipal UserDetails userDetails) {
-    return ResponseEntity.ok(shoppingItemService.getItemsForHousehold(userDetails.getUsername()));
+      @AuthenticationPrincipal AuthenticatedUser principal,
+      WebRequest request) {
+    return etags.respond(request, principal.getHouseholdId(), "items",
+        () -> shoppingItemService.getItemsForHousehold(principal));
   }
 
   /**
@@ -59,7 +65,7 @@ public class ShoppingItemController {
    *
    * @param id          the ID of the shopping item to update
    * @param dto         the request DTO containing updated item details
-   * @param userDetails the authenticated user's details
+   * @param principal   the authenticated user
    * @return a response entity with a success message
    */
   @PreAuthorize("isAuthenticated()")
@@ -67,8 +73,8 @@ public class ShoppingItemController {
   public ResponseEntity<Map<String, String>> updateItem(
       @PathVariable Long id,
       @Valid @RequestBody ShoppingItemRequestDto dto,
-      @AuthenticationPrincipal UserDetails userDetails) {
-    shoppingItemService.updateItem(id, dto, userDetails.getUsername());
+      @AuthenticationPrincipal AuthenticatedUser principal) {
+    shoppingItemService.updateItem(id, dto, principal);
     return ResponseEntity.ok(Map.of(MESSAGE_KEY, "Shopping item updated successfully"));
   }
 
@@ -76,16 +82,16 @@ public class ShoppingItemController {
    * Marks multiple shopping items as purchased.
    *
    * @param request     the request DTO containing the list of item IDs to mark as purchased
-   * @param userDetails the authenticated user's details
+   * @param principal   the authenticated user
    * @return a response entity with a success message and details of updated items
    */
   @PreAuthorize("isAuthenticated()")
   @PutMapping("/purchased")
   public ResponseEntity<Map<String, Object>> markPurchasedBatch(
       @Valid @RequestBody ShoppingItemIdListRequestDto request,
-      @AuthenticationPrincipal UserDetails userDetails) {
+      @AuthenticationPrincipal AuthenticatedUser principal) {
 
-    List<String> changed = shoppingItemService.markPurchasedBatch(request.getIds(), userDetails.getUsername());
+    List<String> changed = shoppingItemService.markPurchasedBatch(request.getIds(), principal);
     return ResponseEntity.ok(Map.of(
         MESSAGE_KEY, "Items marked purchased",
         "updatedCount", changed.size(),
@@ -97,14 +103,14 @@ public class ShoppingItemController {
    * Deletes a shopping item.
    *
    * @param id          the ID of the shopping item to delete
-   * @param userDetails the authenticated user's details
+   * @param principal   the authenticated user
    * @return a response entity with a success message
    */
   @DeleteMapping("/{id}")
   public ResponseEntity<Map<String, String>> deleteItem(
       @PathVariable Long id,
-      @AuthenticationPrincipal UserDetails userDetails) {
-    shoppingItemService.deleteItem(id, userDetails.getUsername());
+      @AuthenticationPrincipal AuthenticatedUser principal) {
+    shoppingItemService.deleteItem(id, principal);
     return ResponseEntity.ok(Map.of(MESSAGE_KEY, "Shopping item deleted successfully"));
   }
 }
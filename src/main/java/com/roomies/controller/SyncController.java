@@ -0,0 +1,33 @@
+package com.roomies.controller;
+
+import com.roomies.dto.sync.SyncResponseDto;
+import com.roomies.security.AuthenticatedUser;
+import com.roomies.service.SyncService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+  private final SyncService syncService;
+
+  public SyncController(SyncService syncService) {
+    this.syncService = syncService;
+  }
+
+  /**
+   * Returns tasks and shopping items changed since the given version, plus deleted ids.
+   * Omit {@code since} on first load to receive the full household state.
+   */
+  @PreAuthorize("isAuthenticated()")
+  @GetMapping
+  public ResponseEntity<SyncResponseDto> sync(
+      @RequestParam(required = false) Long since,
+      @AuthenticationPrincipal AuthenticatedUser principal
+  ) {
+    return ResponseEntity.ok(syncService.getChangesSince(principal, since));
+  }
+}
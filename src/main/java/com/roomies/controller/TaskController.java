@@ -1,28 +1,40 @@
 package com.roomies.controller;
 
+import com.roomies.dto.task.TaskBulkCompleteRequestDto;
+import com.roomies.dto.task.TaskBulkCreateRequestDto;
+import com.roomies.dto.task.TaskCompletionResultDto;
 import com.roomies.dto.task.TaskCreateRequestDto;
 import com.roomies.dto.task.TaskLogResponseDto;
+import com.roomies.dto.task.TaskLogSliceResponseDto;
 import com.roomies.dto.task.TaskResponseDto;
 import com.roomies.dto.task.TaskUpdateRequestDto;
+import com.roomies.security.AuthenticatedUser;
 import com.roomies.service.TaskService;
+import com.roomies.service.idempotency.IdempotencyStore;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Map;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
   private final TaskService taskService;
+  private final HouseholdEtags etags;
+  private final IdempotencyStore idempotencyStore;
   private static final String MESSAGE_KEY = "message";
+  static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+  static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
 
-  public TaskController(TaskService taskService) {
+  public TaskController(TaskService taskService, HouseholdEtags etags, IdempotencyStore idempotencyStore) {
     this.taskService = taskService;
+    this.etags = etags;
+    this.idempotencyStore = idempotencyStore;
   }
 
   /** Creates a new task in the authenticated user's household. */
@@ -30,19 +42,39 @@ public class TaskController {
   @PostMapping
   public ResponseEntity<Map<String, String>> createTask(
       @Valid @RequestBody TaskCreateRequestDto dto,
-      @AuthenticationPrincipal UserDetails userDetails
+      @AuthenticationPrincipal AuthenticatedUser principal
   ) {
-    taskService.createTask(dto, userDetails.getUsername());
+    taskService.createTask(dto, principal.getUsername());
     return ResponseEntity.ok(Map.of(MESSAGE_KEY, "Task created successfully"));
   }
 
-  /** Retrieves all tasks for the authenticated user's household. */
+  /** Creates several tasks at once, e.g. a household onboarding template. */
+  @PreAuthorize("isAuthenticated()")
+  @PostMapping("/bulk")
+  public ResponseEntity<Map<String, Object>> createTasks(
+      @Valid @RequestBody TaskBulkCreateRequestDto dto,
+      @AuthenticationPrincipal AuthenticatedUser principal
+  ) {
+    List<Long> taskIds = taskService.createTasks(dto.getTasks(), principal);
+    return ResponseEntity.ok(Map.of(
+        MESSAGE_KEY, "Tasks created successfully",
+        "createdCount", taskIds.size(),
+        "taskIds", taskIds
+    ));
+  }
+
+  /**
+   * Retrieves all tasks for the authenticated user's household. Answers 304 when
+   * {@code If-None-Match} carries the current ETag.
+   */
   @PreAuthorize("isAuthenticated()")
   @GetMapping
   public ResponseEntity<List<TaskResponseDto>> getTasks(
-      @AuthenticationPrincipal UserDetails userDetails
+      @AuthenticationPrincipal AuthenticatedUser principal,
+      WebRequest request
   ) {
-    return ResponseEntity.ok(taskService.getTasksForHousehold(userDetails.getUsername()));
+    return etags.respond(request, principal.getHouseholdId(), "tasks",
+        () -> taskService.getTasksForHousehold(principal));
   }
 
   // TaskController.java
@@ -50,9 +82,9 @@ public class TaskController {
   @GetMapping("/{id}")
   public ResponseEntity<TaskResponseDto> getTask(
       @PathVariable Long id,
-      @AuthenticationPrincipal UserDetails userDetails
+      @AuthenticationPrincipal AuthenticatedUser principal
   ) {
-    return ResponseEntity.ok(taskService.getTaskById(id, userDetails.getUsername()));
+    return ResponseEntity.ok(taskService.getTaskById(id, principal));
   }
 
   /** Updates an existing task (must be in the same household). */
@@ -61,21 +93,61 @@ public class TaskController {
   public ResponseEntity<Map<String, String>> updateTask(
       @PathVariable Long id,
       @Valid @RequestBody TaskUpdateRequestDto dto,
-      @AuthenticationPrincipal UserDetails userDetails
+      @AuthenticationPrincipal AuthenticatedUser principal
   ) {
-    taskService.updateTask(id, dto, userDetails.getUsername());
+    taskService.updateTask(id, dto, principal);
     return ResponseEntity.ok(Map.of(MESSAGE_KEY, "Task updated successfully"));
   }
 
-  /** Marks a task as completed by the authenticated user and advances schedule/rotation. */
+  /**
+   * Completes several tasks at once. Answers 200 with one result per task; tasks that could
+   * not be completed are reported in their result rather than failing the request.
+   */
+  @PreAuthorize("isAuthenticated()")
+  @PostMapping("/complete")
+  public ResponseEntity<Map<String, Object>> completeTasks(
+      @Valid @RequestBody TaskBulkCompleteRequestDto dto,
+      @AuthenticationPrincipal AuthenticatedUser principal
+  ) {
+    List<TaskCompletionResultDto> results = taskService.completeTasks(dto.getTaskIds(), principal);
+    long completed = results.stream()
+        .filter(r -> r.getStatus() == TaskCompletionResultDto.Status.COMPLETED)
+        .count();
+    return ResponseEntity.ok(Map.of(
+        MESSAGE_KEY, "Tasks processed",
+        "completedCount", completed,
+        "results", results
+    ));
+  }
+
+  /**
+   * Marks a task as completed by the authenticated user and advances schedule/rotation.
+   * A retry with the same {@code Idempotency-Key} replays the first answer, flagged with
+   * {@code Idempotent-Replayed: true}, instead of completing the task again.
+   */
   @PreAuthorize("isAuthenticated()")
   @PostMapping("/{id}/complete")
   public ResponseEntity<Map<String, String>> completeTask(
       @PathVariable Long id,
-      @AuthenticationPrincipal UserDetails userDetails
+      @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+      @AuthenticationPrincipal AuthenticatedUser principal
   ) {
-    taskService.completeTask(id, userDetails.getUsername());
-    return ResponseEntity.ok(Map.of(MESSAGE_KEY, "Task completed"));
+    if (idempotencyKey == null || idempotencyKey.isBlank()) {
+      taskService.completeTask(id, principal);
+      return ResponseEntity.ok(Map.of(MESSAGE_KEY, "Task completed"));
+    }
+    if (idempotencyKey.length() > IdempotencyStore.MAX_KEY_LENGTH) {
+      throw new IllegalArgumentException(
+          IDEMPOTENCY_KEY + " must be at most " + IdempotencyStore.MAX_KEY_LENGTH + " characters");
+    }
+    String scopedKey = "task-complete:" + principal.getUserId() + ":" + id + ":" + idempotencyKey;
+    IdempotencyStore.Outcome outcome = idempotencyStore.execute(scopedKey, () -> {
+      taskService.completeTask(id, principal);
+      return "Task completed";
+    });
+    return ResponseEntity.ok()
+        .header(IDEMPOTENT_REPLAYED, String.valueOf(outcome.replayed()))
+        .body(Map.of(MESSAGE_KEY, outcome.value()));
   }
 
   /** Deletes a task (must be in the same household). */
@@ -83,9 +155,9 @@ public class TaskController {
   @DeleteMapping("/{id}")
   public ResponseEntity<Map<String, String>> deleteTask(
       @PathVariable Long id,
-      @AuthenticationPrincipal UserDetails userDetails
+      @AuthenticationPrincipal AuthenticatedUser principal
   ) {
-    taskService.deleteTask(id, userDetails.getUsername());
+    taskService.deleteTask(id, principal);
     return ResponseEntity.ok(Map.of(MESSAGE_KEY, "Task deleted successfully"));
   }
 
@@ -93,11 +165,25 @@ public class TaskController {
   @PreAuthorize("isAuthenticated()")
   @GetMapping("/logs")
   public ResponseEntity<List<TaskLogResponseDto>> getTaskLogs(
-      @AuthenticationPrincipal UserDetails userDetails,
+      @AuthenticationPrincipal AuthenticatedUser principal,
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "20") int size
   ) {
-    return ResponseEntity.ok(taskService.getTaskLogs(userDetails.getUsername(), page, size));
+    return ResponseEntity.ok(taskService.getTaskLogs(principal, page, size));
+  }
+
+  /**
+   * Cursor-paginated completion logs, newest first. Pass an empty {@code after} for the
+   * first page, then the {@code nextCursor} of the previous response.
+   */
+  @PreAuthorize("isAuthenticated()")
+  @GetMapping(value = "/logs", params = "after")
+  public ResponseEntity<TaskLogSliceResponseDto> getTaskLogsAfter(
+      @AuthenticationPrincipal AuthenticatedUser principal,
+      @RequestParam String after,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    return ResponseEntity.ok(taskService.getTaskLogsAfter(principal, after, size));
   }
 
 }
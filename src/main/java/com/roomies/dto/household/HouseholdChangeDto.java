@@ -0,0 +1,36 @@
+package com.roomies.dto.household;
+
+import com.roomies.service.event.HouseholdChangeEvent;
+import java.util.List;
+
+/**
+ * One delta in a {@link HouseholdFeedFrameDto}. Clients re-fetch the listed ids
+ * (or drop them on DELETED) instead of polling the full lists.
+ */
+public class HouseholdChangeDto {
+  private String subject;
+  private String action;
+  private List<Long> ids;
+
+  public HouseholdChangeDto() {}
+
+  public HouseholdChangeDto(String subject, String action, List<Long> ids) {
+    this.subject = subject;
+    this.action = action;
+    this.ids = ids;
+  }
+
+  public static HouseholdChangeDto of(HouseholdChangeEvent.Subject subject,
+      HouseholdChangeEvent.Action action, List<Long> ids) {
+    return new HouseholdChangeDto(subject.name(), action.name(), ids);
+  }
+
+  public String getSubject() { return subject; }
+  public void setSubject(String subject) { this.subject = subject; }
+
+  public String getAction() { return action; }
+  public void setAction(String action) { this.action = action; }
+
+  public List<Long> getIds() { return ids; }
+  public void setIds(List<Long> ids) { this.ids = ids; }
+}
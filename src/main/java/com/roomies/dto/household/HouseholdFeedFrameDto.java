@@ -0,0 +1,38 @@
+package com.roomies.dto.household;
+
+import java.util.List;
+
+/**
+ * Frame sent on {@code /topic/household/{id}}: either the changes collected during one
+ * coalescing window ({@code CHANGES}) or {@code RESYNC}, telling a client that fell behind
+ * that frames were dropped and it should re-fetch its lists.
+ */
+public class HouseholdFeedFrameDto {
+
+  public static final String CHANGES = "CHANGES";
+  public static final String RESYNC = "RESYNC";
+
+  private String type;
+  private List<HouseholdChangeDto> changes;
+
+  public HouseholdFeedFrameDto() {}
+
+  public HouseholdFeedFrameDto(String type, List<HouseholdChangeDto> changes) {
+    this.type = type;
+    this.changes = changes;
+  }
+
+  public static HouseholdFeedFrameDto changes(List<HouseholdChangeDto> changes) {
+    return new HouseholdFeedFrameDto(CHANGES, changes);
+  }
+
+  public static HouseholdFeedFrameDto resync() {
+    return new HouseholdFeedFrameDto(RESYNC, List.of());
+  }
+
+  public String getType() { return type; }
+  public void setType(String type) { this.type = type; }
+
+  public List<HouseholdChangeDto> getChanges() { return changes; }
+  public void setChanges(List<HouseholdChangeDto> changes) { this.changes = changes; }
+}
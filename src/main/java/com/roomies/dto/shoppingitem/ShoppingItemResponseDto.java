@@ -1,6 +1,5 @@
 package com.roomies.dto.shoppingitem;
 
-import com.roomies.entity.ShoppingItem;
 import java.time.LocalDateTime;
 
 public class ShoppingItemResponseDto {
@@ -18,17 +17,17 @@ public class ShoppingItemResponseDto {
     // Default constructor
   }
 
-  public static ShoppingItemResponseDto fromEntity(ShoppingItem item) {
-    ShoppingItemResponseDto dto = new ShoppingItemResponseDto();
-    dto.setItemId(item.getItemId());
-    dto.setName(item.getName());
-    dto.setQuantity(item.getQuantity());
-    dto.setPurchased(item.isPurchased());
-    dto.setAddedBy(item.getAddedBy().getDisplayName());
-    dto.setPurchasedBy(item.getPurchasedBy() != null ? item.getPurchasedBy().getDisplayName() : null);
-    dto.setAddedAt(item.getAddedAt());
-    dto.setPurchasedAt(item.getPurchasedAt());
-    return dto;
+  /** Used by the constructor expressions in ShoppingItemRepository. */
+  public ShoppingItemResponseDto(Long itemId, String name, String quantity, boolean purchased,
+      String addedBy, String purchasedBy, LocalDateTime addedAt, LocalDateTime purchasedAt) {
+    this.itemId = itemId;
+    this.name = name;
+    this.quantity = quantity;
+    this.purchased = purchased;
+    this.addedBy = addedBy;
+    this.purchasedBy = purchasedBy;
+    this.addedAt = addedAt;
+    this.purchasedAt = purchasedAt;
   }
 
   public Long getItemId() {
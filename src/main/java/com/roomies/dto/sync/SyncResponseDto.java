@@ -0,0 +1,51 @@
+package com.roomies.dto.sync;
+
+import com.roomies.dto.shoppingitem.ShoppingItemResponseDto;
+import com.roomies.dto.task.TaskResponseDto;
+import java.util.List;
+
+/**
+ * Household changes since a client's last sync. Upserted rows replace the client's copies,
+ * deleted ids are removed; {@code version} is passed as {@code since} on the next call.
+ * When {@code full} is true the lists are the complete household state and the client
+ * should drop anything not in them.
+ */
+public class SyncResponseDto {
+  private long version;
+  private boolean full;
+  private List<TaskResponseDto> tasks;
+  private List<ShoppingItemResponseDto> shoppingItems;
+  private List<Long> deletedTaskIds;
+  private List<Long> deletedShoppingItemIds;
+
+  public SyncResponseDto() {}
+
+  public SyncResponseDto(long version, boolean full,
+      List<TaskResponseDto> tasks, List<ShoppingItemResponseDto> shoppingItems,
+      List<Long> deletedTaskIds, List<Long> deletedShoppingItemIds) {
+    this.version = version;
+    this.full = full;
+    this.tasks = tasks;
+    this.shoppingItems = shoppingItems;
+    this.deletedTaskIds = deletedTaskIds;
+    this.deletedShoppingItemIds = deletedShoppingItemIds;
+  }
+
+  public long getVersion() { return version; }
+  public void setVersion(long version) { this.version = version; }
+
+  public boolean isFull() { return full; }
+  public void setFull(boolean full) { this.full = full; }
+
+  public List<TaskResponseDto> getTasks() { return tasks; }
+  public void setTasks(List<TaskResponseDto> tasks) { this.tasks = tasks; }
+
+  public List<ShoppingItemResponseDto> getShoppingItems() { return shoppingItems; }
+  public void setShoppingItems(List<ShoppingItemResponseDto> shoppingItems) { this.shoppingItems = shoppingItems; }
+
+  public List<Long> getDeletedTaskIds() { return deletedTaskIds; }
+  public void setDeletedTaskIds(List<Long> deletedTaskIds) { this.deletedTaskIds = deletedTaskIds; }
+
+  public List<Long> getDeletedShoppingItemIds() { return deletedShoppingItemIds; }
+  public void setDeletedShoppingItemIds(List<Long> ids) { this.deletedShoppingItemIds = ids; }
+}
@@ -0,0 +1,16 @@
+package com.roomies.dto.task;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class TaskBulkCompleteRequestDto {
+
+  @NotEmpty(message = "At least one task is required")
+  @Size(max = 100, message = "At most 100 tasks per request")
+  private List<@NotNull Long> taskIds;
+
+  public List<Long> getTaskIds() { return taskIds; }
+  public void setTaskIds(List<Long> taskIds) { this.taskIds = taskIds; }
+}
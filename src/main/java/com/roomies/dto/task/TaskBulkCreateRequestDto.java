@@ -0,0 +1,16 @@
+package com.roomies.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class TaskBulkCreateRequestDto {
+
+  @NotEmpty(message = "At least one task is required")
+  @Size(max = 100, message = "At most 100 tasks per request")
+  private List<@Valid TaskCreateRequestDto> tasks;
+
+  public List<TaskCreateRequestDto> getTasks() { return tasks; }
+  public void setTasks(List<TaskCreateRequestDto> tasks) { this.tasks = tasks; }
+}
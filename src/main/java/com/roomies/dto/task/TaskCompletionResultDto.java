@@ -0,0 +1,31 @@
+package com.roomies.dto.task;
+
+/**
+ * Outcome for one task of a bulk completion. Only {@code COMPLETED} tasks were logged and
+ * advanced; the others carry the reason in {@code message}.
+ */
+public class TaskCompletionResultDto {
+
+  public enum Status { COMPLETED, NOT_FOUND, REJECTED }
+
+  private Long taskId;
+  private Status status;
+  private String message;
+
+  public TaskCompletionResultDto() {}
+
+  public TaskCompletionResultDto(Long taskId, Status status, String message) {
+    this.taskId = taskId;
+    this.status = status;
+    this.message = message;
+  }
+
+  public Long getTaskId() { return taskId; }
+  public void setTaskId(Long taskId) { this.taskId = taskId; }
+
+  public Status getStatus() { return status; }
+  public void setStatus(Status status) { this.status = status; }
+
+  public String getMessage() { return message; }
+  public void setMessage(String message) { this.message = message; }
+}
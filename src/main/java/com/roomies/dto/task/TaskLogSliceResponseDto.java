@@ -0,0 +1,27 @@
+package com.roomies.dto.task;
+
+import java.util.List;
+
+/** One page of completion logs plus the cursor for the next one (no total count). */
+public class TaskLogSliceResponseDto {
+  private List<TaskLogResponseDto> items;
+  private String nextCursor;
+  private boolean hasNext;
+
+  public TaskLogSliceResponseDto() {}
+
+  public TaskLogSliceResponseDto(List<TaskLogResponseDto> items, String nextCursor, boolean hasNext) {
+    this.items = items;
+    this.nextCursor = nextCursor;
+    this.hasNext = hasNext;
+  }
+
+  public List<TaskLogResponseDto> getItems() { return items; }
+  public void setItems(List<TaskLogResponseDto> items) { this.items = items; }
+
+  public String getNextCursor() { return nextCursor; }
+  public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+  public boolean isHasNext() { return hasNext; }
+  public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+}
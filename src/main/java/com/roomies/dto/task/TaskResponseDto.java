@@ -18,6 +18,7 @@ public class TaskResponseDto {
 
   private LocalDate startDate;
   private LocalDateTime nextDue;
+  private int missedCount;
 
   private List<TaskResponsibleDto> responsibles;
 
@@ -81,6 +82,14 @@ public class TaskResponseDto {
     this.nextDue = nextDue;
   }
 
+  public int getMissedCount() {
+    return missedCount;
+  }
+
+  public void setMissedCount(int missedCount) {
+    this.missedCount = missedCount;
+  }
+
   public List<TaskResponsibleDto> getResponsibles() {
     return responsibles;
   }
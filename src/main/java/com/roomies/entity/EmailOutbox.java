@@ -0,0 +1,70 @@
+package com.roomies.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * An e-mail waiting to be delivered. Written in the same transaction as the change that
+ * triggers it and sent later by {@code EmailOutboxDispatcher}.
+ */
+@Entity
+@Table(name = "email_outbox",
+    indexes = @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class EmailOutbox {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "outbox_id", updatable = false, nullable = false)
+  private Long outboxId;
+
+  @Column(nullable = false)
+  private String recipient;
+
+  @Column(nullable = false)
+  private String subject;
+
+  @Lob
+  @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+  private String html;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 10)
+  private OutboxStatus status = OutboxStatus.PENDING;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private Instant nextAttemptAt;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(name = "sent_at")
+  private Instant sentAt;
+
+  @Column(name = "last_error", length = 1000)
+  private String lastError;
+
+  public EmailOutbox() {}
+  public EmailOutbox(String recipient, String subject, String html, Instant now) {
+    this.recipient = recipient;
+    this.subject = subject;
+    this.html = html;
+    this.createdAt = now;
+    this.nextAttemptAt = now;
+  }
+
+  /* getters */
+
+  public Long getOutboxId()          { return outboxId; }
+  public String getRecipient()       { return recipient; }
+  public String getSubject()         { return subject; }
+  public String getHtml()            { return html; }
+  public OutboxStatus getStatus()    { return status; }
+  public int getAttempts()           { return attempts; }
+  public Instant getNextAttemptAt()  { return nextAttemptAt; }
+  public Instant getCreatedAt()      { return createdAt; }
+  public Instant getSentAt()         { return sentAt; }
+  public String getLastError()       { return lastError; }
+}
@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 public class Household {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @PooledId("households")
   @Column(name = "household_id", nullable = false, updatable = false)
   private Long householdId;
 
@@ -39,10 +39,19 @@ public class Household {
       updatable = false)
   private LocalDateTime createdAt;
 
+  /** Optimistic lock; a stale edit fails with 409 instead of overwriting. */
+  @Version
+  @Column(nullable = false)
+  private long version;
+
   public Household() {
     // Default constructor
   }
 
+  public long getVersion() {
+    return version;
+  }
+
   public Long getHouseholdId() {
     return householdId;
   }
@@ -0,0 +1,7 @@
+package com.roomies.entity;
+
+public enum OutboxStatus {
+  PENDING,
+  SENT,
+  DEAD
+}
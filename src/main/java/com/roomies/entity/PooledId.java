@@ -0,0 +1,20 @@
+package com.roomies.entity;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates the annotated id from the {@code id_sequences} row named {@link #value()}, reserving
+ * blocks of ids per round trip so Hibernate can batch inserts. See {@link PooledIdGenerator}.
+ */
+@IdGeneratorType(PooledIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledId {
+
+  /** Sequence row in {@code id_sequences}; by convention the entity's table name. */
+  String value();
+}
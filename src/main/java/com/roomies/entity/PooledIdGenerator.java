@@ -0,0 +1,61 @@
+package com.roomies.entity;
+
+import java.util.Properties;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Table-backed id generator for {@link PooledId}. MySQL has no sequences, so each entity has a
+ * row in {@code id_sequences}; one select-and-update of that row reserves
+ * {@value #ALLOCATION_SIZE_SETTING} ids, which the pooled-lo optimizer then hands out in memory.
+ *
+ * <p>The stored value is always the first unreserved id, so the allocation size can change
+ * between deployments, and code outside Hibernate can reserve ids through
+ * {@code IdSequences} without knowing it.
+ *
+ * <p>Every insert into these tables must take its id from {@code id_sequences}, including
+ * scripts and manual fixes. V13 dropped AUTO_INCREMENT from the id columns, so an insert
+ * without an id is rejected; an id MySQL assigned (the current maximum plus one) could fall
+ * inside a block a running instance holds in memory. For the same reason, instances that
+ * still use IDENTITY must all be stopped before one running this generator starts.
+ */
+public class PooledIdGenerator extends TableGenerator {
+
+  /** Hibernate setting holding the allocation size; fed from {@code roomies.ids.allocation-size}. */
+  public static final String ALLOCATION_SIZE_SETTING = "roomies.ids.allocation_size";
+  public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+  public static final String TABLE = "id_sequences";
+  public static final String SEGMENT_COLUMN = "sequence_name";
+  public static final String VALUE_COLUMN = "next_val";
+
+  private final String segment;
+
+  public PooledIdGenerator(PooledId config) {
+    this.segment = config.value();
+  }
+
+  @Override
+  public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+    int allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+        .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+    if (allocationSize < 1) {
+      throw new MappingException(ALLOCATION_SIZE_SETTING + " must be positive: " + allocationSize);
+    }
+
+    params.setProperty(TABLE_PARAM, TABLE);
+    params.setProperty(SEGMENT_COLUMN_PARAM, SEGMENT_COLUMN);
+    params.setProperty(VALUE_COLUMN_PARAM, VALUE_COLUMN);
+    params.setProperty(SEGMENT_VALUE_PARAM, segment);
+    params.setProperty(INITIAL_PARAM, "1");
+    params.setProperty(INCREMENT_PARAM, Integer.toString(allocationSize));
+    params.setProperty(OptimizableGenerator.OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+    super.configure(type, params, serviceRegistry);
+  }
+}
@@ -7,29 +7,30 @@ import java.time.LocalDateTime;
  * The ShoppingItem entity represents an item in a collective's shopping list.
  */
 @Entity
-@Table(name = "shopping_items")
+@Table(name = "shopping_items",
+    indexes = @Index(name = "idx_shop_household_version", columnList = "household_id, change_version"))
 public class ShoppingItem {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @PooledId("shopping_items")
   @Column(name = "item_id", nullable = false, updatable = false)
   private Long itemId;
 
-  @ManyToOne(optional = false)
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
   @JoinColumn(
       name = "household_id",
       foreignKey = @ForeignKey(name = "fk_shop_household")
   )
   private Household household;
 
-  @ManyToOne(optional = false)
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
   @JoinColumn(
       name = "added_by",
       foreignKey = @ForeignKey(name = "fk_shop_added_by")
   )
   private User addedBy;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(
       name = "purchased_by",
       foreignKey = @ForeignKey(name = "fk_shop_purchased_by")
@@ -54,10 +55,21 @@ public class ShoppingItem {
   @Column(name = "purchased_at")
   private LocalDateTime purchasedAt;
 
+  /** Household change version of the last committed change; written by HouseholdVersionService. */
+  @Column(name = "change_version", nullable = false, insertable = false, updatable = false)
+  private long changeVersion;
+
+  /** Optimistic lock; a stale edit fails with 409 instead of overwriting. */
+  @Version
+  @Column(nullable = false)
+  private long version;
+
   public ShoppingItem() {
     // Default constructor
   }
 
+  public long getVersion()                 { return version; }
+
   public Long getItemId()                  { return itemId; }
   public void setItemId(Long itemId)       { this.itemId = itemId; }
 
@@ -84,4 +96,6 @@ public class ShoppingItem {
   public LocalDateTime getPurchasedAt()    { return purchasedAt; }
   public void setPurchasedAt(LocalDateTime t) { this.purchasedAt = t; }
 
+  public long getChangeVersion()           { return changeVersion; }
+
 }
@@ -3,6 +3,8 @@ package com.roomies.entity;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -13,7 +15,9 @@ import java.util.Set;
     name = "tasks",
     indexes = {
         @Index(name = "idx_tasks_next_due", columnList = "next_due"),
-        @Index(name = "idx_tasks_household", columnList = "household_id")
+        @Index(name = "idx_tasks_household", columnList = "household_id"),
+        @Index(name = "idx_tasks_household_next_due", columnList = "household_id, next_due"),
+        @Index(name = "idx_tasks_household_version", columnList = "household_id, change_version")
     }
 )
 public class Task {
@@ -21,11 +25,11 @@ public class Task {
   /* ---------- PK & FK ---------- */
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @PooledId("tasks")
   @Column(name = "task_id", nullable = false, updatable = false)
   private Long taskId;
 
-  @ManyToOne(optional = false)
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
   @JoinColumn(
       name = "household_id",
       foreignKey = @ForeignKey(name = "fk_tasks_household")
@@ -51,6 +55,26 @@ public class Task {
   @Column(name = "next_due", nullable = false)
   private LocalDateTime nextDue;
 
+  /** Occurrences that passed without a completion since the task was last completed. */
+  @Column(name = "missed_count", nullable = false)
+  private int missedCount = 0;
+
+  /**
+   * SINGLE rotations since the responsibles were last reordered; see {@link #inRotationOrder}.
+   * Advancing it is the only write a completion makes to the rotation.
+   */
+  @Column(name = "rotation_offset", nullable = false)
+  private int rotationOffset = 0;
+
+  /** Optimistic lock; the overdue sweeper bumps it too. */
+  @Version
+  @Column(nullable = false)
+  private long version;
+
+  /** Household change version of the last committed change; written by HouseholdVersionService. */
+  @Column(name = "change_version", nullable = false, insertable = false, updatable = false)
+  private long changeVersion;
+
   /* ---------- Audit columns ---------- */
 
   @Column(
@@ -90,6 +114,22 @@ public class Task {
     // JPA requires a no‑arg constructor
   }
 
+  /* ---------- Rotation ---------- */
+
+  /**
+   * Responsibles in effective rotation order, next in line first: the list sorted by stored
+   * position, rotated left by {@code rotationOffset}. Their effective position is the index + 1.
+   */
+  public static <T> List<T> inRotationOrder(List<T> byPosition, int rotationOffset) {
+    int n = byPosition.size();
+    if (n < 2 || rotationOffset % n == 0) return byPosition;
+    int start = Math.floorMod(rotationOffset, n);
+    List<T> rotated = new ArrayList<>(n);
+    rotated.addAll(byPosition.subList(start, n));
+    rotated.addAll(byPosition.subList(0, start));
+    return rotated;
+  }
+
   /* ---------- Getters & setters ---------- */
 
   public Long getTaskId()                      { return taskId; }
@@ -113,6 +153,16 @@ public class Task {
   public LocalDateTime getNextDue()            { return nextDue; }
   public void setNextDue(LocalDateTime d)      { this.nextDue = d; }
 
+  public int getMissedCount()                  { return missedCount; }
+  public void setMissedCount(int n)            { this.missedCount = n; }
+
+  public int getRotationOffset()               { return rotationOffset; }
+  public void setRotationOffset(int n)         { this.rotationOffset = n; }
+
+  public long getVersion()                     { return version; }
+
+  public long getChangeVersion()               { return changeVersion; }
+
   public LocalDateTime getCreatedAt()          { return createdAt; }
   public LocalDateTime getUpdatedAt()          { return updatedAt; }
 
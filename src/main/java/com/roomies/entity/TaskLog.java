@@ -7,21 +7,27 @@ import java.time.Instant;
 @Table(name = "task_logs",
     indexes = {
         @Index(name = "idx_logs_task", columnList = "task_id"),
-        @Index(name = "idx_logs_user", columnList = "completed_by")
+        @Index(name = "idx_logs_user", columnList = "completed_by"),
+        @Index(name = "idx_logs_household_completed",
+            columnList = "household_id, completed_at DESC, log_id DESC")
     })
 public class TaskLog {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @PooledId("task_logs")
   @Column(name = "log_id", updatable = false, nullable = false)
   private Long logId;
 
-  @ManyToOne(optional = false)
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
   @JoinColumn(name = "task_id",
       foreignKey = @ForeignKey(name = "fk_logs_task"))
   private Task task;
 
-  @ManyToOne(optional = false)
+  /** Copy of {@code task.household_id} so household log reads need no join. */
+  @Column(name = "household_id", nullable = false, updatable = false)
+  private Long householdId;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
   @JoinColumn(name = "completed_by",
       foreignKey = @ForeignKey(name = "fk_logs_user"))
   private User completedBy;
@@ -34,6 +40,7 @@ public class TaskLog {
   public TaskLog() {}
   public TaskLog(Task task, User user, Instant completedAt) {
     this.task = task;
+    this.householdId = task.getHousehold().getHouseholdId();
     this.completedBy = user;
     this.completedAt = completedAt;
   }
@@ -45,6 +52,8 @@ public class TaskLog {
   public Task getTask()               { return task; }
   public void setTask(Task t)         { this.task = t; }
 
+  public Long getHouseholdId()        { return householdId; }
+
   public User getCompletedBy()        { return completedBy; }
   public void setCompletedBy(User u)  { this.completedBy = u; }
 
@@ -10,21 +10,21 @@ import jakarta.persistence.*;
 public class TaskResponsible {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @PooledId("task_responsibles")
   @Column(name = "responsible_id", updatable = false, nullable = false)
   private Long responsibleId;
 
-  @ManyToOne(optional = false)
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
   @JoinColumn(name = "task_id",
       foreignKey = @ForeignKey(name = "fk_responsible_task"))
   private Task task;
 
-  @ManyToOne(optional = false)
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
   @JoinColumn(name = "user_id",
       foreignKey = @ForeignKey(name = "fk_responsible_user"))
   private User user;
 
-  /** Rotation order: 1 = next in line when rotation = SINGLE. */
+  /** Turn order; who is next in line also depends on {@link Task#getRotationOffset()}. */
   @Column(nullable = false)
   private int position = 1;
 
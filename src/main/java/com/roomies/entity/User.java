@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 public class User {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @PooledId("users")
   @Column(name = "user_id", nullable = false, updatable = false)
   private Long userId;
 
@@ -24,7 +24,7 @@ public class User {
   @Column(nullable = false, length = 60)
   private String password;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "household_id", referencedColumnName = "household_id", foreignKey = @ForeignKey(name = "fk_users_household"))
   private Household household;
 
@@ -41,6 +41,10 @@ public class User {
   @Column(name = "refresh_token")
   private String refreshToken;
 
+  /** Bumped whenever claims embedded in issued access tokens become stale. */
+  @Column(name = "token_version", nullable = false)
+  private int tokenVersion = 0;
+
   @Column(name = "created_at", columnDefinition = "DATETIME DEFAULT CURRENT_TIMESTAMP")
   private LocalDateTime createdAt;
 
@@ -120,6 +124,14 @@ public class User {
     this.refreshToken = refreshToken;
   }
 
+  public int getTokenVersion() {
+    return tokenVersion;
+  }
+
+  public void setTokenVersion(int tokenVersion) {
+    this.tokenVersion = tokenVersion;
+  }
+
   public LocalDateTime getCreatedAt() {
     return createdAt;
   }
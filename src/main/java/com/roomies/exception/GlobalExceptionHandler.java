@@ -1,9 +1,13 @@
 package com.roomies.exception;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
@@ -129,6 +133,44 @@ public class GlobalExceptionHandler {
         .body(Map.of(ERROR_KEY, "The resource could not be found"));
   }
 
+  /**
+   * Handles optimistic lock failures: the entity changed since it was read.
+   * @param ex the exception thrown when a versioned update matched no row
+   * @return a ResponseEntity with a conflict status and error message
+   */
+  @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+  public ResponseEntity<Map<String, String>> handleOptimisticLock(RuntimeException ex) {
+    log.warn("Concurrent modification : {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(Map.of(ERROR_KEY, "The resource was changed by someone else. Reload and try again."));
+  }
+
+  /**
+   * Handles other concurrency failures, such as a retry racing a request with the same
+   * Idempotency-Key that has not finished yet.
+   * @param ex the exception thrown
+   * @return a ResponseEntity with a conflict status and error message
+   */
+  @ExceptionHandler(ConcurrencyFailureException.class)
+  public ResponseEntity<Map<String, String>> handleConcurrencyFailure(ConcurrencyFailureException ex) {
+    log.warn("Concurrent request : {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(Map.of(ERROR_KEY, "The same request is still being processed. Try again shortly."));
+  }
+
+  /**
+   * Handles writes that contradict rows committed meanwhile, such as a completion referencing
+   * a member whose account was deleted after the member was confirmed.
+   * @param ex the exception thrown
+   * @return a ResponseEntity with a conflict status and error message
+   */
+  @ExceptionHandler(DataIntegrityViolationException.class)
+  public ResponseEntity<Map<String, String>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+    log.warn("Data integrity violation : {}", ex.getMostSpecificCause().getMessage());
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(Map.of(ERROR_KEY, "The request conflicts with a concurrent change. Reload and try again."));
+  }
+
   /**
    * Handles all other exceptions
    * @param ex the exception thrown
@@ -0,0 +1,24 @@
+package com.roomies.repository;
+
+import com.roomies.entity.EmailOutbox;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository for the e-mail outbox.
+ */
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+  /** Pending mails whose next attempt is due, oldest first. */
+  @Query("""
+      select o from EmailOutbox o
+      where o.status = com.roomies.entity.OutboxStatus.PENDING
+        and o.nextAttemptAt <= :now
+      order by o.nextAttemptAt, o.outboxId
+      """)
+  List<EmailOutbox> findDue(@Param("now") Instant now, Limit limit);
+}
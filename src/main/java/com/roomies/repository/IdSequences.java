@@ -0,0 +1,46 @@
+package com.roomies.repository;
+
+import com.roomies.entity.PooledIdGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reserves ids from {@code id_sequences} for rows inserted with plain JDBC, so they never
+ * collide with ids {@link PooledIdGenerator} hands to Hibernate.
+ */
+@Component
+public class IdSequences {
+
+  static final String LOCK_SQL = "SELECT next_val FROM id_sequences WHERE sequence_name = ? FOR UPDATE";
+  static final String ADVANCE_SQL = "UPDATE id_sequences SET next_val = next_val + ? WHERE sequence_name = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public IdSequences(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    // Like Hibernate's own allocation: commit at once rather than hold the row lock for the caller
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Reserves {@code count} consecutive ids of the sequence.
+   *
+   * @return the first reserved id; the block is {@code [first, first + count)}
+   */
+  public long reserve(String sequence, int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("count must be positive: " + count);
+    }
+    // Locking read, so concurrent reservations (and Hibernate's) queue on the row
+    return transactionTemplate.execute(status -> {
+      Long first = jdbcTemplate.queryForObject(LOCK_SQL, Long.class, sequence);
+      jdbcTemplate.update(ADVANCE_SQL, count, sequence);
+      return first;
+    });
+  }
+}
@@ -1,9 +1,13 @@
 package com.roomies.repository;
 
+import com.roomies.dto.shoppingitem.ShoppingItemResponseDto;
 import com.roomies.entity.ShoppingItem;
 import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository for handling shopping item related requests.
@@ -11,19 +15,102 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface ShoppingItemRepository extends JpaRepository<ShoppingItem, Long> {
   
   /**
-   * Finds all shopping items associated with a specific household.
+   * Shopping list of a household as response DTOs, items still to buy first and oldest
+   * first within each group (served by idx_shop_household_purchased_added). The user names
+   * are joined in, so the whole list costs one statement regardless of its length.
    *
    * @param householdId the ID of the household
-   * @return a list of shopping items for the specified household
+   * @return the household's shopping items
    */
-  List<ShoppingItem> findByHousehold_HouseholdId(Long householdId);
+  @Query("""
+      select new com.roomies.dto.shoppingitem.ShoppingItemResponseDto(
+          i.itemId, i.name, i.quantity, i.purchased, a.displayName, p.displayName, i.addedAt, i.purchasedAt)
+      from ShoppingItem i join i.addedBy a left join i.purchasedBy p
+      where i.household.householdId = :householdId
+      order by i.purchased, i.addedAt
+      """)
+  List<ShoppingItemResponseDto> findResponsesByHousehold(@Param("householdId") Long householdId);
 
   /**
-   * Finds shopping items by household ID and a collection of item IDs.
+   * Finds shopping items by household ID and a collection of item IDs for a write recorded
+   * under a member of the household. The member is confirmed in the same statement, so a token
+   * that outlived its account or membership finds nothing and the purchase batch can reference
+   * the member's row without loading it. The lazy user and household associations are not
+   * joined; the purchase batch only writes them.
    *
    * @param householdId the ID of the household
+   * @param userId      the member the write is recorded under
    * @param ids         the collection of item IDs to search for
    * @return a list of shopping items matching the criteria
    */
-  List<ShoppingItem> findByHousehold_HouseholdIdAndItemIdIn(Long householdId, Collection<Long> ids);
+  @Query("""
+      select i from ShoppingItem i
+      where i.household.householdId = :householdId and i.itemId in :ids
+        and exists (select u.userId from User u where u.userId = :userId and u.household.householdId = :householdId)
+      """)
+  List<ShoppingItem> findAllForMember(@Param("householdId") Long householdId, @Param("userId") Long userId,
+      @Param("ids") Collection<Long> ids);
+
+  /**
+   * Items a user put on any household's list, for clearing them before the account goes.
+   *
+   * @param userId the ID of the user
+   * @return the items the user added
+   */
+  List<ShoppingItem> findByAddedBy_UserId(Long userId);
+
+  /**
+   * Items a user bought that someone else added, for clearing the buyer before the account goes.
+   *
+   * @param purchasedBy the ID of the buyer
+   * @param addedBy     the same ID, so the buyer's own items are left to {@link #findByAddedBy_UserId}
+   * @return the items the user bought for others
+   */
+  List<ShoppingItem> findByPurchasedBy_UserIdAndAddedBy_UserIdNot(Long purchasedBy, Long addedBy);
+
+  /**
+   * Renames an item of the household in one statement, bumping its version so a concurrent
+   * versioned write of the same item conflicts.
+   *
+   * @param itemId      the ID of the shopping item
+   * @param householdId the caller's household
+   * @param name        the new name
+   * @param quantity    the new quantity
+   * @return 1 if updated, 0 if there is no such item in the household
+   */
+  @Modifying
+  @Query("""
+      update ShoppingItem i set i.name = :name, i.quantity = :quantity, i.version = i.version + 1
+      where i.itemId = :itemId and i.household.householdId = :householdId
+      """)
+  int updateDetails(@Param("itemId") Long itemId, @Param("householdId") Long householdId,
+      @Param("name") String name, @Param("quantity") String quantity);
+
+  /**
+   * Deletes an item of the household in one statement.
+   *
+   * @param itemId      the ID of the shopping item
+   * @param householdId the caller's household
+   * @return 1 if deleted, 0 if there is no such item in the household
+   */
+  @Modifying
+  @Query("delete from ShoppingItem i where i.itemId = :itemId and i.household.householdId = :householdId")
+  int deleteByItemIdAndHouseholdId(@Param("itemId") Long itemId, @Param("householdId") Long householdId);
+
+  /**
+   * Response DTOs of the household's shopping items changed after the given change version
+   * (served by idx_shop_household_version), in one statement like {@link #findResponsesByHousehold}.
+   *
+   * @param householdId the ID of the household
+   * @param since       the last change version the client has seen
+   * @return the items changed since then
+   */
+  @Query("""
+      select new com.roomies.dto.shoppingitem.ShoppingItemResponseDto(
+          i.itemId, i.name, i.quantity, i.purchased, a.displayName, p.displayName, i.addedAt, i.purchasedAt)
+      from ShoppingItem i join i.addedBy a left join i.purchasedBy p
+      where i.household.householdId = :householdId and i.changeVersion > :since
+      """)
+  List<ShoppingItemResponseDto> findResponsesChangedSince(@Param("householdId") Long householdId,
+      @Param("since") long since);
 }
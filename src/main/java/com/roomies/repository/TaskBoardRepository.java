@@ -0,0 +1,19 @@
+package com.roomies.repository;
+
+import com.roomies.dto.task.TaskResponseDto;
+import java.util.List;
+
+/**
+ * Read model for the task board, implemented with plain SQL in {@link TaskBoardRepositoryImpl}.
+ */
+public interface TaskBoardRepository {
+
+  /**
+   * All tasks of a household with their responsibles, ordered by next due date, built
+   * straight from one joined result set without loading entities.
+   *
+   * @param householdId the ID of the household
+   * @return the household's tasks, responsibles in position order
+   */
+  List<TaskResponseDto> findBoardByHousehold(Long householdId);
+}
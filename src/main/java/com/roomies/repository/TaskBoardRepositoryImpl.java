@@ -0,0 +1,79 @@
+package com.roomies.repository;
+
+import com.roomies.dto.task.TaskResponseDto;
+import com.roomies.dto.task.TaskResponsibleDto;
+import com.roomies.entity.Frequency;
+import com.roomies.entity.Rotation;
+import com.roomies.entity.Task;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Streams the task board query into DTOs. Rows arrive grouped by task (ordered by
+ * {@code next_due, task_id}), so each task is finished when the next one starts and only
+ * the DTOs themselves are kept in memory. Responsibles are then put in effective rotation
+ * order, as {@code TaskMapper.toDto} does for entities.
+ */
+public class TaskBoardRepositoryImpl implements TaskBoardRepository {
+
+  /** Served by idx_tasks_household_next_due and idx_responsibles_task_position. */
+  static final String BOARD_SQL = """
+      SELECT t.task_id, t.household_id, t.description, t.frequency, t.rotation,
+             t.start_date, t.next_due, t.missed_count, t.rotation_offset,
+             r.user_id, r.position, u.display_name
+        FROM tasks t
+        LEFT JOIN task_responsibles r ON r.task_id = t.task_id
+        LEFT JOIN users u ON u.user_id = r.user_id
+       WHERE t.household_id = ?
+       ORDER BY t.next_due, t.task_id, r.position
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public TaskBoardRepositoryImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public List<TaskResponseDto> findBoardByHousehold(Long householdId) {
+    List<TaskResponseDto> board = new ArrayList<>();
+    List<Integer> offsets = new ArrayList<>();
+    jdbcTemplate.query(BOARD_SQL, rs -> {
+      long taskId = rs.getLong("task_id");
+      TaskResponseDto task = board.isEmpty() ? null : board.get(board.size() - 1);
+      if (task == null || task.getTaskId() != taskId) {
+        task = new TaskResponseDto();
+        task.setTaskId(taskId);
+        task.setHouseholdId(rs.getLong("household_id"));
+        task.setDescription(rs.getString("description"));
+        task.setFrequency(Frequency.valueOf(rs.getString("frequency")));
+        task.setRotation(Rotation.valueOf(rs.getString("rotation")));
+        task.setStartDate(rs.getObject("start_date", LocalDate.class));
+        task.setNextDue(rs.getObject("next_due", LocalDateTime.class));
+        task.setMissedCount(rs.getInt("missed_count"));
+        task.setResponsibles(new ArrayList<>());
+        board.add(task);
+        offsets.add(rs.getInt("rotation_offset"));
+      }
+
+      long userId = rs.getLong("user_id");
+      if (!rs.wasNull()) {
+        TaskResponsibleDto responsible = new TaskResponsibleDto();
+        responsible.setUserId(userId);
+        responsible.setFullName(rs.getString("display_name"));
+        task.getResponsibles().add(responsible);
+      }
+    }, householdId);
+
+    for (int i = 0; i < board.size(); i++) {
+      TaskResponseDto task = board.get(i);
+      List<TaskResponsibleDto> rotated = Task.inRotationOrder(task.getResponsibles(), offsets.get(i));
+      for (int p = 0; p < rotated.size(); p++) rotated.get(p).setPosition(p + 1);
+      task.setResponsibles(rotated);
+    }
+    return board;
+  }
+}
@@ -0,0 +1,20 @@
+package com.roomies.repository;
+
+import com.roomies.repository.projection.NewTaskRow;
+import java.util.List;
+
+/**
+ * Bulk task inserts, implemented with JDBC batches in {@link TaskBulkInsertRepositoryImpl}.
+ */
+public interface TaskBulkInsertRepository {
+
+  /**
+   * Inserts the tasks and their responsibles with one batch per table. Callers validate
+   * the responsibles first; nothing enters the persistence context.
+   *
+   * @param householdId the household owning the tasks
+   * @param tasks       the tasks to insert
+   * @return the generated task IDs, in input order
+   */
+  List<Long> insertAll(Long householdId, List<NewTaskRow> tasks);
+}
@@ -0,0 +1,60 @@
+package com.roomies.repository;
+
+import com.roomies.repository.projection.NewTaskRow;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Reserves ids for all tasks and responsibles up front from {@link IdSequences}, then inserts
+ * each table with one JDBC batch. Skips the persistence context entirely, so nothing is
+ * loaded to validate or flush. Public so the benchmarks can drive it directly.
+ */
+public class TaskBulkInsertRepositoryImpl implements TaskBulkInsertRepository {
+
+  static final String INSERT_TASK_SQL = """
+      INSERT INTO tasks (task_id, household_id, description, frequency, rotation, start_date, next_due)
+      VALUES (?, ?, ?, ?, ?, ?, ?)
+      """;
+  static final String INSERT_RESPONSIBLE_SQL =
+      "INSERT INTO task_responsibles (responsible_id, task_id, user_id, position) VALUES (?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final IdSequences idSequences;
+
+  public TaskBulkInsertRepositoryImpl(JdbcTemplate jdbcTemplate, IdSequences idSequences) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.idSequences = idSequences;
+  }
+
+  @Override
+  public List<Long> insertAll(Long householdId, List<NewTaskRow> tasks) {
+    if (tasks.isEmpty()) return List.of();
+
+    long firstTaskId = idSequences.reserve("tasks", tasks.size());
+    List<Long> taskIds = new ArrayList<>(tasks.size());
+    List<Object[]> taskArgs = new ArrayList<>(tasks.size());
+    List<Object[]> responsibleArgs = new ArrayList<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      NewTaskRow t = tasks.get(i);
+      long taskId = firstTaskId + i;
+      taskIds.add(taskId);
+      taskArgs.add(new Object[] {taskId, householdId, t.description(), t.frequency().name(),
+          t.rotation().name(), t.startDate(), t.nextDue()});
+      int position = 1;
+      for (Long userId : t.responsibleUserIds()) {
+        responsibleArgs.add(new Object[] {null, taskId, userId, position++});
+      }
+    }
+
+    jdbcTemplate.batchUpdate(INSERT_TASK_SQL, taskArgs);
+    if (!responsibleArgs.isEmpty()) {
+      long firstResponsibleId = idSequences.reserve("task_responsibles", responsibleArgs.size());
+      for (int i = 0; i < responsibleArgs.size(); i++) {
+        responsibleArgs.get(i)[0] = firstResponsibleId + i;
+      }
+      jdbcTemplate.batchUpdate(INSERT_RESPONSIBLE_SQL, responsibleArgs);
+    }
+    return taskIds;
+  }
+}
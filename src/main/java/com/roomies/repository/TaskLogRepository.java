@@ -1,11 +1,15 @@
 package com.roomies.repository;
 
 import com.roomies.entity.TaskLog;
+import java.time.Instant;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository for handling task log related requests.
@@ -13,5 +17,31 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface TaskLogRepository extends JpaRepository<TaskLog, Long>{
 
   @EntityGraph(attributePaths = {"completedBy", "task"})
-  Page<TaskLog> findByTask_Household_HouseholdId(Long householdId, Pageable pageable);
+  Page<TaskLog> findByHouseholdId(Long householdId, Pageable pageable);
+
+  /** Newest logs of a household, newest first; first page of the seek pagination. */
+  @EntityGraph(attributePaths = {"completedBy", "task"})
+  @Query("""
+      select l from TaskLog l
+      where l.householdId = :householdId
+      order by l.completedAt desc, l.logId desc
+      """)
+  List<TaskLog> findLatestByHousehold(@Param("householdId") Long householdId, Limit limit);
+
+  /**
+   * Logs strictly older than the given {@code (completedAt, logId)} seek key, newest first.
+   * The redundant {@code <=} bound gives the planner a range on the index.
+   */
+  @EntityGraph(attributePaths = {"completedBy", "task"})
+  @Query("""
+      select l from TaskLog l
+      where l.householdId = :householdId
+        and l.completedAt <= :completedAt
+        and (l.completedAt < :completedAt or l.logId < :logId)
+      order by l.completedAt desc, l.logId desc
+      """)
+  List<TaskLog> findByHouseholdBefore(@Param("householdId") Long householdId,
+      @Param("completedAt") Instant completedAt,
+      @Param("logId") Long logId,
+      Limit limit);
 }
@@ -1,17 +1,103 @@
 package com.roomies.repository;
 
 import com.roomies.entity.Task;
+import com.roomies.repository.projection.OverdueTaskRow;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository for handling task related requests.
+ *
+ * <p>{@code household} is lazy and every caller only reads its id, which the proxy holds,
+ * so none of these methods join it.
  */
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskBoardRepository,
+    TaskBulkInsertRepository {
 
+  /** Loads a task only if it belongs to the household, authorizing the caller in the same read. */
   Optional<Task> findByTaskIdAndHousehold_HouseholdId(Long taskId, Long householdId);
+
+  /**
+   * Loads a task of the household for a write recorded under one of its members. The member
+   * is confirmed in the same statement, so a token that outlived its account or membership
+   * finds nothing, and the write can reference the member's row without loading it.
+   */
+  @Query("""
+      select t from Task t
+      where t.taskId = :taskId and t.household.householdId = :householdId
+        and exists (select u.userId from User u where u.userId = :userId and u.household.householdId = :householdId)
+      """)
+  Optional<Task> findForMember(@Param("taskId") Long taskId, @Param("householdId") Long householdId,
+      @Param("userId") Long userId);
+
+  /**
+   * The given tasks of the household, confirming the member like {@link #findForMember}; ids of
+   * other households are simply absent, and so is everything if the member is gone.
+   */
+  @Query("""
+      select t from Task t
+      where t.household.householdId = :householdId and t.taskId in :taskIds
+        and exists (select u.userId from User u where u.userId = :userId and u.household.householdId = :householdId)
+      """)
+  List<Task> findAllForMember(@Param("householdId") Long householdId, @Param("userId") Long userId,
+      @Param("taskIds") Collection<Long> taskIds);
+
+  /**
+   * Loads a task for an edit that may only touch its responsibles: the version is bumped at
+   * commit regardless, so concurrent edits of the task or its responsibles conflict.
+   */
+  @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+  Optional<Task> findForUpdateByTaskIdAndHousehold_HouseholdId(Long taskId, Long householdId);
+
+  /** Several tasks for a responsibles-only edit; like the above, each version is bumped at commit. */
+  @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+  List<Task> findForUpdateByTaskIdIn(Collection<Long> taskIds);
+
+  /**
+   * Deletes a task of the household in one statement; responsibles and logs go with it
+   * through the foreign keys' ON DELETE CASCADE.
+   *
+   * @return 1 if deleted, 0 if there is no such task in the household
+   */
+  @Modifying
+  @Query("delete from Task t where t.taskId = :taskId and t.household.householdId = :householdId")
+  int deleteByTaskIdAndHouseholdId(@Param("taskId") Long taskId, @Param("householdId") Long householdId);
+
   List<Task> findByHousehold_HouseholdId(Long householdId);
-  List<Task> findByHousehold_HouseholdIdOrderByNextDueAsc(Long householdId);
 
+  /** Tasks changed after the given household change version (idx_tasks_household_version). */
+  List<Task> findByHousehold_HouseholdIdAndChangeVersionGreaterThanOrderByNextDueAsc(Long householdId, long since);
+
+  /** First chunk of repeating tasks due before the cutoff, in (next_due, task_id) order. */
+  @Query("""
+      select new com.roomies.repository.projection.OverdueTaskRow(
+          t.taskId, t.household.householdId, t.frequency, t.nextDue, t.missedCount)
+      from Task t
+      where t.nextDue < :cutoff and t.frequency <> com.roomies.entity.Frequency.ONCE
+      order by t.nextDue, t.taskId
+      """)
+  List<OverdueTaskRow> findOverdue(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+  /** Next chunk after the last (next_due, task_id) seen; seeks on idx_tasks_next_due instead of offsetting. */
+  @Query("""
+      select new com.roomies.repository.projection.OverdueTaskRow(
+          t.taskId, t.household.householdId, t.frequency, t.nextDue, t.missedCount)
+      from Task t
+      where t.nextDue < :cutoff and t.frequency <> com.roomies.entity.Frequency.ONCE
+        and (t.nextDue > :lastDue or (t.nextDue = :lastDue and t.taskId > :lastId))
+      order by t.nextDue, t.taskId
+      """)
+  List<OverdueTaskRow> findOverdueAfter(@Param("cutoff") LocalDateTime cutoff,
+      @Param("lastDue") LocalDateTime lastDue,
+      @Param("lastId") Long lastId,
+      Limit limit);
 }
@@ -1,21 +1,37 @@
 package com.roomies.repository;
 
 import com.roomies.entity.TaskResponsible;
-import jakarta.persistence.LockModeType;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository for handling task responsible related requests.
+ *
+ * <p>{@code task} and {@code user} are lazy; methods whose callers read more than the
+ * user's id fetch the user in the same statement.
  */
 public interface TaskResponsibleRepository extends JpaRepository<TaskResponsible, Long>{
   boolean existsByTask_TaskIdAndUser_UserId(Long taskId, Long userId);
   TaskResponsible findByTask_TaskIdAndPosition(Long taskId, int position);
 
-
-  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  /**
+   * Responsibles for reordering; callers only need the user ids, so nothing is joined. Takes
+   * no row locks: writers load the task with {@code TaskRepository.findForUpdateByTaskIdAndHousehold_HouseholdId}.
+   */
   List<TaskResponsible> findAllByTask_TaskIdOrderByPositionAsc(Long taskId);
 
+  /** Responsibles of one task with their users, for rendering; no lock. */
+  @EntityGraph(attributePaths = "user")
+  List<TaskResponsible> findAllWithUserByTask_TaskIdOrderByPositionAsc(Long taskId);
+
+  /** Task ids a user is responsible for; the rows themselves are reloaded per task. */
+  @Query("select r.task.taskId from TaskResponsible r where r.user.userId = :userId")
+  List<Long> findTaskIdsByUserId(@Param("userId") Long userId);
+
+  /** Responsibles of several tasks with their users, for rendering task lists. */
+  @EntityGraph(attributePaths = "user")
   List<TaskResponsible> findAllByTask_TaskIdInOrderByTask_TaskIdAscPositionAsc(List<Long> taskIds);
 }
@@ -1,8 +1,13 @@
 package com.roomies.repository;
 
 import com.roomies.entity.User;
+import com.roomies.repository.projection.UserHouseholdRow;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 /**
@@ -10,7 +15,20 @@ import java.util.Optional;
  */
 public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByEmail(String email);
+
+  /** Like {@link #findByEmail}, with the household loaded for callers that render it. */
+  @EntityGraph(attributePaths = "household")
+  Optional<User> findWithHouseholdByEmail(String email);
+
   boolean existsByEmail(String email);
   List<User> findByHousehold_HouseholdIdOrderByDisplayNameAsc(Long householdId);
   Optional<User> findByConfirmationToken(String token);
+
+  /** Household of each existing user among {@code userIds}; one IN query for validating many at once. */
+  @Query("""
+      select new com.roomies.repository.projection.UserHouseholdRow(u.userId, h.householdId)
+      from User u left join u.household h
+      where u.userId in :userIds
+      """)
+  List<UserHouseholdRow> findHouseholdsOf(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,11 @@
+package com.roomies.repository.projection;
+
+import com.roomies.entity.Frequency;
+import com.roomies.entity.Rotation;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** A task to insert in bulk; responsibles take positions 1..n in list order. */
+public record NewTaskRow(String description, Frequency frequency, Rotation rotation,
+    LocalDate startDate, LocalDateTime nextDue, List<Long> responsibleUserIds) {}
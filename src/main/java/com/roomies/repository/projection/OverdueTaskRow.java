@@ -0,0 +1,8 @@
+package com.roomies.repository.projection;
+
+import com.roomies.entity.Frequency;
+import java.time.LocalDateTime;
+
+/** Minimal task columns read by the overdue sweeper. */
+public record OverdueTaskRow(Long taskId, Long householdId, Frequency frequency, LocalDateTime nextDue,
+    int missedCount) {}
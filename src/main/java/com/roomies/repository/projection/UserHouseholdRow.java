@@ -0,0 +1,4 @@
+package com.roomies.repository.projection;
+
+/** A user's id and household id, without loading the user. */
+public record UserHouseholdRow(Long userId, Long householdId) {}
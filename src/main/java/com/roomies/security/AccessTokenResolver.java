@@ -0,0 +1,48 @@
+package com.roomies.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns an access token into the principal it authenticates. Shared by the HTTP filter
+ * and the STOMP CONNECT handling so both accept exactly the same tokens.
+ */
+@Component
+public class AccessTokenResolver {
+
+  private static final Logger log = LoggerFactory.getLogger(AccessTokenResolver.class);
+
+  private final JwtService jwtService;
+  private final PrincipalCache principalCache;
+
+  public AccessTokenResolver(JwtService jwtService, PrincipalCache principalCache) {
+    this.jwtService = jwtService;
+    this.principalCache = principalCache;
+  }
+
+  /**
+   * Parses the token exactly once. Tokens carrying identity claims are trusted as-is
+   * (no lookup) unless the user's claims changed since issue; subject-only tokens go
+   * through the principal cache.
+   *
+   * @return the principal, or null if the token is invalid, expired or outdated
+   */
+  public AuthenticatedUser resolve(String token) {
+    try {
+      Claims claims = jwtService.parseAccessToken(token);
+
+      AuthenticatedUser fromClaims = jwtService.toPrincipal(claims);
+      if (fromClaims != null) {
+        return principalCache.isCurrent(fromClaims) ? fromClaims : null;
+      }
+      return principalCache.get(claims.getSubject());
+    } catch (JwtException | UsernameNotFoundException ex) {
+      log.debug("Rejected access token: {}", ex.getMessage());
+      return null;
+    }
+  }
+}
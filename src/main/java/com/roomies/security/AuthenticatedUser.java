@@ -0,0 +1,71 @@
+package com.roomies.security;
+
+import com.roomies.entity.Role;
+import com.roomies.entity.User;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Principal stored in the security context for authenticated requests.
+ * Carries the identifiers services need, so they do not have to resolve the user again.
+ */
+public class AuthenticatedUser implements UserDetails {
+
+  private final Long userId;
+  private final String email;
+  private final String password;
+  private final Role role;
+  private final Long householdId;
+  private final int tokenVersion;
+
+  public AuthenticatedUser(Long userId, String email, String password, Role role,
+      Long householdId, int tokenVersion) {
+    this.userId = userId;
+    this.email = email;
+    this.password = password;
+    this.role = role;
+    this.householdId = householdId;
+    this.tokenVersion = tokenVersion;
+  }
+
+  public static AuthenticatedUser fromEntity(User user) {
+    Long householdId = user.getHousehold() != null ? user.getHousehold().getHouseholdId() : null;
+    return new AuthenticatedUser(
+        user.getUserId(),
+        user.getEmail(),
+        user.getPassword(),
+        user.getRole(),
+        householdId,
+        user.getTokenVersion()
+    );
+  }
+
+  /** Copy without the password hash; used for principals kept in memory after login. */
+  public AuthenticatedUser withoutPassword() {
+    return new AuthenticatedUser(userId, email, null, role, householdId, tokenVersion);
+  }
+
+  public Long getUserId()      { return userId; }
+  public String getEmail()     { return email; }
+  public Role getRole()        { return role; }
+  public Long getHouseholdId() { return householdId; }
+  public int getTokenVersion() { return tokenVersion; }
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+  }
+
+  @Override
+  public String getPassword() {
+    return password;
+  }
+
+  @Override
+  public String getUsername() {
+    return email;
+  }
+}
@@ -18,13 +18,20 @@ public class CustomUserDetailsService implements UserDetailsService {
 
   @Override
   public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+    return loadPrincipal(email);
+  }
+
+  /**
+   * Loads the principal for the given e-mail straight from the database.
+   *
+   * @param email the user's e-mail
+   * @return the principal, including the password hash
+   * @throws UsernameNotFoundException if no user has this e-mail
+   */
+  public AuthenticatedUser loadPrincipal(String email) {
     User user = userRepo.findByEmail(email)
         .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-    return org.springframework.security.core.userdetails.User
-        .withUsername(user.getEmail())
-        .password(user.getPassword())
-        .roles(user.getRole().name())
-        .build();
+    return AuthenticatedUser.fromEntity(user);
   }
 }
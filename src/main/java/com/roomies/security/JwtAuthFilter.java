@@ -6,7 +6,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.*;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -16,13 +15,11 @@ import java.io.IOException;
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-  private final JwtService jwtService;
-  private final UserDetailsService userDetailsService;
+  private final AccessTokenResolver tokenResolver;
 
   @Autowired
-  public JwtAuthFilter(JwtService jwtService, UserDetailsService userDetailsService) {
-    this.jwtService = jwtService;
-    this.userDetailsService = userDetailsService;
+  public JwtAuthFilter(AccessTokenResolver tokenResolver) {
+    this.tokenResolver = tokenResolver;
   }
 
   @Override
@@ -36,15 +33,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
       return;
     }
 
-    String token    = authHeader.substring(7);
-    String username = jwtService.extractUsernameFromAccessToken(token);
+    String token = authHeader.substring(7);
 
-    if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-      UserDetails details = userDetailsService.loadUserByUsername(username);
+    if (SecurityContextHolder.getContext().getAuthentication() == null) {
+      AuthenticatedUser principal = tokenResolver.resolve(token);
 
-      if (jwtService.isAccessTokenValid(token, details.getUsername())) {
+      if (principal != null) {
         UsernamePasswordAuthenticationToken authToken =
-            new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities());
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authToken);
       }
@@ -1,6 +1,9 @@
 package com.roomies.security;
 
+import com.roomies.entity.Role;
+import com.roomies.entity.User;
 import io.jsonwebtoken.*;
+import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -17,45 +20,84 @@ public class JwtService {
   private String secretKey;
   @Value("${jwt.refresh.secret}")
   private String refreshSecretKey;
-  private static final long EXPIRATION_MS = 60L * 60 * 1000; // 1 hour
+  /** When enabled, access tokens carry uid/hid/role/ver claims and are authenticated without a lookup. */
+  @Value("${roomies.jwt.stateless-claims:false}")
+  private boolean statelessClaims;
+  static final long EXPIRATION_MS = 60L * 60 * 1000; // 1 hour
   private static final long REFRESH_TOKEN_EXPIRATION = 1000L * 60 * 60 * 24 * 7; // 7 days
 
-  public String generateToken(String username) {
-    return Jwts.builder()
-        .setSubject(username)
-        .setIssuedAt(new Date())
-        .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_MS))
-        .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-        .compact();
-  }
-
-  public boolean isAccessTokenValid(String token, String username) {
-    return username.equals(extractUsernameFromAccessToken(token)) && !isAccessTokenExpired(token);
+  static final String CLAIM_USER_ID = "uid";
+  static final String CLAIM_HOUSEHOLD_ID = "hid";
+  static final String CLAIM_ROLE = "role";
+  static final String CLAIM_VERSION = "ver";
+
+  // Keys and parsers are immutable and thread-safe; build them once instead of per token.
+  private Key signingKey;
+  private Key refreshSigningKey;
+  private JwtParser accessParser;
+  private JwtParser refreshParser;
+
+  @PostConstruct
+  void init() {
+    signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    refreshSigningKey = Keys.hmacShaKeyFor(refreshSecretKey.getBytes(StandardCharsets.UTF_8));
+    accessParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    refreshParser = Jwts.parserBuilder().setSigningKey(refreshSigningKey).build();
   }
 
-  private boolean isAccessTokenExpired(String token) {
-    return extractAccessClaim(token, Claims::getExpiration).before(new Date());
-  }
+  /**
+   * Generates an access token for the given user. The subject is always the e-mail;
+   * identity claims are only added when stateless claims are enabled.
+   */
+  public String generateToken(User user) {
+    JwtBuilder builder = Jwts.builder()
+        .setSubject(user.getEmail())
+        .setIssuedAt(new Date())
+        .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_MS));
 
-  public String extractUsernameFromAccessToken(String token) {
-    return extractAccessClaim(token, Claims::getSubject);
-  }
+    if (statelessClaims) {
+      Long householdId = user.getHousehold() != null ? user.getHousehold().getHouseholdId() : null;
+      builder.claim(CLAIM_USER_ID, user.getUserId())
+          .claim(CLAIM_HOUSEHOLD_ID, householdId)
+          .claim(CLAIM_ROLE, user.getRole().name())
+          .claim(CLAIM_VERSION, user.getTokenVersion());
+    }
 
-  private <T> T extractAccessClaim(String token, Function<Claims, T> resolver) {
-    return resolver.apply(getAccessClaims(token));
+    return builder.signWith(signingKey, SignatureAlgorithm.HS256).compact();
   }
 
-  private Claims getAccessClaims(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(getSigningKey())
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
+  /**
+   * Verifies an access token once and returns its claims. Signature and expiration
+   * are both checked by the parser, so callers need no further validation.
+   *
+   * @param token the access token
+   * @return the verified claims
+   * @throws JwtException if the token is malformed, tampered with or expired
+   */
+  public Claims parseAccessToken(String token) {
+    return accessParser.parseClaimsJws(token).getBody();
   }
 
-  private Key getSigningKey() {
-    byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-    return Keys.hmacShaKeyFor(keyBytes);
+  /**
+   * Builds the principal from verified access-token claims.
+   *
+   * @param claims claims returned by {@link #parseAccessToken(String)}
+   * @return the principal, or null if the token has no identity claims (subject-only format)
+   */
+  public AuthenticatedUser toPrincipal(Claims claims) {
+    Long userId = claims.get(CLAIM_USER_ID, Long.class);
+    if (userId == null) {
+      return null;
+    }
+    Integer version = claims.get(CLAIM_VERSION, Integer.class);
+    return new AuthenticatedUser(
+        userId,
+        claims.getSubject(),
+        null,
+        Role.valueOf(claims.get(CLAIM_ROLE, String.class)),
+        claims.get(CLAIM_HOUSEHOLD_ID, Long.class),
+        version != null ? version : 0
+    );
   }
 
   public String generateRefreshToken(String email) {
@@ -63,7 +105,7 @@ public class JwtService {
         .setSubject(email)
         .setIssuedAt(new Date())
         .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION))
-        .signWith(getRefreshSigningKey(), SignatureAlgorithm.HS256)
+        .signWith(refreshSigningKey, SignatureAlgorithm.HS256)
         .compact();
   }
 
@@ -86,15 +128,6 @@ public class JwtService {
   }
 
   private Claims getRefreshClaims(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(getRefreshSigningKey())
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
-  }
-
-  private Key getRefreshSigningKey() {
-    byte[] keyBytes = refreshSecretKey.getBytes(StandardCharsets.UTF_8);
-    return Keys.hmacShaKeyFor(keyBytes);
+    return refreshParser.parseClaimsJws(token).getBody();
   }
 }
@@ -0,0 +1,105 @@
+package com.roomies.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.roomies.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals keyed by e-mail.
+ * Lets {@link JwtAuthFilter} authenticate a request without a database round trip.
+ * Hit/miss counts are published as the {@code cache.*} metrics tagged {@code cache=principals}.
+ *
+ * <p>Also remembers the latest token version of users whose claims changed recently, so
+ * stateless access tokens issued before the change are rejected. Entries live as long as an
+ * access token does; versions are not shared between instances or kept across restarts.
+ */
+@Component
+public class PrincipalCache {
+
+  private static final Logger log = LoggerFactory.getLogger(PrincipalCache.class);
+
+  private final CustomUserDetailsService userDetailsService;
+  private final Cache<String, AuthenticatedUser> cache;
+  private final Cache<Long, Integer> currentTokenVersions;
+
+  public PrincipalCache(CustomUserDetailsService userDetailsService,
+      MeterRegistry meterRegistry,
+      @Value("${roomies.security.principal-cache.max-size:10000}") long maxSize,
+      @Value("${roomies.security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+    this.userDetailsService = userDetailsService;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+    this.currentTokenVersions = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofMillis(JwtService.EXPIRATION_MS))
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+  }
+
+  /**
+   * Returns the principal for the given e-mail, loading it from the database on a miss.
+   *
+   * @param email the user's e-mail
+   * @return the cached principal (without password hash)
+   * @throws org.springframework.security.core.userdetails.UsernameNotFoundException if no user has this e-mail
+   */
+  public AuthenticatedUser get(String email) {
+    return cache.get(email, key -> userDetailsService.loadPrincipal(key).withoutPassword());
+  }
+
+  /**
+   * Checks that a principal built from token claims is not older than the user's latest change.
+   *
+   * @param principal the principal decoded from an access token
+   * @return false if the user's claims changed after the token was issued
+   */
+  public boolean isCurrent(AuthenticatedUser principal) {
+    Integer current = currentTokenVersions.getIfPresent(principal.getUserId());
+    return current == null || principal.getTokenVersion() >= current;
+  }
+
+  /**
+   * Drops the cached principal for the user and records its token version. Inside a
+   * transaction both happen again after commit, so a concurrent request cannot re-cache
+   * the old state and a rolled-back change never rejects valid tokens.
+   *
+   * @param user the user whose identity, role or household changed
+   */
+  public void invalidate(User user) {
+    String email = user.getEmail();
+    Long userId = user.getUserId();
+    int version = user.getTokenVersion();
+
+    cache.invalidate(email);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache.invalidate(email);
+          recordVersion(userId, version);
+        }
+      });
+    } else {
+      recordVersion(userId, version);
+    }
+    log.debug("Invalidated cached principal for {}", email);
+  }
+
+  private void recordVersion(Long userId, int version) {
+    if (userId != null) {
+      currentTokenVersions.asMap().merge(userId, version, Math::max);
+    }
+  }
+}
@@ -1,18 +1,23 @@
 package com.roomies.security;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.*;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.*;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -20,6 +25,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 public class SecurityConfig {
 
+  private static final String OPERATOR_ROLE = "OPERATOR";
+
   private final JwtAuthFilter jwtFilter;
   private final UserDetailsService userDetailsService;
 
@@ -29,12 +36,48 @@ public class SecurityConfig {
     this.userDetailsService = uds;
   }
 
+  /**
+   * Actuator endpoints, ahead of the API chain. Health is public for load balancers; the rest
+   * (metrics reveal traffic and cache internals) need the operator's HTTP Basic credential,
+   * which is separate from user accounts, so no household role or access token opens them.
+   * Without a configured password hash there is no operator and only health is reachable.
+   */
+  @Bean
+  @Order(1)
+  public SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+      @Value("${roomies.management.operator.username:operator}") String operatorUsername,
+      @Value("${roomies.management.operator.password-hash:}") String operatorPasswordHash) throws Exception {
+    return http
+        .securityMatcher("/actuator/**")
+        .csrf(AbstractHttpConfigurer::disable)
+        .authorizeHttpRequests(auth -> auth
+            .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+            .anyRequest().hasRole(OPERATOR_ROLE)
+        )
+        .httpBasic(Customizer.withDefaults())
+        .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .authenticationManager(operatorAuthManager(operatorUsername, operatorPasswordHash))
+        .build();
+  }
+
+  private AuthenticationManager operatorAuthManager(String username, String passwordHash) {
+    InMemoryUserDetailsManager operators = new InMemoryUserDetailsManager();
+    if (!passwordHash.isBlank()) {
+      operators.createUser(User.withUsername(username).password(passwordHash).roles(OPERATOR_ROLE).build());
+    }
+    DaoAuthenticationProvider provider = new DaoAuthenticationProvider(operators);
+    provider.setPasswordEncoder(passwordEncoder());
+    return new ProviderManager(provider);
+  }
+
   @Bean
   public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
     return http
         .csrf(AbstractHttpConfigurer::disable)
         .authorizeHttpRequests(auth -> auth
             .requestMatchers("/api/auth/**").permitAll()
+            // STOMP sessions authenticate on CONNECT (StompAuthInterceptor), not on the handshake
+            .requestMatchers("/ws/**").permitAll()
             .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
             .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
             .anyRequest().authenticated()
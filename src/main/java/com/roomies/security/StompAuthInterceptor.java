@@ -0,0 +1,78 @@
+package com.roomies.security;
+
+import com.roomies.service.event.HouseholdChangeBroadcaster;
+import java.util.Map;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates STOMP sessions and scopes their subscriptions to the user's household.
+ *
+ * <p>The access token is sent once, in the {@code Authorization: Bearer ...} header of the
+ * CONNECT frame, and resolved like an HTTP request's. The principal becomes the session user
+ * and its household id is kept in the session attributes, so SUBSCRIBE frames are checked
+ * without parsing the token again or touching the database. A household change takes effect
+ * for open sessions when the client reconnects.
+ */
+@Component
+public class StompAuthInterceptor implements ChannelInterceptor {
+
+  static final String HOUSEHOLD_ATTR = "roomies.householdId";
+
+  private static final String BEARER = "Bearer ";
+
+  private final AccessTokenResolver tokenResolver;
+
+  public StompAuthInterceptor(AccessTokenResolver tokenResolver) {
+    this.tokenResolver = tokenResolver;
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (accessor == null || accessor.getCommand() == null) return message;
+
+    switch (accessor.getCommand()) {
+      case CONNECT, STOMP -> authenticate(accessor);
+      case SUBSCRIBE -> checkSubscription(accessor);
+      default -> { }
+    }
+    return message;
+  }
+
+  private void authenticate(StompHeaderAccessor accessor) {
+    String header = accessor.getFirstNativeHeader("Authorization");
+    if (header == null || !header.startsWith(BEARER)) {
+      throw new AccessDeniedException("Missing bearer token");
+    }
+
+    AuthenticatedUser principal = tokenResolver.resolve(header.substring(BEARER.length()));
+    if (principal == null) {
+      throw new AccessDeniedException("Invalid access token");
+    }
+
+    accessor.setUser(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    Map<String, Object> attributes = accessor.getSessionAttributes();
+    if (attributes != null && principal.getHouseholdId() != null) {
+      attributes.put(HOUSEHOLD_ATTR, principal.getHouseholdId());
+    }
+  }
+
+  private void checkSubscription(StompHeaderAccessor accessor) {
+    Map<String, Object> attributes = accessor.getSessionAttributes();
+    Object householdId = attributes == null ? null : attributes.get(HOUSEHOLD_ATTR);
+    String destination = accessor.getDestination();
+
+    if (householdId == null || destination == null
+        || !destination.equals(HouseholdChangeBroadcaster.TOPIC_PREFIX + householdId)) {
+      throw new AccessDeniedException("Cannot subscribe to " + destination);
+    }
+  }
+}
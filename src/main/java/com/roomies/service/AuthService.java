@@ -11,7 +11,6 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.MailSendException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -29,18 +28,18 @@ public class AuthService {
   private final UserRepository userRepo;
   private final PasswordEncoder passwordEncoder;
   private final JwtService jwtService;
-  private final EmailService emailService;
+  private final EmailOutboxService mailOutbox;
   private final AuthenticationManager authManager;
 
   @Autowired
   public AuthService(UserRepository userRepo,
       PasswordEncoder passwordEncoder,
-      JwtService jwtService, EmailService emailService,
+      JwtService jwtService, EmailOutboxService mailOutbox,
       AuthenticationManager authManager) {
     this.userRepo        = userRepo;
     this.passwordEncoder = passwordEncoder;
     this.jwtService      = jwtService;
-    this.emailService    = emailService;
+    this.mailOutbox      = mailOutbox;
     this.authManager     = authManager;
   }
 
@@ -68,12 +67,7 @@ public class AuthService {
     u.setConfirmed(false);
 
     userRepo.save(u);
-    try {
-      emailService.sendVerificationMail(req.getEmail(), token);
-    } catch (MailSendException ex) {
-      log.error("Verification email failed for {}. Token={} (user can tap 'Resend')",
-          req.getEmail(), token, ex);
-    }
+    mailOutbox.enqueueVerificationMail(req.getEmail(), token);
   }
 
   /**
@@ -99,7 +93,7 @@ public class AuthService {
     authManager.authenticate(
         new UsernamePasswordAuthenticationToken(req.getEmail(), req.getPassword()));
 
-    String accessToken = jwtService.generateToken(req.getEmail());
+    String accessToken = jwtService.generateToken(user);
     String refreshToken = jwtService.generateRefreshToken(req.getEmail());
 
     user.setRefreshToken(refreshToken);
@@ -123,7 +117,7 @@ public class AuthService {
     }
 
     log.debug("Refreshing token for {}", email);
-    String newAccessToken = jwtService.generateToken(email);
+    String newAccessToken = jwtService.generateToken(user);
     String newRefreshToken = jwtService.generateRefreshToken(email);
     user.setRefreshToken(newRefreshToken);
     userRepo.save(user);
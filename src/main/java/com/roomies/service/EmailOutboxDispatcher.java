@@ -0,0 +1,196 @@
+package com.roomies.service;
+
+import com.roomies.entity.EmailOutbox;
+import com.roomies.repository.EmailOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background job that delivers queued e-mails from the outbox.
+ *
+ * <p>Due rows are claimed one by one with a guarded update that counts the attempt and pushes
+ * {@code next_attempt_at} out by a lease, so another instance (or the next poll) skips them
+ * while they are in flight, and a crash mid-send only delays the mail until the lease expires.
+ * A row counts as claimed only when its own update reports exactly one row, which a JDBC
+ * batch cannot promise (drivers may answer SUCCESS_NO_INFO).
+ * Claimed mails are sent on a fixed pool, which bounds concurrent SMTP connections. Failed
+ * sends are retried with exponential backoff; after the last attempt the row is marked DEAD.
+ */
+@Service
+public class EmailOutboxDispatcher {
+
+  private static final Logger log = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+  static final String CLAIM_SQL = """
+      UPDATE email_outbox
+         SET attempts = attempts + 1, next_attempt_at = ?
+       WHERE outbox_id = ? AND status = 'PENDING' AND attempts = ? AND next_attempt_at <= ?
+      """;
+  static final String SENT_SQL = """
+      UPDATE email_outbox
+         SET status = 'SENT', sent_at = ?, last_error = NULL
+       WHERE outbox_id = ?
+      """;
+  static final String RETRY_SQL = """
+      UPDATE email_outbox
+         SET next_attempt_at = ?, last_error = ?
+       WHERE outbox_id = ?
+      """;
+  static final String DEAD_SQL = """
+      UPDATE email_outbox
+         SET status = 'DEAD', last_error = ?
+       WHERE outbox_id = ?
+      """;
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final EmailOutboxRepository outboxRepo;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final EmailService emailService;
+  private final ExecutorService senders;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final Duration lease;
+
+  public EmailOutboxDispatcher(EmailOutboxRepository outboxRepo,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      EmailService emailService,
+      @Value("${roomies.mail.outbox.concurrency:4}") int concurrency,
+      @Value("${roomies.mail.outbox.batch-size:20}") int batchSize,
+      @Value("${roomies.mail.outbox.max-attempts:8}") int maxAttempts,
+      @Value("${roomies.mail.outbox.initial-backoff:PT30S}") Duration initialBackoff,
+      @Value("${roomies.mail.outbox.max-backoff:PT1H}") Duration maxBackoff,
+      @Value("${roomies.mail.outbox.lease:PT5M}") Duration lease) {
+    this.outboxRepo = outboxRepo;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.emailService = emailService;
+    this.senders = Executors.newFixedThreadPool(concurrency, senderThreads());
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.lease = lease;
+  }
+
+  @Scheduled(fixedDelayString = "${roomies.mail.outbox.poll-interval:PT2S}")
+  public void dispatch() {
+    int sent = dispatch(Instant.now());
+    if (sent > 0) {
+      log.info("Outbox delivered {} mails", sent);
+    }
+  }
+
+  /**
+   * Claims up to one batch of due mails and sends them, waiting until all are handled so
+   * the next poll never overlaps with this one.
+   *
+   * @return number of mails delivered
+   */
+  int dispatch(Instant now) {
+    List<EmailOutbox> due = outboxRepo.findDue(now, Limit.of(batchSize));
+    if (due.isEmpty()) return 0;
+
+    List<EmailOutbox> claimed = claim(due, now);
+    List<Callable<Boolean>> sends = new ArrayList<>(claimed.size());
+    for (EmailOutbox mail : claimed) {
+      sends.add(() -> deliver(mail));
+    }
+
+    int delivered = 0;
+    try {
+      for (var result : senders.invokeAll(sends)) {
+        if (Boolean.TRUE.equals(result.get())) delivered++;
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (Exception ex) {
+      // deliver() handles its own failures; anything else leaves the row to its lease
+      log.error("Outbox dispatch failed", ex);
+    }
+    return delivered;
+  }
+
+  private List<EmailOutbox> claim(List<EmailOutbox> due, Instant now) {
+    Timestamp leaseUntil = Timestamp.from(now.plus(lease));
+    Timestamp at = Timestamp.from(now);
+    // One transaction, so the whole batch costs a single commit
+    return transactionTemplate.execute(status -> {
+      List<EmailOutbox> claimed = new ArrayList<>(due.size());
+      for (EmailOutbox mail : due) {
+        int count = jdbcTemplate.update(CLAIM_SQL, leaseUntil, mail.getOutboxId(), mail.getAttempts(), at);
+        if (count == 1) claimed.add(mail);
+      }
+      return claimed;
+    });
+  }
+
+  private boolean deliver(EmailOutbox mail) {
+    int attempt = mail.getAttempts() + 1;
+    try {
+      emailService.sendHtmlMail(mail.getRecipient(), mail.getSubject(), mail.getHtml());
+      jdbcTemplate.update(SENT_SQL, Timestamp.from(Instant.now()), mail.getOutboxId());
+      return true;
+    } catch (RuntimeException ex) {
+      String error = truncate(String.valueOf(ex.getMessage()));
+      if (attempt >= maxAttempts) {
+        log.error("Giving up on mail {} to {} after {} attempts", mail.getOutboxId(), mail.getRecipient(),
+            attempt, ex);
+        jdbcTemplate.update(DEAD_SQL, error, mail.getOutboxId());
+      } else {
+        Instant next = Instant.now().plus(backoff(attempt));
+        log.warn("Mail {} to {} failed (attempt {}), retrying at {}: {}", mail.getOutboxId(),
+            mail.getRecipient(), attempt, next, error);
+        jdbcTemplate.update(RETRY_SQL, Timestamp.from(next), error, mail.getOutboxId());
+      }
+      return false;
+    }
+  }
+
+  /** Delay before the attempt after {@code attempt}: doubles each time, capped at max-backoff. */
+  Duration backoff(int attempt) {
+    int doublings = Math.min(attempt - 1, 30);
+    Duration delay = initialBackoff.multipliedBy(1L << doublings);
+    return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+  }
+
+  private static String truncate(String s) {
+    return s.length() <= MAX_ERROR_LENGTH ? s : s.substring(0, MAX_ERROR_LENGTH);
+  }
+
+  private static ThreadFactory senderThreads() {
+    AtomicInteger n = new AtomicInteger();
+    return r -> {
+      Thread t = new Thread(r, "mail-outbox-" + n.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    };
+  }
+
+  @PreDestroy
+  void shutdown() {
+    senders.shutdown();
+  }
+}
@@ -0,0 +1,38 @@
+package com.roomies.service;
+
+import com.roomies.entity.EmailOutbox;
+import com.roomies.repository.EmailOutboxRepository;
+import java.time.Instant;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Queues transactional e-mails in the outbox table. The row joins the caller's transaction,
+ * so a mail is delivered if and only if the change that triggered it commits, and no SMTP
+ * round-trip happens on the request thread. {@link EmailOutboxDispatcher} sends them.
+ */
+@Service
+public class EmailOutboxService {
+
+  private final EmailOutboxRepository outboxRepo;
+  private final EmailService emailService;
+
+  public EmailOutboxService(EmailOutboxRepository outboxRepo, EmailService emailService) {
+    this.outboxRepo = outboxRepo;
+    this.emailService = emailService;
+  }
+
+  @Transactional
+  public void enqueueVerificationMail(String toEmail, String token) {
+    enqueue(toEmail, emailService.verificationMail(token));
+  }
+
+  @Transactional
+  public void enqueuePasswordResetMail(String toEmail, String token) {
+    enqueue(toEmail, emailService.passwordResetMail(token));
+  }
+
+  private void enqueue(String toEmail, EmailService.Mail mail) {
+    outboxRepo.save(new EmailOutbox(toEmail, mail.subject(), mail.html(), Instant.now()));
+  }
+}
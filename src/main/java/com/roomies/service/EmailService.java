@@ -35,8 +35,31 @@ public class EmailService {
     this.mailSender = mailSender;
   }
 
+  /** Subject and HTML body of a rendered e-mail. */
+  public record Mail(String subject, String html) {}
+
   /** Called right after successful registration. */
   public void sendVerificationMail(String toEmail, String token) {
+    Mail mail = verificationMail(token);
+    sendHtmlMail(toEmail, mail.subject(), mail.html());
+  }
+
+  /** Same content – used when user taps “Resend verification link”. */
+  public void resendVerificationMail(String toEmail, String token) {
+    sendVerificationMail(toEmail, token);
+  }
+
+  /** Password-reset flow (user clicked “Forgot password”). */
+  public void sendPasswordResetMail(String toEmail, String token) {
+    Mail mail = passwordResetMail(token);
+    sendHtmlMail(toEmail, mail.subject(), mail.html());
+  }
+
+  /* ----------------------------------------------------------------
+   * Templates
+   * ---------------------------------------------------------------- */
+
+  public Mail verificationMail(String token) {
     String subject = "Confirm your Roomies account";
     String url     = verifyBaseUrl + "?token=" + token;
 
@@ -57,16 +80,10 @@ public class EmailService {
         </html>
         """.formatted(url);
 
-    sendHtmlMail(toEmail, subject, html);
+    return new Mail(subject, html);
   }
 
-  /** Same content – used when user taps “Resend verification link”. */
-  public void resendVerificationMail(String toEmail, String token) {
-    sendVerificationMail(toEmail, token);
-  }
-
-  /** Password-reset flow (user clicked “Forgot password”). */
-  public void sendPasswordResetMail(String toEmail, String token) {
+  public Mail passwordResetMail(String token) {
     String subject = "Reset your Roomies password";
     String url     = resetBaseUrl + "?token=" + token;
 
@@ -88,14 +105,18 @@ public class EmailService {
         </html>
         """.formatted(Duration.ofMinutes(resetValidMin).toString().substring(2).toLowerCase(), url);
 
-    sendHtmlMail(toEmail, subject, html);
+    return new Mail(subject, html);
   }
 
   /* ----------------------------------------------------------------
-   * Internal helper
+   * Delivery
    * ---------------------------------------------------------------- */
 
-  private void sendHtmlMail(String to, String subject, String html) {
+  /**
+   * Sends one HTML mail over SMTP, blocking for the duration of the exchange.
+   * Request paths should go through {@link EmailOutboxService} instead.
+   */
+  public void sendHtmlMail(String to, String subject, String html) {
     MimeMessage message = mailSender.createMimeMessage();
 
     try {
@@ -8,11 +8,16 @@ import com.roomies.entity.Role;
 import com.roomies.entity.User;
 import com.roomies.repository.HouseholdRepository;
 import com.roomies.repository.UserRepository;
+import com.roomies.security.PrincipalCache;
+import com.roomies.service.event.HouseholdChangeEvent;
+import com.roomies.service.event.HouseholdChangeEvent.Action;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
 import jakarta.persistence.EntityNotFoundException;
 import java.security.SecureRandom;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,10 +31,15 @@ public class HouseholdService {
   private static final Logger log = LoggerFactory.getLogger(HouseholdService.class);
   private final HouseholdRepository householdRepo;
   private final UserRepository userRepo;
+  private final PrincipalCache principalCache;
+  private final ApplicationEventPublisher events;
 
-  public HouseholdService(HouseholdRepository householdRepo, UserRepository userRepo) {
+  public HouseholdService(HouseholdRepository householdRepo, UserRepository userRepo,
+      PrincipalCache principalCache, ApplicationEventPublisher events) {
     this.householdRepo = householdRepo;
     this.userRepo = userRepo;
+    this.principalCache = principalCache;
+    this.events = events;
   }
 
   /**
@@ -53,6 +63,8 @@ public class HouseholdService {
     householdRepo.save(household);
     user.setHousehold(household);
     user.setRole(Role.ADMIN);
+    user.setTokenVersion(user.getTokenVersion() + 1);
+    principalCache.invalidate(user);
     log.debug("Household created with ID: {}", household.getHouseholdId());
   }
 
@@ -76,7 +88,11 @@ public class HouseholdService {
     }
 
     user.setHousehold(household);
+    user.setTokenVersion(user.getTokenVersion() + 1);
     userRepo.save(user);
+    principalCache.invalidate(user);
+    events.publishEvent(HouseholdChangeEvent.of(
+        household.getHouseholdId(), Subject.MEMBER, Action.CREATED, user.getUserId()));
     log.debug("User {} joined household {}", user.getEmail(), household.getHouseholdId());
   }
 
@@ -90,7 +106,8 @@ public class HouseholdService {
    */
   @Transactional(readOnly = true)
   public HouseholdDetailsResponseDto getMyHouseholdDetails(String email) {
-    User user = getUser(email);
+    User user = userRepo.findWithHouseholdByEmail(email)
+        .orElseThrow(() -> new EntityNotFoundException("User not found: " + email));
     Household household = user.getHousehold();
     if (household == null) {
       throw new IllegalStateException("User must be part of a household");
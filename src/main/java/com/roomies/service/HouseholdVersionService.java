@@ -0,0 +1,189 @@
+package com.roomies.service;
+
+import com.roomies.service.event.HouseholdChangeEvent;
+import com.roomies.service.event.HouseholdChangeEvent.Action;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Maintains the per-household change version used by incremental sync.
+ *
+ * <p>Each {@link HouseholdChangeEvent} takes the next {@code households.change_version} and
+ * stamps it on the changed rows, or records tombstones for deleted ones. Members are not synced
+ * themselves, but their names are (responsibles' {@code fullName}, items' {@code addedBy} and
+ * {@code purchasedBy}), so a member update stamps every task and item that shows the member.
+ * This runs just
+ * before commit, so the household row lock that orders the versions is held only for the
+ * commit itself, and versions become visible in the order they were assigned.
+ *
+ * <p>Tombstones are kept for {@code roomies.sync.tombstone-retention}. Purging one raises the
+ * household's tombstone floor, and a client that last synced below the floor gets a full
+ * snapshot, since it may have missed deletes.
+ *
+ * <p>With pooled ids Hibernate defers INSERTs to the flush at commit, which runs after this
+ * listener, so the persistence context is flushed first; otherwise the stamp would miss rows
+ * created in the same transaction.
+ */
+@Service
+public class HouseholdVersionService {
+
+  static final String BUMP_SQL =
+      "UPDATE households SET change_version = change_version + 1 WHERE household_id = ?";
+  static final String CURRENT_SQL =
+      "SELECT change_version FROM households WHERE household_id = ?";
+  static final String STAMP_TASK_SQL =
+      "UPDATE tasks SET change_version = ? WHERE task_id = ? AND household_id = ?";
+  static final String STAMP_ITEM_SQL =
+      "UPDATE shopping_items SET change_version = ? WHERE item_id = ? AND household_id = ?";
+  static final String STAMP_MEMBER_TASKS_SQL = """
+      UPDATE tasks SET change_version = ?
+       WHERE household_id = ? AND task_id IN (SELECT task_id FROM task_responsibles WHERE user_id = ?)
+      """;
+  static final String STAMP_MEMBER_ITEMS_SQL = """
+      UPDATE shopping_items SET change_version = ?
+       WHERE household_id = ? AND (added_by = ? OR purchased_by = ?)
+      """;
+  static final String TOMBSTONE_SQL = """
+      INSERT INTO sync_tombstones (household_id, entity_type, entity_id, change_version, created_at)
+      VALUES (?, ?, ?, ?, ?)
+      """;
+  static final String DELETED_SINCE_SQL = """
+      SELECT entity_id FROM sync_tombstones
+       WHERE household_id = ? AND change_version > ? AND entity_type = ?
+       ORDER BY change_version
+      """;
+  static final String FLOOR_SQL =
+      "SELECT tombstone_floor FROM households WHERE household_id = ?";
+  static final String RAISE_FLOOR_SQL = """
+      UPDATE households h SET tombstone_floor = GREATEST(h.tombstone_floor,
+          (SELECT MAX(t.change_version) FROM sync_tombstones t
+            WHERE t.household_id = h.household_id AND t.created_at < ?))
+       WHERE h.household_id IN (SELECT household_id FROM sync_tombstones WHERE created_at < ?)
+      """;
+  static final String PURGE_SQL = "DELETE FROM sync_tombstones WHERE created_at < ?";
+
+  private static final Logger log = LoggerFactory.getLogger(HouseholdVersionService.class);
+  /** The transaction manager's dialect, so constraint violations become DataIntegrityViolationException. */
+  private static final HibernateJpaDialect JPA_DIALECT = new HibernateJpaDialect();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManager entityManager;
+  private final Duration tombstoneRetention;
+  private final Clock clock;
+
+  @Autowired
+  public HouseholdVersionService(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+      @Value("${roomies.sync.tombstone-retention:P30D}") Duration tombstoneRetention) {
+    this(jdbcTemplate, entityManager, tombstoneRetention, Clock.systemUTC());
+  }
+
+  HouseholdVersionService(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+      Duration tombstoneRetention, Clock clock) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.entityManager = entityManager;
+    this.tombstoneRetention = tombstoneRetention;
+    this.clock = clock;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onChange(HouseholdChangeEvent event) {
+    flushPendingWrites();
+    record(event);
+  }
+
+  /** Writes pending entity changes, translating failures as the commit flush would. */
+  private void flushPendingWrites() {
+    try {
+      entityManager.flush();
+    } catch (PersistenceException e) {
+      DataAccessException translated = JPA_DIALECT.translateExceptionIfPossible(e);
+      throw translated != null ? translated : e;
+    }
+  }
+
+  /**
+   * Assigns the next change version of the event's household to the event's rows.
+   *
+   * @return the assigned version
+   */
+  long record(HouseholdChangeEvent event) {
+    Long householdId = event.householdId();
+    jdbcTemplate.update(BUMP_SQL, householdId);
+    long version = currentVersion(householdId);
+    if (event.subject() == Subject.MEMBER) {
+      if (event.action() == Action.UPDATED) stampMemberRows(householdId, event.ids(), version);
+      return version;
+    }
+
+    List<Object[]> args = new ArrayList<>(event.ids().size());
+    if (event.action() == Action.DELETED) {
+      Timestamp now = Timestamp.from(clock.instant());
+      for (Long id : event.ids()) {
+        args.add(new Object[] {householdId, event.subject().name(), id, version, now});
+      }
+      jdbcTemplate.batchUpdate(TOMBSTONE_SQL, args);
+    } else {
+      for (Long id : event.ids()) {
+        args.add(new Object[] {version, id, householdId});
+      }
+      jdbcTemplate.batchUpdate(event.subject() == Subject.TASK ? STAMP_TASK_SQL : STAMP_ITEM_SQL, args);
+    }
+    return version;
+  }
+
+  /** Stamps the rows that show the members' names, so the next sync carries the new ones. */
+  private void stampMemberRows(Long householdId, List<Long> userIds, long version) {
+    for (Long userId : userIds) {
+      jdbcTemplate.update(STAMP_MEMBER_TASKS_SQL, version, householdId, userId);
+      jdbcTemplate.update(STAMP_MEMBER_ITEMS_SQL, version, householdId, userId, userId);
+    }
+  }
+
+  /** Latest change version of the household; 0 if nothing changed since versioning began. */
+  public long currentVersion(Long householdId) {
+    Long version = jdbcTemplate.queryForObject(CURRENT_SQL, Long.class, householdId);
+    return version == null ? 0 : version;
+  }
+
+  /** Ids of entities of the given kind deleted after {@code since}. */
+  public List<Long> deletedSince(Long householdId, Subject subject, long since) {
+    return jdbcTemplate.queryForList(DELETED_SINCE_SQL, Long.class, householdId, since, subject.name());
+  }
+
+  /** Highest change version whose tombstones may have been purged; 0 if none were. */
+  public long tombstoneFloor(Long householdId) {
+    Long floor = jdbcTemplate.queryForObject(FLOOR_SQL, Long.class, householdId);
+    return floor == null ? 0 : floor;
+  }
+
+  /**
+   * Deletes tombstones older than the retention window, first raising the floor of each
+   * household that loses some, in one transaction so no sync sees the one without the other.
+   */
+  @Scheduled(fixedDelayString = "${roomies.sync.tombstone-purge-interval:PT1H}")
+  @Transactional
+  public void purgeTombstones() {
+    Timestamp cutoff = Timestamp.from(clock.instant().minus(tombstoneRetention));
+    jdbcTemplate.update(RAISE_FLOOR_SQL, cutoff, cutoff);
+    int purged = jdbcTemplate.update(PURGE_SQL, cutoff);
+    if (purged > 0) log.debug("Purged {} sync tombstones older than {}", purged, cutoff);
+  }
+}
@@ -0,0 +1,179 @@
+package com.roomies.service;
+
+import com.roomies.repository.TaskRepository;
+import com.roomies.repository.projection.OverdueTaskRow;
+import com.roomies.service.event.HouseholdChangeEvent;
+import com.roomies.service.event.HouseholdChangeEvent.Action;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
+import com.roomies.service.util.TaskSchedule;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background job that catches up repeating tasks whose due date passed without a completion.
+ * Each overdue task is moved to its latest occurrence on or before today, so it stays
+ * completable, and the skipped occurrences are added to {@code missed_count}.
+ *
+ * <p>Tasks are read in bounded chunks by seeking on {@code (next_due, task_id)} and each chunk
+ * is written with one JDBC batch. The update is guarded by the {@code next_due} that was read,
+ * so a task completed concurrently (or swept by another instance) is left untouched. A task
+ * counts as advanced only on an update count of 1; where the driver answers SUCCESS_NO_INFO
+ * for a rewritten batch, the rows are read back and checked for the values just written.
+ * Advanced tasks are announced per household like any other task update.
+ *
+ * <p>"Today" is the UTC date, matching the cron zone, not the JVM's default zone.
+ */
+@Service
+public class OverdueTaskSweeper {
+
+  private static final Logger log = LoggerFactory.getLogger(OverdueTaskSweeper.class);
+
+  static final String ADVANCE_SQL = """
+      UPDATE tasks
+         SET next_due = ?, missed_count = missed_count + ?, version = version + 1
+       WHERE task_id = ? AND next_due = ?
+      """;
+  static final String ADVANCED_SQL =
+      "SELECT task_id, next_due, missed_count FROM tasks WHERE task_id IN (%s)";
+
+  private final TaskRepository taskRepo;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher events;
+  private final int chunkSize;
+  private final Clock clock;
+
+  @Autowired
+  public OverdueTaskSweeper(TaskRepository taskRepo,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ApplicationEventPublisher events,
+      @Value("${roomies.tasks.sweeper.chunk-size:500}") int chunkSize) {
+    this(taskRepo, jdbcTemplate, transactionManager, events, chunkSize, Clock.systemUTC());
+  }
+
+  OverdueTaskSweeper(TaskRepository taskRepo,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ApplicationEventPublisher events,
+      int chunkSize,
+      Clock clock) {
+    this.taskRepo = taskRepo;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.events = events;
+    this.chunkSize = chunkSize;
+    this.clock = clock;
+  }
+
+  @Scheduled(cron = "${roomies.tasks.sweeper.cron:0 5 * * * *}", zone = "UTC")
+  public void sweep() {
+    int advanced = sweep(LocalDate.now(clock));
+    if (advanced > 0) {
+      log.info("Overdue sweep advanced {} tasks", advanced);
+    }
+  }
+
+  /**
+   * Sweeps all tasks due before {@code today}.
+   *
+   * @return number of tasks whose schedule was advanced
+   */
+  int sweep(LocalDate today) {
+    LocalDateTime cutoff = today.atStartOfDay();
+    int advanced = 0;
+
+    List<OverdueTaskRow> chunk = taskRepo.findOverdue(cutoff, Limit.of(chunkSize));
+    while (!chunk.isEmpty()) {
+      advanced += advanceChunk(chunk, today);
+      if (chunk.size() < chunkSize) break;
+
+      OverdueTaskRow last = chunk.get(chunk.size() - 1);
+      chunk = taskRepo.findOverdueAfter(cutoff, last.nextDue(), last.taskId(), Limit.of(chunkSize));
+    }
+    return advanced;
+  }
+
+  private int advanceChunk(List<OverdueTaskRow> chunk, LocalDate today) {
+    List<Advance> advances = new ArrayList<>(chunk.size());
+    List<Object[]> updates = new ArrayList<>(chunk.size());
+    for (OverdueTaskRow row : chunk) {
+      // Steps to the first occurrence after today, minus one = latest occurrence <= today
+      long missed = TaskSchedule.stepsToReach(row.nextDue(), row.frequency(), today.plusDays(1)) - 1;
+      if (missed <= 0) continue;
+
+      LocalDateTime newDue = TaskSchedule.advance(row.nextDue(), row.frequency(), missed);
+      advances.add(new Advance(row, newDue, row.missedCount() + Math.toIntExact(missed)));
+      updates.add(new Object[] {newDue, Math.toIntExact(missed), row.taskId(), row.nextDue()});
+    }
+    if (updates.isEmpty()) return 0;
+
+    Integer advanced = transactionTemplate.execute(status -> {
+      int[] counts = jdbcTemplate.batchUpdate(ADVANCE_SQL, updates);
+      List<Advance> unknown = new ArrayList<>();
+      Map<Long, List<Long>> byHousehold = new LinkedHashMap<>();
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] == 1) {
+          add(byHousehold, advances.get(i).row());
+        } else if (counts[i] != 0) {
+          unknown.add(advances.get(i));
+        }
+      }
+      for (Advance advance : confirmed(unknown)) {
+        add(byHousehold, advance.row());
+      }
+      byHousehold.forEach((householdId, taskIds) -> events.publishEvent(
+          new HouseholdChangeEvent(householdId, Subject.TASK, Action.UPDATED, taskIds)));
+      return byHousehold.values().stream().mapToInt(List::size).sum();
+    });
+    return advanced == null ? 0 : advanced;
+  }
+
+  /** A planned update: the row as read and the values the guarded update writes. */
+  private record Advance(OverdueTaskRow row, LocalDateTime newDue, int newMissedCount) {}
+
+  private static void add(Map<Long, List<Long>> byHousehold, OverdueTaskRow row) {
+    byHousehold.computeIfAbsent(row.householdId(), k -> new ArrayList<>()).add(row.taskId());
+  }
+
+  /**
+   * Of updates whose count the driver did not report, those that took effect. Run in the
+   * updating transaction, so rows it advanced are locked and still hold what it wrote. Other
+   * writers keep or reset {@code missed_count}, so a row they changed instead cannot match.
+   */
+  private List<Advance> confirmed(List<Advance> unknown) {
+    if (unknown.isEmpty()) return List.of();
+    Map<Long, Advance> byTaskId = new HashMap<>();
+    for (Advance advance : unknown) {
+      byTaskId.put(advance.row().taskId(), advance);
+    }
+    String sql = ADVANCED_SQL.formatted(String.join(", ", Collections.nCopies(unknown.size(), "?")));
+    List<Advance> confirmed = new ArrayList<>(unknown.size());
+    jdbcTemplate.query(sql, rs -> {
+      Advance advance = byTaskId.get(rs.getLong("task_id"));
+      if (advance.newDue().equals(rs.getTimestamp("next_due").toLocalDateTime())
+          && advance.newMissedCount() == rs.getInt("missed_count")) {
+        confirmed.add(advance);
+      }
+    }, byTaskId.keySet().toArray());
+    return confirmed;
+  }
+}
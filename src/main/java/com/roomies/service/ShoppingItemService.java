@@ -7,13 +7,19 @@ import com.roomies.entity.ShoppingItem;
 import com.roomies.entity.User;
 import com.roomies.repository.ShoppingItemRepository;
 import com.roomies.repository.UserRepository;
+import com.roomies.security.AuthenticatedUser;
+import com.roomies.service.event.HouseholdChangeEvent;
+import com.roomies.service.event.HouseholdChangeEvent.Action;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.access.AccessDeniedException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -29,10 +35,13 @@ public class ShoppingItemService {
   private static final Logger log = LoggerFactory.getLogger(ShoppingItemService.class);
   private final ShoppingItemRepository shoppingItemRepo;
   private final UserRepository userRepo;
+  private final ApplicationEventPublisher events;
 
-  public ShoppingItemService(ShoppingItemRepository shoppingItemRepo, UserRepository userRepo) {
+  public ShoppingItemService(ShoppingItemRepository shoppingItemRepo, UserRepository userRepo,
+      ApplicationEventPublisher events) {
     this.shoppingItemRepo = shoppingItemRepo;
     this.userRepo = userRepo;
+    this.events = events;
   }
 
   /**
@@ -58,58 +67,58 @@ public class ShoppingItemService {
     item.setAddedBy(user);
     log.debug("Creating shopping item with name: {}", dto.getName());
     ShoppingItem saved = shoppingItemRepo.save(item);
+    publish(saved, Action.CREATED);
     log.debug("Shopping item created with ID: {}", saved.getItemId());
   }
 
   /**
    * Retrieves all shopping items for the authenticated user's household.
    *
-   * @param email the authenticated user's email
+   * @param principal the authenticated user; its household is used without a user lookup
    * @return a list of shopping item response DTOs
+   * @throws IllegalStateException if the user is not part of a household
    */
-  public List<ShoppingItemResponseDto> getItemsForHousehold(String email) {
-    User user = getAuthenticatedUser(email);
-    Household household = user.getHousehold();
-    if (household == null) {
+  public List<ShoppingItemResponseDto> getItemsForHousehold(AuthenticatedUser principal) {
+    Long householdId = principal.getHouseholdId();
+    if (householdId == null) {
       throw new IllegalStateException("User must be part of a household");
     }
-    log.debug("Retrieving shopping items for household ID: {}", household.getHouseholdId());
-    return shoppingItemRepo.findByHousehold_HouseholdId(household.getHouseholdId())
-        .stream()
-        .map(ShoppingItemResponseDto::fromEntity)
-        .toList();
+    log.debug("Retrieving shopping items for household ID: {}", householdId);
+    return shoppingItemRepo.findResponsesByHousehold(householdId);
   }
 
   /**
-   * Retrieves a shopping item by its ID, ensuring the user has access.
+   * Updates a shopping item of the authenticated user's household with a single scoped
+   * UPDATE, which both authorizes and writes.
    *
-   * @param itemId the ID of the shopping item
-   * @param dto    the request dto containing item details
-   * @param email  the authenticated user's email
-   * @throws EntityNotFoundException if the item is not found
-   * @throws SecurityException if the user does not have access to the item
+   * @param itemId    the ID of the shopping item
+   * @param dto       the request dto containing item details
+   * @param principal the authenticated user; its household scopes the update
+   * @throws IllegalStateException if the user is not part of a household
+   * @throws EntityNotFoundException if the household has no such item
    */
   @Transactional
-  public void updateItem(Long itemId, ShoppingItemRequestDto dto, String email) {
-    ShoppingItem item = getAuthorizedItem(itemId, email);
-    item.setName(dto.getName());
-    item.setQuantity(dto.getQuantity());
-    shoppingItemRepo.save(item);
+  public void updateItem(Long itemId, ShoppingItemRequestDto dto, AuthenticatedUser principal) {
+    Long householdId = requireHouseholdId(principal);
+    if (shoppingItemRepo.updateDetails(itemId, householdId, dto.getName(), dto.getQuantity()) == 0) {
+      throw new EntityNotFoundException("Item not found");
+    }
+    publish(householdId, itemId, Action.UPDATED);
     log.debug("Updated shopping item with ID: {}", itemId);
   }
 
   /**
    * Marks multiple shopping items as purchased in a single batch operation.
    *
-   * @param ids   the list of shopping item IDs to mark as purchased
-   * @param email the authenticated user's email
+   * @param ids       the list of shopping item IDs to mark as purchased
+   * @param principal the authenticated user; its household scopes the batch
    * @return a list of item names that were marked as purchased
    * @throws IllegalArgumentException if no IDs are provided or too many IDs
    * @throws IllegalStateException if the user is not part of a household
-   * @throws AccessDeniedException if any item is not found or not in the user's household
+   * @throws EntityNotFoundException if any item is not found or not in the user's household
    */
   @Transactional
-  public List<String> markPurchasedBatch(List<Long> ids, String email) {
+  public List<String> markPurchasedBatch(List<Long> ids, AuthenticatedUser principal) {
     if (ids == null || ids.isEmpty()) {
       throw new IllegalArgumentException("No item IDs provided");
     }
@@ -118,25 +127,23 @@ public class ShoppingItemService {
       throw new IllegalArgumentException("Too many IDs; max 200 per request");
     }
 
-    User user = getAuthenticatedUser(email);
-    var household = user.getHousehold();
-    if (household == null) {
-      throw new IllegalStateException("User must be part of a household");
-    }
+    Long householdId = requireHouseholdId(principal);
 
-    // Ensure we only load items from the caller's household
-    List<ShoppingItem> items = shoppingItemRepo.findByHousehold_HouseholdIdAndItemIdIn(
-        household.getHouseholdId(), ids);
+    // Ensure we only load items from the caller's household, while the caller is still in it
+    List<ShoppingItem> items = shoppingItemRepo.findAllForMember(householdId, principal.getUserId(), ids);
 
     Set<Long> foundIds = new HashSet<>();
     for (var it : items) foundIds.add(it.getItemId());
     for (Long id : ids) {
       if (!foundIds.contains(id)) {
-        throw new AccessDeniedException("Item " + id + " not found or not in your household");
+        throw new EntityNotFoundException("Item " + id + " not found or not in your household");
       }
     }
+    // Only the foreign key is written, so a reference to the caller's row is enough
+    User user = userRepo.getReferenceById(principal.getUserId());
 
     var purchasedNow = new ArrayList<String>();
+    var purchasedIds = new ArrayList<Long>();
 
     for (ShoppingItem item : items) {
       if (!item.isPurchased()) {
@@ -144,48 +151,95 @@ public class ShoppingItemService {
         item.setPurchasedBy(user);
         item.setPurchasedAt(LocalDateTime.now());
         purchasedNow.add(item.getName());
+        purchasedIds.add(item.getItemId());
       }
     }
 
     if (!purchasedNow.isEmpty()) {
       shoppingItemRepo.saveAll(items);
+      events.publishEvent(new HouseholdChangeEvent(
+          householdId, Subject.SHOPPING_ITEM, Action.PURCHASED, purchasedIds));
     }
 
-    log.debug("Batch purchased {} items for household {}", purchasedNow.size(), household.getHouseholdId());
+    log.debug("Batch purchased {} items for household {}", purchasedNow.size(), householdId);
 
     return purchasedNow;
   }
 
   /**
-   * Deletes a shopping item by its ID, ensuring the user has access.
+   * Deletes a shopping item of the authenticated user's household with a single scoped DELETE.
    *
-   * @param itemId the ID of the shopping item
-   * @param email  the authenticated user's email
+   * @param itemId    the ID of the shopping item
+   * @param principal the authenticated user; its household scopes the delete
+   * @throws IllegalStateException if the user is not part of a household
+   * @throws EntityNotFoundException if the household has no such item
    */
-  public void deleteItem(Long itemId, String email) {
-    ShoppingItem item = getAuthorizedItem(itemId, email);
-    shoppingItemRepo.delete(item);
+  @Transactional
+  public void deleteItem(Long itemId, AuthenticatedUser principal) {
+    Long householdId = requireHouseholdId(principal);
+    if (shoppingItemRepo.deleteByItemIdAndHouseholdId(itemId, householdId) == 0) {
+      throw new EntityNotFoundException("Item not found");
+    }
+    publish(householdId, itemId, Action.DELETED);
     log.debug("Deleted shopping item with ID: {}", itemId);
   }
 
   /**
-   * Retrieves a shopping item by its ID, ensuring the user has access.
+   * Takes a user off every shopping list before their account is deleted. The foreign keys
+   * would drop the items they added and clear them as buyer, but without change events sync
+   * clients never see either, so both happen here: added items are deleted and announced as
+   * deleted, bought ones lose their buyer and are announced as updated.
    *
-   * @param itemId the ID of the shopping item
-   * @param email  the authenticated user's email
-   * @return the shopping item
-   * @throws EntityNotFoundException if the item is not found
-   * @throws AccessDeniedException if the user does not have access to the item
+   * @param userId the ID of the user being deleted
    */
-  private ShoppingItem getAuthorizedItem(Long itemId, String email) {
-    ShoppingItem item = shoppingItemRepo.findById(itemId)
-        .orElseThrow(() -> new EntityNotFoundException("Item not found"));
-    User user = userRepo.findByEmail(email)
-        .orElseThrow(() -> new EntityNotFoundException("Authenticated user not found"));
-    if (!item.getHousehold().getHouseholdId().equals(user.getHousehold().getHouseholdId())) {
-      throw new AccessDeniedException("Access denied: not in same household");
+  @Transactional
+  public void removeMember(Long userId) {
+    List<ShoppingItem> added = shoppingItemRepo.findByAddedBy_UserId(userId);
+    List<ShoppingItem> bought = shoppingItemRepo.findByPurchasedBy_UserIdAndAddedBy_UserIdNot(userId, userId);
+
+    if (!added.isEmpty()) {
+      shoppingItemRepo.deleteAllInBatch(added);
+      publishByHousehold(added, Action.DELETED);
+    }
+    if (!bought.isEmpty()) {
+      for (ShoppingItem item : bought) item.setPurchasedBy(null);
+      shoppingItemRepo.saveAll(bought);
+      publishByHousehold(bought, Action.UPDATED);
+    }
+    log.debug("Removed user {} from {} added and {} bought items", userId, added.size(), bought.size());
+  }
+
+  /** Queues a change for the household feed; it is only sent if the transaction commits. */
+  private void publish(ShoppingItem item, Action action) {
+    publish(item.getHousehold().getHouseholdId(), item.getItemId(), action);
+  }
+
+  private void publish(Long householdId, Long itemId, Action action) {
+    events.publishEvent(HouseholdChangeEvent.of(householdId, Subject.SHOPPING_ITEM, action, itemId));
+  }
+
+  private void publishByHousehold(List<ShoppingItem> items, Action action) {
+    Map<Long, List<Long>> idsByHousehold = new HashMap<>();
+    for (ShoppingItem item : items) {
+      idsByHousehold.computeIfAbsent(item.getHousehold().getHouseholdId(), k -> new ArrayList<>())
+          .add(item.getItemId());
+    }
+    idsByHousehold.forEach((hhId, ids) ->
+        events.publishEvent(new HouseholdChangeEvent(hhId, Subject.SHOPPING_ITEM, action, ids)));
+  }
+
+  /**
+   * Returns the principal's household.
+   *
+   * @param principal the authenticated user
+   * @return the household ID
+   * @throws IllegalStateException if the user is not part of a household
+   */
+  private Long requireHouseholdId(AuthenticatedUser principal) {
+    if (principal.getHouseholdId() == null) {
+      throw new IllegalStateException("User must be part of a household");
     }
-    return item;
+    return principal.getHouseholdId();
   }
 
   /**
@@ -0,0 +1,88 @@
+package com.roomies.service;
+
+import com.roomies.dto.shoppingitem.ShoppingItemResponseDto;
+import com.roomies.dto.sync.SyncResponseDto;
+import com.roomies.dto.task.TaskResponseDto;
+import com.roomies.entity.Task;
+import com.roomies.entity.TaskResponsible;
+import com.roomies.repository.ShoppingItemRepository;
+import com.roomies.repository.TaskRepository;
+import com.roomies.repository.TaskResponsibleRepository;
+import com.roomies.security.AuthenticatedUser;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
+import com.roomies.service.util.TaskMapper;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for incremental sync of a household's tasks and shopping list.
+ */
+@Service
+public class SyncService {
+
+  private static final Logger log = LoggerFactory.getLogger(SyncService.class);
+
+  private final TaskRepository taskRepo;
+  private final TaskResponsibleRepository respRepo;
+  private final ShoppingItemRepository shoppingItemRepo;
+  private final HouseholdVersionService versionService;
+
+  public SyncService(TaskRepository taskRepo,
+      TaskResponsibleRepository respRepo,
+      ShoppingItemRepository shoppingItemRepo,
+      HouseholdVersionService versionService) {
+    this.taskRepo = taskRepo;
+    this.respRepo = respRepo;
+    this.shoppingItemRepo = shoppingItemRepo;
+    this.versionService = versionService;
+  }
+
+  /**
+   * Returns what changed in the caller's household after version {@code since}.
+   * The version is read first, so a change committed while the rows are read is either
+   * included or returned again on the next call; clients apply upserts idempotently.
+   *
+   * @param since the version from the client's previous sync, or null for a full snapshot
+   *              (also returned when {@code since} is ahead of the server, or below the
+   *              household's tombstone floor so deletes may have been purged)
+   */
+  @Transactional(readOnly = true)
+  public SyncResponseDto getChangesSince(AuthenticatedUser principal, Long since) {
+    Long householdId = principal.getHouseholdId();
+    if (householdId == null) {
+      throw new IllegalStateException("User must be part of a household");
+    }
+
+    long version = versionService.currentVersion(householdId);
+    boolean full = since == null || since < 0 || since > version
+        || since < versionService.tombstoneFloor(householdId);
+    log.debug("Sync for household {} since {} (current {}, full={})", householdId, since, version, full);
+
+    List<TaskResponseDto> tasks = full
+        ? taskRepo.findBoardByHousehold(householdId)
+        : toTaskDtos(taskRepo.findByHousehold_HouseholdIdAndChangeVersionGreaterThanOrderByNextDueAsc(householdId, since));
+    List<ShoppingItemResponseDto> items = full
+        ? shoppingItemRepo.findResponsesByHousehold(householdId)
+        : shoppingItemRepo.findResponsesChangedSince(householdId, since);
+
+    List<Long> deletedTasks = full ? List.of() : versionService.deletedSince(householdId, Subject.TASK, since);
+    List<Long> deletedItems = full ? List.of()
+        : versionService.deletedSince(householdId, Subject.SHOPPING_ITEM, since);
+
+    return new SyncResponseDto(version, full, tasks, items, deletedTasks, deletedItems);
+  }
+
+  private List<TaskResponseDto> toTaskDtos(List<Task> tasks) {
+    if (tasks.isEmpty()) return List.of();
+    List<Long> taskIds = tasks.stream().map(Task::getTaskId).toList();
+    Map<Long, List<TaskResponsible>> byTaskId = TaskMapper.groupByTaskId(
+        respRepo.findAllByTask_TaskIdInOrderByTask_TaskIdAscPositionAsc(taskIds));
+    return tasks.stream()
+        .map(t -> TaskMapper.toDto(t, byTaskId.getOrDefault(t.getTaskId(), List.of())))
+        .toList();
+  }
+}
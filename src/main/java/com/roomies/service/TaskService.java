@@ -1,23 +1,36 @@
 package com.roomies.service;
 
+import com.roomies.dto.task.TaskCompletionResultDto;
+import com.roomies.dto.task.TaskCompletionResultDto.Status;
 import com.roomies.dto.task.TaskCreateRequestDto;
 import com.roomies.dto.task.TaskResponseDto;
 import com.roomies.dto.task.TaskUpdateRequestDto;
 import com.roomies.dto.task.TaskLogResponseDto;
+import com.roomies.dto.task.TaskLogSliceResponseDto;
 import com.roomies.entity.*;
 import com.roomies.repository.*;
+import com.roomies.repository.projection.NewTaskRow;
+import com.roomies.repository.projection.UserHouseholdRow;
+import com.roomies.security.AuthenticatedUser;
+import com.roomies.service.event.HouseholdChangeEvent;
+import com.roomies.service.event.HouseholdChangeEvent.Action;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
+import com.roomies.service.util.LogCursor;
 import com.roomies.service.util.TaskMapper;
 import com.roomies.service.util.TaskSchedule;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
@@ -37,15 +50,18 @@ public class TaskService {
   private final TaskResponsibleRepository respRepo;
   private final TaskLogRepository logRepo;
   private final UserRepository userRepo;
+  private final ApplicationEventPublisher events;
 
   public TaskService(TaskRepository taskRepo,
       TaskResponsibleRepository respRepo,
       TaskLogRepository logRepo,
-      UserRepository userRepo) {
+      UserRepository userRepo,
+      ApplicationEventPublisher events) {
     this.taskRepo = taskRepo;
     this.respRepo = respRepo;
     this.logRepo = logRepo;
     this.userRepo = userRepo;
+    this.events = events;
   }
 
   /**
@@ -86,82 +102,133 @@ public class TaskService {
 
       respRepo.save(new TaskResponsible(saved, u, pos++));
     }
+    publish(saved, Action.CREATED);
     log.debug("Task created with ID: {}", saved.getTaskId());
   }
 
   /**
-   * Retrieves all tasks for the authenticated user's household.
+   * Creates several tasks in the authenticated user's household, e.g. from an onboarding
+   * template. All responsibles are validated with one query and the rows are written with
+   * JDBC batches, so the cost does not grow by a round trip per task and responsible.
+   *
+   * @return the new task IDs, in request order
+   * @throws EntityNotFoundException if a responsible user does not exist
+   * @throws AccessDeniedException if a responsible user is in another household
    */
-  @Transactional(readOnly = true)
-  public List<TaskResponseDto> getTasksForHousehold(String email) {
-    User user = getAuthenticatedUser(email);
-    Household household = user.getHousehold();
-    if (household == null) {
-      throw new IllegalStateException("User must be part of a household");
+  @Transactional
+  public List<Long> createTasks(List<TaskCreateRequestDto> dtos, AuthenticatedUser principal) {
+    Long hhId = requireHouseholdId(principal);
+
+    List<NewTaskRow> rows = new ArrayList<>(dtos.size());
+    Set<Long> userIds = new LinkedHashSet<>();
+    for (TaskCreateRequestDto dto : dtos) {
+      List<Long> responsibles = dedupePreservingOrder(dto.getResponsibleUserIds());
+      requireNonEmpty(responsibles);
+      userIds.addAll(responsibles);
+      rows.add(new NewTaskRow(dto.getDescription(), dto.getFrequency(), dto.getRotation(),
+          dto.getStartDate(), TaskSchedule.firstDue(dto.getStartDate()), responsibles));
     }
-    Long hhId = household.getHouseholdId();
-    log.debug("Retrieving tasks for household ID: {}", hhId);
-
-    // Step 1: fetch tasks
-    List<Task> tasks = taskRepo.findByHousehold_HouseholdIdOrderByNextDueAsc(hhId);
-    if (tasks.isEmpty()) return List.of();
+    validateHouseholdMembers(userIds, hhId);
 
-    // Step 2: collect IDs and batch-fetch all responsibles in one query
-    List<Long> taskIds = tasks.stream().map(Task::getTaskId).toList();
-
-    List<TaskResponsible> allResponsibles =
-        respRepo.findAllByTask_TaskIdInOrderByTask_TaskIdAscPositionAsc(taskIds);
+    List<Long> taskIds = taskRepo.insertAll(hhId, rows);
+    events.publishEvent(new HouseholdChangeEvent(hhId, Subject.TASK, Action.CREATED, taskIds));
+    log.debug("Bulk created {} tasks for household {}", taskIds.size(), hhId);
+    return taskIds;
+  }
 
-    // Step 3: group responsibles by taskId, preserving order
-    Map<Long, List<TaskResponsible>> byTaskId = new LinkedHashMap<>();
-    for (TaskResponsible tr : allResponsibles) {
-      Long tid = tr.getTask().getTaskId();
-      byTaskId.computeIfAbsent(tid, k -> new ArrayList<>()).add(tr);
+  /** Checks in one query that every user exists and belongs to the household. */
+  private void validateHouseholdMembers(Set<Long> userIds, Long householdId) {
+    Map<Long, Long> householdByUser = new HashMap<>(userIds.size());
+    for (UserHouseholdRow row : userRepo.findHouseholdsOf(userIds)) {
+      householdByUser.put(row.userId(), row.householdId());
     }
+    for (Long uid : userIds) {
+      if (!householdByUser.containsKey(uid)) {
+        throw new EntityNotFoundException("User not found: " + uid);
+      }
+      if (!householdId.equals(householdByUser.get(uid))) {
+        throw new AccessDeniedException("Responsible must be in the same household");
+      }
+    }
+  }
 
-    // Step 4: map to DTOs using pre-grouped lists (no extra queries)
-    return tasks.stream()
-        .map(t -> TaskMapper.toDto(t, byTaskId.getOrDefault(t.getTaskId(), List.of())))
-        .toList();
+  /**
+   * Retrieves all tasks for the authenticated user's household.
+   * The household comes from the principal, so no user lookup is needed, and the board is
+   * read with a single SQL statement straight into DTOs.
+   */
+  @Transactional(readOnly = true)
+  public List<TaskResponseDto> getTasksForHousehold(AuthenticatedUser principal) {
+    Long hhId = requireHouseholdId(principal);
+    log.debug("Retrieving tasks for household ID: {}", hhId);
+    return taskRepo.findBoardByHousehold(hhId);
   }
 
   /**
    * Retrieves a specific task by ID; must belong to the authenticated user's household.
    */
   @Transactional(readOnly = true)
-  public TaskResponseDto getTaskById(Long taskId, String email) {
-    Task task = getAuthorizedTask(taskId, email);
+  public TaskResponseDto getTaskById(Long taskId, AuthenticatedUser principal) {
+    Task task = getAuthorizedTask(taskId, principal);
     log.debug("Retrieving task {} for household {}", taskId, task.getHousehold().getHouseholdId());
-    return TaskMapper.toDto(task, respRepo.findAllByTask_TaskIdOrderByPositionAsc(task.getTaskId()));
+    return TaskMapper.toDto(task, respRepo.findAllWithUserByTask_TaskIdOrderByPositionAsc(task.getTaskId()));
   }
 
   /**
    * Retrieves paginated task completion logs for the authenticated user's household.
    */
   @Transactional(readOnly = true)
-  public List<TaskLogResponseDto> getTaskLogs(String email, int page, int size) {
-    User user = getAuthenticatedUser(email);
-    Household household = user.getHousehold();
-    if (household == null) {
-      throw new IllegalStateException("User must be part of a household");
-    }
+  public List<TaskLogResponseDto> getTaskLogs(AuthenticatedUser principal, int page, int size) {
+    Long householdId = requireHouseholdId(principal);
 
     // Guardrails on size (e.g., max 100)
     int safePage = Math.max(0, page);
     int safeSize = Math.min(Math.max(1, size), 100);
 
     var pageable = PageRequest.of(safePage, safeSize, Sort.by(Sort.Direction.DESC, "completedAt"));
-    var logsPage = logRepo.findByTask_Household_HouseholdId(household.getHouseholdId(), pageable);
+    var logsPage = logRepo.findByHouseholdId(householdId, pageable);
 
     return TaskLogResponseDto.fromEntities(logsPage.getContent());
   }
 
+  /**
+   * Retrieves completion logs older than the cursor (newest first) for the authenticated
+   * user's household. Seeks on (completedAt, logId) instead of offsetting and skips the
+   * count query; one extra row is fetched to tell whether another page exists.
+   *
+   * @param after cursor from a previous response, or null/blank for the newest logs
+   */
+  @Transactional(readOnly = true)
+  public TaskLogSliceResponseDto getTaskLogsAfter(AuthenticatedUser principal, String after, int size) {
+    Long householdId = requireHouseholdId(principal);
+    int safeSize = Math.min(Math.max(1, size), 100);
+    Limit limit = Limit.of(safeSize + 1);
+
+    List<TaskLog> rows;
+    if (after == null || after.isBlank()) {
+      rows = logRepo.findLatestByHousehold(householdId, limit);
+    } else {
+      LogCursor cursor = LogCursor.decode(after);
+      rows = logRepo.findByHouseholdBefore(householdId, cursor.completedAt(), cursor.logId(), limit);
+    }
+
+    boolean hasNext = rows.size() > safeSize;
+    List<TaskLog> page = hasNext ? rows.subList(0, safeSize) : rows;
+    String nextCursor = null;
+    if (hasNext) {
+      TaskLog last = page.get(page.size() - 1);
+      nextCursor = new LogCursor(last.getCompletedAt(), last.getLogId()).encode();
+    }
+    return new TaskLogSliceResponseDto(TaskLogResponseDto.fromEntities(page), nextCursor, hasNext);
+  }
+
   /**
    * Updates a task; must belong to the authenticated user's household.
    */
   @Transactional
-  public void updateTask(Long taskId, TaskUpdateRequestDto dto, String email) {
-    Task task = getAuthorizedTask(taskId, email);
+  public void updateTask(Long taskId, TaskUpdateRequestDto dto, AuthenticatedUser principal) {
+    Task task = taskRepo.findForUpdateByTaskIdAndHousehold_HouseholdId(taskId, requireHouseholdId(principal))
+        .orElseThrow(() -> new EntityNotFoundException("Task not found"));
 
     updateCoreFields(task, dto);
 
@@ -169,6 +236,7 @@ public class TaskService {
       replaceResponsibles(task, dto.getResponsibleUserIds());
     }
 
+    publish(task, Action.UPDATED);
     log.debug("Updated task with ID: {}", taskId);
   }
 
@@ -211,13 +279,7 @@ public class TaskService {
    * Ensures the result is today or in the future (never in the past).
    */
   private LocalDateTime alignNextDueFromStart(LocalDate startDate, Frequency frequency) {
-    LocalDateTime candidate = TaskSchedule.firstDue(startDate);
-    LocalDate today = LocalDate.now();
-    // Advance while the due date is before today (date-only compare)
-    while (candidate.toLocalDate().isBefore(today)) {
-      candidate = TaskSchedule.nextAfter(candidate, frequency);
-    }
-    return candidate;
+    return TaskSchedule.alignFromStart(startDate, frequency, LocalDate.now());
   }
 
   /** Replace + reorder responsibles, validating household membership. */
@@ -231,6 +293,9 @@ public class TaskService {
     List<TaskResponsible> current = respRepo.findAllByTask_TaskIdOrderByPositionAsc(task.getTaskId());
     Map<Long, TaskResponsible> currentByUserId = indexByUserId(current);
 
+    // The requested order is the effective one: store it as-is and restart the rotation
+    task.setRotationOffset(0);
+
     removeUnlistedResponsibles(current, ordered);
     upsertAndReorderResponsibles(task, ordered, usersById, currentByUserId);
   }
@@ -308,8 +373,72 @@ public class TaskService {
    * Marks a task as completed by the authenticated user, advances schedule, and rotates if SINGLE.
    */
   @Transactional
-  public void completeTask(Long taskId, String email) {
-    Task task = getAuthorizedTask(taskId, email);
+  public void completeTask(Long taskId, AuthenticatedUser principal) {
+    // Confirms the principal's row too, since the log references it without a load
+    Task task = taskRepo.findForMember(taskId, requireHouseholdId(principal), principal.getUserId())
+        .orElseThrow(() -> new EntityNotFoundException("Task not found"));
+    LocalDateTime due = requireCompletable(task);
+
+    logRepo.save(complete(task, userRepo.getReferenceById(principal.getUserId()), due));
+
+    publish(task, Action.COMPLETED);
+    log.debug("Completed task {} by user {}", taskId, principal.getUserId());
+  }
+
+  /**
+   * Completes several tasks for the authenticated user, e.g. after a cleaning session. The
+   * tasks are loaded with one household-scoped query and the logs and schedule advances are
+   * flushed as JDBC batches in a single transaction. A task that is missing, in another
+   * household, or not completable yet is reported in its result and does not stop the others;
+   * a concurrent change to any of them rolls back the whole batch.
+   *
+   * @return one result per distinct id, in request order
+   */
+  @Transactional
+  public List<TaskCompletionResultDto> completeTasks(List<Long> taskIds, AuthenticatedUser principal) {
+    Long hhId = requireHouseholdId(principal);
+    List<Long> ids = dedupePreservingOrder(taskIds);
+
+    Map<Long, Task> tasksById = new HashMap<>(ids.size());
+    for (Task task : taskRepo.findAllForMember(hhId, principal.getUserId(), ids)) {
+      tasksById.put(task.getTaskId(), task);
+    }
+    // The load confirmed the principal's row, so the log only needs a reference to it
+    User user = userRepo.getReferenceById(principal.getUserId());
+
+    List<TaskCompletionResultDto> results = new ArrayList<>(ids.size());
+    List<TaskLog> logs = new ArrayList<>(ids.size());
+    List<Long> completedIds = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      Task task = tasksById.get(id);
+      if (task == null) {
+        results.add(new TaskCompletionResultDto(id, Status.NOT_FOUND, "Task not found"));
+        continue;
+      }
+      try {
+        logs.add(complete(task, user, requireCompletable(task)));
+      } catch (IllegalStateException e) {
+        results.add(new TaskCompletionResultDto(id, Status.REJECTED, e.getMessage()));
+        continue;
+      }
+      completedIds.add(id);
+      results.add(new TaskCompletionResultDto(id, Status.COMPLETED, "Task completed"));
+    }
+
+    if (!logs.isEmpty()) {
+      logRepo.saveAll(logs);
+      events.publishEvent(new HouseholdChangeEvent(hhId, Subject.TASK, Action.COMPLETED, completedIds));
+    }
+    log.debug("Bulk completed {} of {} tasks by user {}", completedIds.size(), ids.size(), principal.getUserId());
+    return results;
+  }
+
+  /**
+   * Returns the due date being completed.
+   *
+   * @throws IllegalStateException if a one-off task is already done or the task is not due yet
+   */
+  private LocalDateTime requireCompletable(Task task) {
     if (task.getFrequency() == Frequency.ONCE && task.getNextDue() == null) {
       throw new IllegalStateException("Task already completed");
     }
@@ -323,60 +452,116 @@ public class TaskService {
     if (LocalDate.now().isBefore(due.toLocalDate())) {
       throw new IllegalStateException("Task cannot be completed before its due date");
     }
+    return due;
+  }
 
-    User user = getAuthenticatedUser(email);
-    // Write completion log
-    logRepo.save(new TaskLog(task, user, java.time.Instant.now()));
-
-    // Advance schedule
+  /** Advances the schedule and rotation of a completable task; returns its unsaved log. */
+  private TaskLog complete(Task task, User user, LocalDateTime due) {
     if (task.getFrequency() == Frequency.ONCE) {
       task.setNextDue(null); // terminal
     } else {
       task.setNextDue(TaskSchedule.nextAfter(due, task.getFrequency()));
     }
+    task.setMissedCount(0);
 
     rotateIfSingle(task);
+    return new TaskLog(task, user, Instant.now());
+  }
 
-    log.debug("Completed task {} by user {}", taskId, user.getUserId());
+  /**
+   * Takes a user out of every task rotation, before the account is deleted. The foreign key's
+   * ON DELETE CASCADE would drop the rows but leave {@code rotationOffset} counting over the
+   * old list, which shifts whose turn it is. Instead, the remaining responsibles are stored in
+   * their effective order and the offset restarts, so the next in line stays next (or, if it
+   * was the removed user, the one after them).
+   */
+  @Transactional
+  public void removeFromRotations(Long userId) {
+    List<Long> taskIds = respRepo.findTaskIdsByUserId(userId);
+    if (taskIds.isEmpty()) return;
+
+    // Version-bumping load, so a concurrent completion cannot advance the old offset
+    List<Task> tasks = taskRepo.findForUpdateByTaskIdIn(taskIds);
+    Map<Long, List<TaskResponsible>> byTaskId = TaskMapper.groupByTaskId(
+        respRepo.findAllByTask_TaskIdInOrderByTask_TaskIdAscPositionAsc(taskIds));
+
+    List<TaskResponsible> removed = new ArrayList<>();
+    List<TaskResponsible> moved = new ArrayList<>();
+    Map<Long, List<Long>> taskIdsByHousehold = new HashMap<>();
+    for (Task task : tasks) {
+      List<TaskResponsible> effective = Task.inRotationOrder(
+          byTaskId.getOrDefault(task.getTaskId(), List.of()), task.getRotationOffset());
+      int pos = 1;
+      for (TaskResponsible tr : effective) {
+        if (userId.equals(tr.getUser().getUserId())) {
+          removed.add(tr);
+          continue;
+        }
+        if (tr.getPosition() != pos) {
+          tr.setPosition(pos);
+          moved.add(tr);
+        }
+        pos++;
+      }
+      task.setRotationOffset(0);
+      taskIdsByHousehold.computeIfAbsent(task.getHousehold().getHouseholdId(), k -> new ArrayList<>())
+          .add(task.getTaskId());
+    }
+    respRepo.deleteAll(removed);
+    if (!moved.isEmpty()) respRepo.saveAll(moved);
+    taskIdsByHousehold.forEach((hhId, ids) ->
+        events.publishEvent(new HouseholdChangeEvent(hhId, Subject.TASK, Action.UPDATED, ids)));
+    log.debug("Removed user {} from {} task rotations", userId, tasks.size());
   }
 
+  /**
+   * Passes a SINGLE task to the next responsible by advancing its rotation offset. Touches
+   * only the task row, which the optimistic version check already guards, so no responsible
+   * rows are read or locked.
+   */
   private void rotateIfSingle(Task task) {
     if (task.getRotation() != Rotation.SINGLE) return;
-
-    List<TaskResponsible> rs =
-        respRepo.findAllByTask_TaskIdOrderByPositionAsc(task.getTaskId());
-
-    if (rs.size() < 2) return;
-
-    int n = rs.size();
-    for (TaskResponsible tr : rs) {
-      int pos = tr.getPosition();
-      tr.setPosition(pos == 1 ? n : pos - 1);
-    }
-    respRepo.saveAll(rs);
+    task.setRotationOffset(task.getRotationOffset() + 1);
   }
 
   /**
-   * Deletes a task; must belong to the authenticated user's household.
+   * Deletes a task; must belong to the authenticated user's household. A single scoped
+   * DELETE both authorizes and removes it.
+   *
+   * @throws EntityNotFoundException if the household has no such task
    */
   @Transactional
-  public void deleteTask(Long taskId, String email) {
-    Task task = getAuthorizedTask(taskId, email);
-    taskRepo.delete(task);
+  public void deleteTask(Long taskId, AuthenticatedUser principal) {
+    Long hhId = requireHouseholdId(principal);
+    if (taskRepo.deleteByTaskIdAndHouseholdId(taskId, hhId) == 0) {
+      throw new EntityNotFoundException("Task not found");
+    }
+    events.publishEvent(HouseholdChangeEvent.of(hhId, Subject.TASK, Action.DELETED, taskId));
     log.debug("Deleted task with ID: {}", taskId);
   }
 
   /* ---------- Private helpers ---------- */
 
-  private Task getAuthorizedTask(Long taskId, String email) {
-    Task task = taskRepo.findById(taskId)
+  /** Queues a change for the household feed; it is only sent if the transaction commits. */
+  private void publish(Task task, Action action) {
+    events.publishEvent(HouseholdChangeEvent.of(
+        task.getHousehold().getHouseholdId(), Subject.TASK, action, task.getTaskId()));
+  }
+
+  /**
+   * Loads a task of the caller's household in one query. A task of another household is
+   * reported as missing, so ids cannot be probed across households.
+   */
+  private Task getAuthorizedTask(Long taskId, AuthenticatedUser principal) {
+    return taskRepo.findByTaskIdAndHousehold_HouseholdId(taskId, requireHouseholdId(principal))
         .orElseThrow(() -> new EntityNotFoundException("Task not found"));
-    User user = getAuthenticatedUser(email);
-    if (user.getHousehold() == null ||
-        !task.getHousehold().getHouseholdId().equals(user.getHousehold().getHouseholdId())) {
-      throw new AccessDeniedException("Access denied: not in same household");
+  }
+
+  private Long requireHouseholdId(AuthenticatedUser principal) {
+    if (principal.getHouseholdId() == null) {
+      throw new IllegalStateException("User must be part of a household");
     }
-    return task;
+    return principal.getHouseholdId();
   }
 
   private User getAuthenticatedUser(String email) {
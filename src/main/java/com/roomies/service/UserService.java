@@ -4,9 +4,14 @@ import com.roomies.dto.user.UserResponseDto;
 import com.roomies.dto.user.UserUpdateRequestDto;
 import com.roomies.entity.User;
 import com.roomies.repository.UserRepository;
+import com.roomies.security.PrincipalCache;
+import com.roomies.service.event.HouseholdChangeEvent;
+import com.roomies.service.event.HouseholdChangeEvent.Action;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,10 +25,20 @@ public class UserService {
   private static final Logger log = LoggerFactory.getLogger(UserService.class);
   private final PasswordEncoder passwordEncoder;
   private final UserRepository userRepo;
+  private final PrincipalCache principalCache;
+  private final ApplicationEventPublisher events;
+  private final TaskService taskService;
+  private final ShoppingItemService shoppingItemService;
 
-  public UserService(UserRepository userRepo, PasswordEncoder passwordEncoder) {
+  public UserService(UserRepository userRepo, PasswordEncoder passwordEncoder,
+      PrincipalCache principalCache, ApplicationEventPublisher events, TaskService taskService,
+      ShoppingItemService shoppingItemService) {
     this.userRepo = userRepo;
     this.passwordEncoder = passwordEncoder;
+    this.principalCache = principalCache;
+    this.events = events;
+    this.taskService = taskService;
+    this.shoppingItemService = shoppingItemService;
   }
 
   /**
@@ -45,6 +60,7 @@ public class UserService {
     if (dto.getDisplayName() != null && !dto.getDisplayName().isBlank()
         && !dto.getDisplayName().equals(user.getDisplayName())) {
       user.setDisplayName(dto.getDisplayName());
+      publishMemberChange(user, Action.UPDATED); // names appear in household, task and item views
       changed = true;
     }
 
@@ -57,11 +73,13 @@ public class UserService {
         throw new IllegalArgumentException("Current password is incorrect");
       }
       user.setPassword(passwordEncoder.encode(dto.getNewPassword()));
+      user.setTokenVersion(user.getTokenVersion() + 1);
       changed = true;
     }
 
     if (changed) {
       userRepo.save(user); // optional with managed entity, explicit for clarity
+      principalCache.invalidate(user);
       log.debug("Updated profile for userId: {}", user.getUserId());
     } else {
       log.debug("No-op update for userId: {}", user.getUserId());
@@ -75,7 +93,14 @@ public class UserService {
   public void deleteCurrentUser(String email) {
     User user = getAuthenticatedUser(email);
 
+    user.setTokenVersion(user.getTokenVersion() + 1);
+    // Before the cascade drops their responsible rows, so nobody else's turn is skipped
+    taskService.removeFromRotations(user.getUserId());
+    // Before the cascade drops their items unannounced, so sync clients get tombstones
+    shoppingItemService.removeMember(user.getUserId());
     userRepo.delete(user);
+    principalCache.invalidate(user);
+    publishMemberChange(user, Action.DELETED);
     log.debug("Deleted account for userId: {}", user.getUserId());
   }
 
@@ -84,7 +109,13 @@ public class UserService {
    * Retrieves the authenticated user by email.
    */
   private User getAuthenticatedUser(String email) {
-    return userRepo.findByEmail(email)
+    return userRepo.findWithHouseholdByEmail(email)
         .orElseThrow(() -> new EntityNotFoundException("Authenticated user not found"));
   }
+
+  private void publishMemberChange(User user, Action action) {
+    if (user.getHousehold() == null) return;
+    events.publishEvent(HouseholdChangeEvent.of(
+        user.getHousehold().getHouseholdId(), Subject.MEMBER, action, user.getUserId()));
+  }
 }
@@ -0,0 +1,126 @@
+package com.roomies.service.event;
+
+import com.roomies.dto.household.HouseholdChangeDto;
+import com.roomies.dto.household.HouseholdFeedFrameDto;
+import com.roomies.service.event.HouseholdChangeEvent.Action;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Pushes committed household changes to {@code /topic/household/{id}}. Listening after
+ * commit means subscribers never see a change that was rolled back, and a re-fetch
+ * triggered by the frame always observes the new state.
+ *
+ * <p>Events are held per household for a short window and sent as one coalesced
+ * {@link HouseholdFeedFrameDto}, so a burst of changes costs each subscriber one frame.
+ * The number of households waiting for a flush is published as {@code roomies.ws.coalescer.pending}.
+ */
+@Component
+public class HouseholdChangeBroadcaster {
+
+  public static final String TOPIC_PREFIX = "/topic/household/";
+
+  private static final Logger log = LoggerFactory.getLogger(HouseholdChangeBroadcaster.class);
+
+  private final SimpMessageSendingOperations messaging;
+  private final long windowMillis;
+  private final Map<Long, List<HouseholdChangeEvent>> pending = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread t = new Thread(r, "household-feed-flush");
+    t.setDaemon(true);
+    return t;
+  });
+
+  public HouseholdChangeBroadcaster(SimpMessageSendingOperations messaging,
+      MeterRegistry meterRegistry,
+      @Value("${roomies.ws.coalesce-window:PT0.25S}") Duration window) {
+    this.messaging = messaging;
+    this.windowMillis = window.toMillis();
+    meterRegistry.gauge("roomies.ws.coalescer.pending", pending, Map::size);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onChange(HouseholdChangeEvent event) {
+    Long householdId = event.householdId();
+    if (householdId == null) return;
+
+    pending.compute(householdId, (id, events) -> {
+      if (events == null) {
+        events = new ArrayList<>();
+        flusher.schedule(() -> flush(id), windowMillis, TimeUnit.MILLISECONDS);
+      }
+      events.add(event);
+      return events;
+    });
+  }
+
+  private void flush(Long householdId) {
+    List<HouseholdChangeEvent> events = pending.remove(householdId);
+    if (events == null) return;
+    try {
+      messaging.convertAndSend(TOPIC_PREFIX + householdId,
+          HouseholdFeedFrameDto.changes(coalesce(events)));
+    } catch (RuntimeException ex) {
+      // The changes are committed; a lost frame only delays clients until their next fetch
+      log.warn("Could not publish {} changes to household {}", events.size(), householdId, ex);
+    }
+  }
+
+  /**
+   * Merges events into one change per subject and action, in order of first appearance,
+   * with duplicate ids removed. Ids deleted within the window are only reported as deleted.
+   */
+  static List<HouseholdChangeDto> coalesce(List<HouseholdChangeEvent> events) {
+    Map<Subject, Set<Long>> deleted = new EnumMap<>(Subject.class);
+    for (HouseholdChangeEvent e : events) {
+      if (e.action() == Action.DELETED) {
+        deleted.computeIfAbsent(e.subject(), s -> new LinkedHashSet<>()).addAll(e.ids());
+      }
+    }
+
+    Map<ChangeKey, Set<Long>> merged = new LinkedHashMap<>();
+    for (HouseholdChangeEvent e : events) {
+      Set<Long> ids = merged.computeIfAbsent(new ChangeKey(e.subject(), e.action()), k -> new LinkedHashSet<>());
+      for (Long id : e.ids()) {
+        if (e.action() == Action.DELETED || !deleted.getOrDefault(e.subject(), Set.of()).contains(id)) {
+          ids.add(id);
+        }
+      }
+    }
+
+    List<HouseholdChangeDto> changes = new ArrayList<>(merged.size());
+    merged.forEach((key, ids) -> {
+      if (!ids.isEmpty()) {
+        changes.add(HouseholdChangeDto.of(key.subject(), key.action(), new ArrayList<>(ids)));
+      }
+    });
+    return changes;
+  }
+
+  private record ChangeKey(Subject subject, Action action) {}
+
+  @PreDestroy
+  void shutdown() {
+    flusher.shutdown();
+  }
+}
@@ -0,0 +1,24 @@
+package com.roomies.service.event;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Something changed in a household's tasks, shopping list or members. Published by the services
+ * inside their transaction and pushed to subscribers once that transaction commits.
+ *
+ * @param householdId household whose topic receives the event
+ * @param subject     kind of entity that changed
+ * @param action      what happened to it
+ * @param ids         ids of the changed entities
+ */
+public record HouseholdChangeEvent(Long householdId, Subject subject, Action action, List<Long> ids) {
+
+  public enum Subject { TASK, SHOPPING_ITEM, MEMBER }
+
+  public enum Action { CREATED, UPDATED, COMPLETED, PURCHASED, DELETED }
+
+  public static HouseholdChangeEvent of(Long householdId, Subject subject, Action action, Long id) {
+    return new HouseholdChangeEvent(householdId, subject, action, Collections.singletonList(id));
+  }
+}
@@ -0,0 +1,154 @@
+package com.roomies.service.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roomies.dto.household.HouseholdFeedFrameDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * Bounds the outbound backlog of each STOMP session.
+ *
+ * <p>Frames are counted per session when they enter the client outbound channel and
+ * uncounted once written to the socket, so the count covers the channel's executor queue
+ * and the session's send buffer. When a session reaches {@code max-queued} frames the next
+ * message is replaced by a single {@code RESYNC} frame and further messages are dropped until
+ * the backlog has drained; the client then re-fetches its lists instead of the server
+ * buffering an unbounded number of frames for one slow phone.
+ *
+ * <p>Metrics: {@code roomies.ws.outbound.queued} (frames in flight over all sessions),
+ * {@code roomies.ws.outbound.sessions}, {@code roomies.ws.outbound.dropped} and
+ * {@code roomies.ws.outbound.resyncs}.
+ */
+@Component
+public class OutboundBackpressure implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboundBackpressure.class);
+
+  private final int maxQueued;
+  private final byte[] resyncPayload;
+  private final Map<String, SessionBacklog> sessions = new ConcurrentHashMap<>();
+  private final Counter dropped;
+  private final Counter resyncs;
+
+  public OutboundBackpressure(ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${roomies.ws.outbound.max-queued:64}") int maxQueued) throws JsonProcessingException {
+    this.maxQueued = maxQueued;
+    this.resyncPayload = objectMapper.writeValueAsBytes(HouseholdFeedFrameDto.resync());
+    this.dropped = meterRegistry.counter("roomies.ws.outbound.dropped");
+    this.resyncs = meterRegistry.counter("roomies.ws.outbound.resyncs");
+    meterRegistry.gauge("roomies.ws.outbound.queued", sessions,
+        s -> s.values().stream().mapToInt(b -> b.depth.get()).sum());
+    meterRegistry.gauge("roomies.ws.outbound.sessions", sessions, Map::size);
+  }
+
+  /* ---------- client outbound channel ---------- */
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+    SessionBacklog backlog = sessionId == null ? null : sessions.get(sessionId);
+    if (backlog == null) return message;
+
+    // Only broker messages are shed; CONNECTED, receipts, heartbeats and errors always pass
+    if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+      backlog.depth.incrementAndGet();
+      return message;
+    }
+
+    synchronized (backlog) {
+      if (backlog.resyncPending) {
+        dropped.increment();
+        return null;
+      }
+      backlog.depth.incrementAndGet();
+      if (backlog.depth.get() <= maxQueued) return message;
+
+      backlog.resyncPending = true;
+    }
+    dropped.increment();
+    resyncs.increment();
+    log.debug("Session {} fell behind, sending RESYNC", sessionId);
+    return MessageBuilder.withPayload(resyncPayload).copyHeaders(message.getHeaders()).build();
+  }
+
+  /* ---------- WebSocket transport ---------- */
+
+  @Override
+  public WebSocketHandler decorate(WebSocketHandler handler) {
+    return new WebSocketHandlerDecorator(handler) {
+      @Override
+      public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        sessions.put(session.getId(), new SessionBacklog());
+        super.afterConnectionEstablished(new CountingSession(session));
+      }
+
+      @Override
+      public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
+        sessions.remove(session.getId());
+        super.afterConnectionClosed(session, status);
+      }
+    };
+  }
+
+  /** A frame for the session reached the socket. */
+  void onSent(String sessionId) {
+    SessionBacklog backlog = sessions.get(sessionId);
+    if (backlog == null) return;
+    synchronized (backlog) {
+      // Frames written outside the channel (e.g. decode errors) were never counted
+      if (backlog.depth.get() > 0 && backlog.depth.decrementAndGet() == 0) {
+        backlog.resyncPending = false;
+      }
+    }
+  }
+
+  /** Registers a session; normally done by the handler decorator on connect. */
+  void register(String sessionId) {
+    sessions.put(sessionId, new SessionBacklog());
+  }
+
+  private static final class SessionBacklog {
+    private final AtomicInteger depth = new AtomicInteger();
+    private boolean resyncPending;
+  }
+
+  /** Reports each completed write back to the backlog of its session. */
+  private final class CountingSession extends WebSocketSessionDecorator {
+
+    CountingSession(WebSocketSession delegate) {
+      super(delegate);
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+      try {
+        super.sendMessage(message);
+      } finally {
+        onSent(getId());
+      }
+    }
+  }
+}
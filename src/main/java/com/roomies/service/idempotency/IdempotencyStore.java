@@ -0,0 +1,35 @@
+package com.roomies.service.idempotency;
+
+import java.util.function.Supplier;
+
+/**
+ * Remembers the outcome of requests carrying an {@code Idempotency-Key}, so a client retrying
+ * after a lost response gets the original result instead of running the action again.
+ *
+ * <p>Callers consult the store before opening a transaction; a replay then costs a lookup.
+ * Only successful outcomes are kept: if the action throws, the key is released and a retry
+ * runs it again.
+ */
+public interface IdempotencyStore {
+
+  /** Longest accepted key, after the caller's scope prefix. */
+  int MAX_KEY_LENGTH = 255;
+
+  /**
+   * Runs {@code action} unless an outcome is already recorded for {@code key}.
+   *
+   * @param key    the client's key, prefixed by the caller with everything that scopes it
+   *               (user, operation, target)
+   * @param action the work to do once; its result is what replays return
+   * @return the outcome, and whether it was replayed
+   * @throws org.springframework.dao.ConcurrencyFailureException if a request with the same key
+   *         is still running elsewhere and its outcome cannot be awaited
+   */
+  Outcome execute(String key, Supplier<String> action);
+
+  /**
+   * @param value    the action's result
+   * @param replayed true if it was recorded by an earlier request
+   */
+  record Outcome(String value, boolean replayed) {}
+}
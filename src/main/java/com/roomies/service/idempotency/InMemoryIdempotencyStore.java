@@ -0,0 +1,80 @@
+package com.roomies.service.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, TTL-based {@link IdempotencyStore} for a single instance. A retry that arrives
+ * while the first request is still running waits for its outcome instead of running twice, for
+ * at most {@code roomies.idempotency.wait}; after that it is rejected as still in progress (409),
+ * like the JDBC store does straight away, so a stuck action cannot pile up request threads.
+ * Hit/miss counts are published as the {@code cache.*} metrics tagged {@code cache=idempotency}.
+ */
+@Component
+@ConditionalOnProperty(name = "roomies.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+  private final Cache<String, CompletableFuture<String>> outcomes;
+  private final Duration wait;
+
+  public InMemoryIdempotencyStore(MeterRegistry meterRegistry,
+      @Value("${roomies.idempotency.max-size:100000}") long maxSize,
+      @Value("${roomies.idempotency.ttl:PT24H}") Duration ttl,
+      @Value("${roomies.idempotency.wait:PT10S}") Duration wait) {
+    this.wait = wait;
+    this.outcomes = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, outcomes, "idempotency");
+  }
+
+  @Override
+  public Outcome execute(String key, Supplier<String> action) {
+    ConcurrentMap<String, CompletableFuture<String>> map = outcomes.asMap();
+    while (true) {
+      CompletableFuture<String> recorded = outcomes.getIfPresent(key);
+      if (recorded == null) {
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        recorded = map.putIfAbsent(key, mine);
+        if (recorded == null) return new Outcome(run(key, mine, action), false);
+      }
+      try {
+        return new Outcome(recorded.get(wait.toMillis(), TimeUnit.MILLISECONDS), true);
+      } catch (ExecutionException e) {
+        // The first request failed and released the key; try to run it ourselves
+      } catch (TimeoutException e) {
+        throw new ConcurrencyFailureException("A request with this Idempotency-Key is still in progress");
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ConcurrencyFailureException("A request with this Idempotency-Key is still in progress");
+      }
+    }
+  }
+
+  private String run(String key, CompletableFuture<String> mine, Supplier<String> action) {
+    try {
+      String value = action.get();
+      mine.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      outcomes.asMap().remove(key, mine);
+      mine.completeExceptionally(e);
+      throw e;
+    }
+  }
+}
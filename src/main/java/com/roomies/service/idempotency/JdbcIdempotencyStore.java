@@ -0,0 +1,106 @@
+package com.roomies.service.idempotency;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link IdempotencyStore} in the {@code idempotency_keys} table, shared by all instances.
+ *
+ * <p>A request claims its key by inserting a row without an outcome, outside the action's
+ * transaction, and fills the outcome in once the action has committed. A duplicate that finds
+ * the row still empty is rejected as a concurrent request rather than waiting. If an instance
+ * dies between commit and recording, the key stays claimed until it expires.
+ */
+@Component
+@ConditionalOnProperty(name = "roomies.idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+  private static final Logger log = LoggerFactory.getLogger(JdbcIdempotencyStore.class);
+
+  static final String CLAIM_SQL =
+      "INSERT INTO idempotency_keys (idempotency_key, outcome, expires_at) VALUES (?, NULL, ?)";
+  static final String FIND_SQL =
+      "SELECT outcome, expires_at FROM idempotency_keys WHERE idempotency_key = ?";
+  static final String RECORD_SQL =
+      "UPDATE idempotency_keys SET outcome = ? WHERE idempotency_key = ?";
+  static final String RELEASE_SQL =
+      "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND outcome IS NULL";
+  static final String DELETE_EXPIRED_KEY_SQL =
+      "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND expires_at <= ?";
+  static final String PURGE_SQL = "DELETE FROM idempotency_keys WHERE expires_at <= ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Duration ttl;
+  private final Clock clock;
+
+  @Autowired
+  public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate,
+      @Value("${roomies.idempotency.ttl:PT24H}") Duration ttl) {
+    this(jdbcTemplate, ttl, Clock.systemUTC());
+  }
+
+  JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Duration ttl, Clock clock) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.ttl = ttl;
+    this.clock = clock;
+  }
+
+  private record Row(String outcome, Instant expiresAt) {}
+
+  @Override
+  public Outcome execute(String key, Supplier<String> action) {
+    while (true) {
+      Instant now = clock.instant();
+      try {
+        jdbcTemplate.update(CLAIM_SQL, key, Timestamp.from(now.plus(ttl)));
+        return new Outcome(run(key, action), false);
+      } catch (DuplicateKeyException e) {
+        List<Row> rows = jdbcTemplate.query(FIND_SQL,
+            (rs, i) -> new Row(rs.getString("outcome"), rs.getTimestamp("expires_at").toInstant()), key);
+        if (rows.isEmpty()) continue; // released or purged in between
+        Row row = rows.get(0);
+        if (!row.expiresAt().isAfter(now)) {
+          jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, key, Timestamp.from(now));
+          continue;
+        }
+        if (row.outcome() == null) {
+          throw new ConcurrencyFailureException("A request with this Idempotency-Key is still in progress");
+        }
+        return new Outcome(row.outcome(), true);
+      }
+    }
+  }
+
+  private String run(String key, Supplier<String> action) {
+    String value;
+    try {
+      value = action.get();
+    } catch (RuntimeException | Error e) {
+      jdbcTemplate.update(RELEASE_SQL, key);
+      throw e;
+    }
+    jdbcTemplate.update(RECORD_SQL, value, key);
+    return value;
+  }
+
+  /** Deletes expired keys; lookups already ignore them, this only bounds the table. */
+  @Scheduled(fixedDelayString = "${roomies.idempotency.purge-interval:PT1H}")
+  public void purgeExpired() {
+    int purged = jdbcTemplate.update(PURGE_SQL, Timestamp.from(clock.instant()));
+    if (purged > 0) log.debug("Purged {} expired idempotency keys", purged);
+  }
+}
@@ -0,0 +1,32 @@
+package com.roomies.service.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque seek position in a household's completion log: the {@code (completed_at, log_id)}
+ * of the last row a client has seen, encoded as URL-safe base64 of {@code "<epochMillis>:<logId>"}.
+ */
+public record LogCursor(Instant completedAt, Long logId) {
+
+  public String encode() {
+    String raw = completedAt.toEpochMilli() + ":" + logId;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @throws IllegalArgumentException if the cursor was not produced by {@link #encode()}
+   */
+  public static LogCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int sep = raw.indexOf(':');
+      return new LogCursor(
+          Instant.ofEpochMilli(Long.parseLong(raw.substring(0, sep))),
+          Long.parseLong(raw.substring(sep + 1)));
+    } catch (RuntimeException ex) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+}
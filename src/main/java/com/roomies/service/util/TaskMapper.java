@@ -5,11 +5,18 @@ import com.roomies.dto.task.TaskResponseDto;
 import com.roomies.entity.Task;
 import com.roomies.entity.TaskResponsible;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public final class TaskMapper {
   private TaskMapper() {}
 
+  /**
+   * Maps a task and its responsibles, ordered by stored position. Responsibles come out in
+   * effective rotation order, numbered from 1 for the one next in line.
+   */
   public static TaskResponseDto toDto(Task task, List<TaskResponsible> orderedResponsibles) {
     TaskResponseDto dto = new TaskResponseDto();
     dto.setTaskId(task.getTaskId());
@@ -19,18 +26,28 @@ public final class TaskMapper {
     dto.setRotation(task.getRotation());
     dto.setStartDate(task.getStartDate());
     dto.setNextDue(task.getNextDue());
+    dto.setMissedCount(task.getMissedCount());
 
-    List<TaskResponsibleDto> rs = orderedResponsibles.stream()
-        .map(r -> {
-          TaskResponsibleDto rd = new TaskResponsibleDto();
-          rd.setUserId(r.getUser().getUserId());
-          rd.setFullName(r.getUser().getDisplayName());
-          rd.setPosition(r.getPosition());
-          return rd;
-        })
-        .toList();
+    List<TaskResponsible> rotated = Task.inRotationOrder(orderedResponsibles, task.getRotationOffset());
+    List<TaskResponsibleDto> rs = new ArrayList<>(rotated.size());
+    for (TaskResponsible r : rotated) {
+      TaskResponsibleDto rd = new TaskResponsibleDto();
+      rd.setUserId(r.getUser().getUserId());
+      rd.setFullName(r.getUser().getDisplayName());
+      rd.setPosition(rs.size() + 1);
+      rs.add(rd);
+    }
 
     dto.setResponsibles(rs);
     return dto;
   }
+
+  /** Groups responsibles by task ID, keeping the query order within and across tasks. */
+  public static Map<Long, List<TaskResponsible>> groupByTaskId(List<TaskResponsible> responsibles) {
+    Map<Long, List<TaskResponsible>> byTaskId = new LinkedHashMap<>();
+    for (TaskResponsible tr : responsibles) {
+      byTaskId.computeIfAbsent(tr.getTask().getTaskId(), k -> new ArrayList<>()).add(tr);
+    }
+    return byTaskId;
+  }
 }
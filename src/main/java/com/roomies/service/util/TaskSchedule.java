@@ -3,6 +3,8 @@ package com.roomies.service.util;
 import com.roomies.entity.Frequency;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 
 public final class TaskSchedule {
   private TaskSchedule() {}
@@ -21,4 +23,89 @@ public final class TaskSchedule {
       case MONTHLY -> from.plusMonths(1);
     };
   }
+
+  /**
+   * Result of applying {@link #nextAfter} {@code steps} times, computed in constant time.
+   * MONTHLY keeps the clamping of repeated {@code plusMonths(1)}: once the day is clamped
+   * to a shorter month (e.g. Jan 31 -> Feb 28) it stays there.
+   */
+  public static LocalDateTime advance(LocalDateTime from, Frequency f, long steps) {
+    if (steps < 0) throw new IllegalArgumentException("steps must be >= 0");
+    return switch (f) {
+      case ONCE -> from;
+      case DAILY -> from.plusDays(steps);
+      case EVERY_OTHER_DAY -> from.plusDays(2 * steps);
+      case WEEKLY -> from.plusWeeks(steps);
+      case EVERY_OTHER_WEEK -> from.plusWeeks(2 * steps);
+      case MONTHLY -> advanceMonths(from, steps);
+    };
+  }
+
+  /**
+   * First occurrence of the schedule through {@code anchor} that falls on or after
+   * {@code target} (date-only compare), without stepping through the periods in between.
+   * Returns {@code anchor} itself if it is already on or after the target, or for ONCE.
+   */
+  public static LocalDateTime firstOnOrAfter(LocalDateTime anchor, Frequency f, LocalDate target) {
+    return advance(anchor, f, stepsToReach(anchor, f, target));
+  }
+
+  /**
+   * Number of {@link #nextAfter} steps from {@code anchor} to the first occurrence on or
+   * after {@code target}; 0 if the anchor already is, and always 0 for ONCE.
+   */
+  public static long stepsToReach(LocalDateTime anchor, Frequency f, LocalDate target) {
+    LocalDate anchorDate = anchor.toLocalDate();
+    if (f == Frequency.ONCE || !anchorDate.isBefore(target)) return 0;
+
+    if (f == Frequency.MONTHLY) {
+      long months = ChronoUnit.MONTHS.between(YearMonth.from(anchorDate), YearMonth.from(target));
+      return advanceMonths(anchor, months).toLocalDate().isBefore(target) ? months + 1 : months;
+    }
+
+    long period = periodDays(f);
+    long days = ChronoUnit.DAYS.between(anchorDate, target);
+    return (days + period - 1) / period;
+  }
+
+  /**
+   * First occurrence of a repeating schedule anchored at {@code startDate} that falls on
+   * or after {@code today} (date-only compare). ONCE schedules never advance.
+   */
+  public static LocalDateTime alignFromStart(LocalDate startDate, Frequency f, LocalDate today) {
+    return firstOnOrAfter(firstDue(startDate), f, today);
+  }
+
+  private static long periodDays(Frequency f) {
+    return switch (f) {
+      case DAILY -> 1;
+      case EVERY_OTHER_DAY -> 2;
+      case WEEKLY -> 7;
+      case EVERY_OTHER_WEEK -> 14;
+      case ONCE, MONTHLY -> throw new IllegalArgumentException("No fixed period for " + f);
+    };
+  }
+
+  /**
+   * Month stepping with sticky clamping: the day after n steps is the start day capped by
+   * the shortest month passed through. Any two consecutive Februaries include a 28-day one,
+   * so only short spans need to be scanned.
+   */
+  private static LocalDateTime advanceMonths(LocalDateTime from, long months) {
+    LocalDateTime shifted = from.plusMonths(months);
+    int day = from.getDayOfMonth();
+    if (day <= 28 || months == 0) return shifted;
+
+    int shortest;
+    if (months >= 24) {
+      shortest = 28;
+    } else {
+      shortest = day;
+      YearMonth ym = YearMonth.from(from);
+      for (long i = 1; i <= months && shortest > 28; i++) {
+        shortest = Math.min(shortest, ym.plusMonths(i).lengthOfMonth());
+      }
+    }
+    return shifted.withDayOfMonth(Math.min(day, shortest));
+  }
 }
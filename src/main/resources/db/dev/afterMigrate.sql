@@ -0,0 +1,48 @@
+-- Dev-only seed data, run by Flyway after every migrate (dev profile). Idempotent.
+-- Both users log in with the same password as before the move to Flyway.
+--
+-- Ids come from id_sequences, like every other insert (see PooledIdGenerator): an
+-- AUTO_INCREMENT id (MAX + 1) can fall inside a block a running instance already holds.
+-- Each reservation only advances the sequence when its row is actually missing, and takes
+-- the row lock with the UPDATE before reading the id back (plain SQL, so H2 runs it too).
+
+UPDATE id_sequences SET next_val = next_val + 1
+ WHERE sequence_name = 'households'
+   AND NOT EXISTS (SELECT 1 FROM households WHERE join_code = 'TST123');
+SET @household_id = (SELECT next_val - 1 FROM id_sequences
+ WHERE sequence_name = 'households'
+   AND NOT EXISTS (SELECT 1 FROM households WHERE join_code = 'TST123'));
+
+INSERT INTO households (household_id, name, join_code, address_line, zip_code, city, country)
+SELECT @household_id, 'Roomies Test Household', 'TST123', 'Test Street 1', '0001', 'Trondheim', 'Norway'
+ WHERE @household_id IS NOT NULL;
+
+UPDATE id_sequences SET next_val = next_val + 1
+ WHERE sequence_name = 'users'
+   AND NOT EXISTS (SELECT 1 FROM users WHERE email = 'tester@roomies.dev');
+SET @tester_id = (SELECT next_val - 1 FROM id_sequences
+ WHERE sequence_name = 'users'
+   AND NOT EXISTS (SELECT 1 FROM users WHERE email = 'tester@roomies.dev'));
+
+INSERT INTO users (user_id, email, display_name, password, household_id, role, confirmed)
+SELECT @tester_id, 'tester@roomies.dev', 'Frontend Tester',
+       '$2b$10$6REyMhnWTZxQUTfKpq1P9O/YYpNGfhduYAg/J7UOdDTrppuRW1426',
+       h.household_id, 'MEMBER', 1
+  FROM households h
+ WHERE h.join_code = 'TST123'
+   AND @tester_id IS NOT NULL;
+
+UPDATE id_sequences SET next_val = next_val + 1
+ WHERE sequence_name = 'users'
+   AND NOT EXISTS (SELECT 1 FROM users WHERE email = 'admin@roomies.dev');
+SET @admin_id = (SELECT next_val - 1 FROM id_sequences
+ WHERE sequence_name = 'users'
+   AND NOT EXISTS (SELECT 1 FROM users WHERE email = 'admin@roomies.dev'));
+
+INSERT INTO users (user_id, email, display_name, password, household_id, role, confirmed)
+SELECT @admin_id, 'admin@roomies.dev', 'Admin Tester',
+       '$2b$10$6REyMhnWTZxQUTfKpq1P9O/YYpNGfhduYAg/J7UOdDTrppuRW1426',
+       h.household_id, 'ADMIN', 1
+  FROM households h
+ WHERE h.join_code = 'TST123'
+   AND @admin_id IS NOT NULL;
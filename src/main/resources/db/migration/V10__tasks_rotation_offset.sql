@@ -0,0 +1,8 @@
+-- SINGLE rotation as a counter on the task: the responsible next in line is the one at
+-- rotation_offset mod n in position order, so a completion no longer rewrites every position.
+ALTER TABLE `tasks`
+    ADD COLUMN `rotation_offset` INT UNSIGNED NOT NULL DEFAULT 0 AFTER `missed_count`;
+
+-- Optimistic lock guarding the counter and the rest of the row.
+ALTER TABLE `tasks`
+    ADD COLUMN `version` BIGINT UNSIGNED NOT NULL DEFAULT 0;
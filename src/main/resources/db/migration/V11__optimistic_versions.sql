@@ -0,0 +1,6 @@
+-- Optimistic locks for shopping items and households (tasks got theirs in V10).
+ALTER TABLE `shopping_items`
+    ADD COLUMN `version` BIGINT UNSIGNED NOT NULL DEFAULT 0;
+
+ALTER TABLE `households`
+    ADD COLUMN `version` BIGINT UNSIGNED NOT NULL DEFAULT 0;
@@ -0,0 +1,9 @@
+-- Outcomes of requests sent with an Idempotency-Key (JdbcIdempotencyStore). A row with a
+-- NULL outcome is a request still running; rows are purged once expires_at passes.
+CREATE TABLE `idempotency_keys` (
+  `idempotency_key` VARCHAR(320)  NOT NULL,
+  `outcome`         VARCHAR(1000) NULL,
+  `expires_at`      DATETIME(6)   NOT NULL,
+  PRIMARY KEY (`idempotency_key`),
+  KEY `idx_idempotency_expires` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
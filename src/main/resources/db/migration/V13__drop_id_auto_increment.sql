@@ -0,0 +1,16 @@
+-- Ids come only from id_sequences (V9, PooledIdGenerator). An AUTO_INCREMENT id is the current
+-- maximum plus one, which can fall inside a block a running instance holds, so without it an
+-- insert that forgets the id fails straight away instead of breaking another instance later.
+--
+-- Needs every instance on the pooled generator: one still on IDENTITY inserts without an id
+-- and now fails. A release that brings V9 and V13 together is a stop-the-world deploy.
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE `households`        MODIFY `household_id`   INT UNSIGNED NOT NULL;
+ALTER TABLE `users`             MODIFY `user_id`        INT UNSIGNED NOT NULL;
+ALTER TABLE `shopping_items`    MODIFY `item_id`        INT UNSIGNED NOT NULL;
+ALTER TABLE `tasks`             MODIFY `task_id`        INT UNSIGNED NOT NULL;
+ALTER TABLE `task_responsibles` MODIFY `responsible_id` INT UNSIGNED NOT NULL;
+ALTER TABLE `task_logs`         MODIFY `log_id`         INT UNSIGNED NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
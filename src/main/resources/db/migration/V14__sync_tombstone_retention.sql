@@ -0,0 +1,9 @@
+-- Tombstones are purged after a retention window (HouseholdVersionService.purgeTombstones).
+-- tombstone_floor is the highest change_version purged for the household; a client whose
+-- last sync is below it may have missed deletes and gets a full snapshot instead.
+ALTER TABLE `sync_tombstones`
+    ADD COLUMN `created_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+CREATE INDEX `idx_tombstones_created` ON `sync_tombstones` (`created_at`);
+
+ALTER TABLE `households`
+    ADD COLUMN `tombstone_floor` BIGINT UNSIGNED NOT NULL DEFAULT 0;
@@ -0,0 +1,89 @@
+-- Baseline: the schema of the original database/init.sql dump (without seed data).
+-- Existing databases created from that dump are marked as V1 by baseline-on-migrate.
+
+CREATE TABLE `households` (
+  `household_id` int unsigned NOT NULL AUTO_INCREMENT,
+  `name` varchar(100) NOT NULL,
+  `join_code` varchar(6) NOT NULL UNIQUE,
+  `address_line` varchar(200) DEFAULT NULL,
+  `zip_code` varchar(20) DEFAULT NULL,
+  `city` varchar(100) DEFAULT NULL,
+  `country` varchar(100) DEFAULT NULL,
+  `created_at` datetime DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`household_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `users` (
+  `user_id` int unsigned NOT NULL AUTO_INCREMENT,
+  `email` varchar(200) NOT NULL,
+  `display_name` varchar(100) NOT NULL,
+  `password` char(60) NOT NULL,
+  `household_id` int unsigned DEFAULT NULL,
+  `role` enum('MEMBER','ADMIN') DEFAULT 'MEMBER',
+  `confirmed` tinyint(1) DEFAULT '0',
+  `confirmation_token` varchar(100) DEFAULT NULL,
+  `refresh_token` varchar(500) DEFAULT NULL,
+  `created_at` datetime DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`user_id`),
+  UNIQUE KEY `email` (`email`),
+  KEY `fk_users_household` (`household_id`),
+  CONSTRAINT `fk_users_household` FOREIGN KEY (`household_id`) REFERENCES `households` (`household_id`) ON DELETE SET NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `shopping_items` (
+  `item_id` int unsigned NOT NULL AUTO_INCREMENT,
+  `household_id` int unsigned NOT NULL,
+  `added_by` int unsigned NOT NULL,
+  `name` varchar(150) NOT NULL,
+  `quantity` varchar(40) DEFAULT '1',
+  `purchased` tinyint(1) NOT NULL DEFAULT '0',
+  `purchased_by` int unsigned DEFAULT NULL,
+  `added_at` datetime DEFAULT CURRENT_TIMESTAMP,
+  `purchased_at` datetime DEFAULT NULL,
+  PRIMARY KEY (`item_id`),
+  KEY `fk_shop_household` (`household_id`),
+  KEY `fk_shop_added_by` (`added_by`),
+  KEY `fk_shop_purchased_by` (`purchased_by`),
+  CONSTRAINT `fk_shop_added_by` FOREIGN KEY (`added_by`) REFERENCES `users` (`user_id`) ON DELETE CASCADE,
+  CONSTRAINT `fk_shop_household` FOREIGN KEY (`household_id`) REFERENCES `households` (`household_id`) ON DELETE CASCADE,
+  CONSTRAINT `fk_shop_purchased_by` FOREIGN KEY (`purchased_by`) REFERENCES `users` (`user_id`) ON DELETE SET NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `tasks` (
+  `task_id`      INT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `household_id` INT UNSIGNED NOT NULL,
+  `description`  VARCHAR(255) NOT NULL CHECK (CHAR_LENGTH(description) > 2),
+  `frequency`    ENUM('ONCE','DAILY','EVERY_OTHER_DAY','WEEKLY','EVERY_OTHER_WEEK','MONTHLY') NOT NULL,
+  `rotation`     ENUM('SINGLE','TEAM') NOT NULL DEFAULT 'SINGLE',
+  `start_date`   DATETIME NOT NULL DEFAULT (CURRENT_DATE),
+  `next_due`     DATETIME NOT NULL,
+  `created_at`   DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `updated_at`   DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`task_id`),
+  KEY `idx_tasks_next_due`  (`next_due`),
+  KEY `idx_tasks_household` (`household_id`),
+  CONSTRAINT `fk_tasks_household` FOREIGN KEY (`household_id`) REFERENCES `households` (`household_id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `task_responsibles` (
+  `responsible_id` INT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `task_id` INT UNSIGNED NOT NULL,
+  `user_id` INT UNSIGNED NOT NULL,
+  `position` INT NOT NULL DEFAULT 1,
+  PRIMARY KEY (`responsible_id`),
+  UNIQUE KEY `uk_task_user` (`task_id`, `user_id`),
+  CONSTRAINT `fk_responsible_task` FOREIGN KEY (`task_id`) REFERENCES `tasks` (`task_id`) ON DELETE CASCADE,
+  CONSTRAINT `fk_responsible_user` FOREIGN KEY (`user_id`) REFERENCES `users` (`user_id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `task_logs` (
+  `log_id`       INT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `task_id`      INT UNSIGNED NOT NULL,
+  `completed_by` INT UNSIGNED NOT NULL,
+  `completed_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`log_id`),
+  KEY `idx_logs_task` (`task_id`),
+  KEY `idx_logs_user` (`completed_by`),
+  CONSTRAINT `fk_logs_task` FOREIGN KEY (`task_id`) REFERENCES `tasks` (`task_id`) ON DELETE CASCADE,
+  CONSTRAINT `fk_logs_user` FOREIGN KEY (`completed_by`) REFERENCES `users` (`user_id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
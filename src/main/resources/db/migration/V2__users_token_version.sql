@@ -0,0 +1,3 @@
+-- Access tokens embed uid/hid/role/ver claims; the version is bumped whenever those go stale.
+ALTER TABLE `users`
+    ADD COLUMN `token_version` int NOT NULL DEFAULT '0' AFTER `refresh_token`;
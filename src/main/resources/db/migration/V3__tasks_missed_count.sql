@@ -0,0 +1,3 @@
+-- Occurrences skipped by the overdue sweeper since the task was last completed.
+ALTER TABLE `tasks`
+    ADD COLUMN `missed_count` INT UNSIGNED NOT NULL DEFAULT 0 AFTER `next_due`;
@@ -0,0 +1,2 @@
+-- Seek key for cursor pagination of completion logs (GET /api/tasks/logs?after=...).
+CREATE INDEX `idx_logs_completed` ON `task_logs` (`completed_at`, `log_id`);
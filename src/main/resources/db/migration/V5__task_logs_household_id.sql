@@ -0,0 +1,23 @@
+-- Denormalizes tasks.household_id onto task_logs so household log reads are a single
+-- range scan on (household_id, completed_at DESC, log_id DESC) instead of a join + filesort.
+-- Supersedes idx_logs_completed from V4.
+
+ALTER TABLE `task_logs`
+    ADD COLUMN `household_id` INT UNSIGNED NULL AFTER `task_id`;
+
+-- Backfill from the owning task. Logs never move between households, so this is one-off.
+UPDATE `task_logs`
+   SET `household_id` = (SELECT t.`household_id` FROM `tasks` t WHERE t.`task_id` = `task_logs`.`task_id`)
+ WHERE `household_id` IS NULL;
+
+ALTER TABLE `task_logs` MODIFY COLUMN `household_id` INT UNSIGNED NOT NULL;
+
+CREATE INDEX `idx_logs_household_completed`
+    ON `task_logs` (`household_id`, `completed_at` DESC, `log_id` DESC);
+
+ALTER TABLE `task_logs`
+    ADD CONSTRAINT `fk_logs_household`
+        FOREIGN KEY (`household_id`) REFERENCES `households` (`household_id`)
+        ON DELETE CASCADE;
+
+DROP INDEX `idx_logs_completed` ON `task_logs`;
@@ -0,0 +1,15 @@
+-- Composite indexes matching the application's hot queries, so each is a single index
+-- range scan that also yields the requested order (no filesort).
+
+-- TaskRepository.findByHousehold_HouseholdIdOrderByNextDueAsc
+CREATE INDEX `idx_tasks_household_next_due` ON `tasks` (`household_id`, `next_due`);
+
+-- ShoppingItemRepository.findByHousehold_HouseholdIdOrderByPurchasedAscAddedAtAsc
+CREATE INDEX `idx_shop_household_purchased_added`
+    ON `shopping_items` (`household_id`, `purchased`, `added_at`);
+
+-- TaskResponsibleRepository.findAllByTask_TaskIdOrderByPositionAsc (and the IN variant)
+CREATE INDEX `idx_responsibles_task_position` ON `task_responsibles` (`task_id`, `position`);
+
+-- UserRepository.findByConfirmationToken
+CREATE INDEX `idx_users_confirmation_token` ON `users` (`confirmation_token`);
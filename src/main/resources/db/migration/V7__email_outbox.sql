@@ -0,0 +1,16 @@
+-- Transactional outbox for e-mail: rows are inserted with the business change and
+-- delivered by EmailOutboxDispatcher. next_attempt_at doubles as the claim lease.
+CREATE TABLE `email_outbox` (
+  `outbox_id`       BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `recipient`       VARCHAR(255)    NOT NULL,
+  `subject`         VARCHAR(255)    NOT NULL,
+  `html`            MEDIUMTEXT      NOT NULL,
+  `status`          ENUM('PENDING','SENT','DEAD') NOT NULL DEFAULT 'PENDING',
+  `attempts`        INT UNSIGNED    NOT NULL DEFAULT 0,
+  `next_attempt_at` DATETIME(6)     NOT NULL,
+  `created_at`      DATETIME(6)     NOT NULL,
+  `sent_at`         DATETIME(6)     NULL,
+  `last_error`      VARCHAR(1000)   NULL,
+  PRIMARY KEY (`outbox_id`),
+  KEY `idx_outbox_status_next_attempt` (`status`, `next_attempt_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,25 @@
+-- Per-household change counter for incremental sync (GET /api/sync?since=).
+-- Every committed mutation takes the next households.change_version and stamps it on the
+-- rows it touched; deletions leave a tombstone carrying the version instead.
+ALTER TABLE `households`
+    ADD COLUMN `change_version` BIGINT UNSIGNED NOT NULL DEFAULT 0;
+
+ALTER TABLE `tasks`
+    ADD COLUMN `change_version` BIGINT UNSIGNED NOT NULL DEFAULT 0;
+CREATE INDEX `idx_tasks_household_version` ON `tasks` (`household_id`, `change_version`);
+
+ALTER TABLE `shopping_items`
+    ADD COLUMN `change_version` BIGINT UNSIGNED NOT NULL DEFAULT 0;
+CREATE INDEX `idx_shop_household_version` ON `shopping_items` (`household_id`, `change_version`);
+
+CREATE TABLE `sync_tombstones` (
+  `tombstone_id`   BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `household_id`   INT UNSIGNED    NOT NULL,
+  `entity_type`    ENUM('TASK','SHOPPING_ITEM') NOT NULL,
+  `entity_id`      INT UNSIGNED    NOT NULL,
+  `change_version` BIGINT UNSIGNED NOT NULL,
+  PRIMARY KEY (`tombstone_id`),
+  KEY `idx_tombstones_household_version` (`household_id`, `change_version`),
+  CONSTRAINT `fk_tombstones_household` FOREIGN KEY (`household_id`)
+      REFERENCES `households` (`household_id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,21 @@
+-- Pooled id generation (PooledIdGenerator): MySQL has no sequences, so each table gets a row
+-- holding the first id not yet handed out. Hibernate and IdSequences reserve blocks by
+-- advancing it. The AUTO_INCREMENT columns stay for rows inserted by hand.
+CREATE TABLE `id_sequences` (
+  `sequence_name` VARCHAR(64)     NOT NULL,
+  `next_val`      BIGINT UNSIGNED NOT NULL,
+  PRIMARY KEY (`sequence_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO `id_sequences` (`sequence_name`, `next_val`)
+SELECT 'households', COALESCE(MAX(`household_id`), 0) + 1 FROM `households`;
+INSERT INTO `id_sequences` (`sequence_name`, `next_val`)
+SELECT 'users', COALESCE(MAX(`user_id`), 0) + 1 FROM `users`;
+INSERT INTO `id_sequences` (`sequence_name`, `next_val`)
+SELECT 'tasks', COALESCE(MAX(`task_id`), 0) + 1 FROM `tasks`;
+INSERT INTO `id_sequences` (`sequence_name`, `next_val`)
+SELECT 'task_responsibles', COALESCE(MAX(`responsible_id`), 0) + 1 FROM `task_responsibles`;
+INSERT INTO `id_sequences` (`sequence_name`, `next_val`)
+SELECT 'task_logs', COALESCE(MAX(`log_id`), 0) + 1 FROM `task_logs`;
+INSERT INTO `id_sequences` (`sequence_name`, `next_val`)
+SELECT 'shopping_items', COALESCE(MAX(`item_id`), 0) + 1 FROM `shopping_items`;
@@ -0,0 +1,119 @@
+package com.roomies.controller;
+
+import com.roomies.service.HouseholdVersionService;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for HouseholdEtags.
+ */
+@ExtendWith(MockitoExtension.class)
+class HouseholdEtagsTest {
+
+  private static final Long HOUSEHOLD = 7L;
+
+  @Mock private HouseholdVersionService versionService;
+  @Mock private Supplier<List<String>> body;
+
+  private HouseholdEtags etags;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+
+  @BeforeEach
+  void setUp() {
+    etags = new HouseholdEtags(versionService);
+    request = new MockHttpServletRequest("GET", "/api/tasks");
+    response = new MockHttpServletResponse();
+  }
+
+  private ResponseEntity<List<String>> respond() {
+    return etags.respond(new ServletWebRequest(request, response), HOUSEHOLD, "tasks", body);
+  }
+
+  @Test
+  void shouldReturnBodyWithEtagOnFirstRequest() {
+    // Arrange
+    when(versionService.currentVersion(HOUSEHOLD)).thenReturn(12L);
+    when(body.get()).thenReturn(List.of("Dishes"));
+
+    // Act
+    ResponseEntity<List<String>> result = respond();
+
+    // Assert
+    assertEquals(HttpStatus.OK, result.getStatusCode());
+    assertEquals(List.of("Dishes"), result.getBody());
+    assertEquals("\"tasks-7-12\"", response.getHeader(HttpHeaders.ETAG));
+    assertEquals("no-cache, private", result.getHeaders().getCacheControl());
+  }
+
+  @Test
+  void shouldAnswerNotModifiedWithoutBuildingBody() {
+    // Arrange
+    when(versionService.currentVersion(HOUSEHOLD)).thenReturn(12L);
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"tasks-7-12\"");
+
+    // Act
+    ResponseEntity<List<String>> result = respond();
+
+    // Assert
+    assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+    assertNull(result.getBody());
+    assertEquals("\"tasks-7-12\"", response.getHeader(HttpHeaders.ETAG));
+    verifyNoInteractions(body);
+  }
+
+  @Test
+  void shouldReturnBodyWhenVersionMoved() {
+    // Arrange
+    when(versionService.currentVersion(HOUSEHOLD)).thenReturn(13L);
+    when(body.get()).thenReturn(List.of("Dishes", "Laundry"));
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"tasks-7-12\"");
+
+    // Act
+    ResponseEntity<List<String>> result = respond();
+
+    // Assert
+    assertEquals(HttpStatus.OK, result.getStatusCode());
+    assertEquals(2, result.getBody().size());
+    assertEquals("\"tasks-7-13\"", response.getHeader(HttpHeaders.ETAG));
+  }
+
+  @Test
+  void shouldNotMatchEtagOfAnotherRepresentation() {
+    // Arrange: same household and version, but the tag came from the shopping list
+    when(versionService.currentVersion(HOUSEHOLD)).thenReturn(12L);
+    when(body.get()).thenReturn(List.of());
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"items-7-12\"");
+
+    // Act & Assert
+    assertEquals(HttpStatus.OK, respond().getStatusCode());
+  }
+
+  @Test
+  void shouldSkipVersionLookupWithoutHousehold() {
+    // Arrange
+    when(body.get()).thenReturn(List.of());
+
+    // Act
+    ResponseEntity<List<String>> result = etags.respond(
+        new ServletWebRequest(request, response), null, "tasks", body);
+
+    // Assert
+    assertEquals(HttpStatus.OK, result.getStatusCode());
+    verifyNoInteractions(versionService);
+  }
+}
@@ -0,0 +1,119 @@
+package com.roomies.repository;
+
+import com.roomies.entity.Role;
+import com.roomies.exception.GlobalExceptionHandler;
+import com.roomies.security.AuthenticatedUser;
+import com.roomies.service.HouseholdVersionService;
+import com.roomies.service.ShoppingItemService;
+import com.roomies.service.TaskService;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes recorded under a principal whose account or membership is gone, as with a cached
+ * token: completions and purchases reference the member's row without loading it, so the
+ * household-scoped load confirms the member, and a deletion that commits after that check
+ * surfaces as a conflict rather than a server error.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskService.class, ShoppingItemService.class, HouseholdVersionService.class})
+class DepartedMemberWriteTest extends H2JpaTest {
+
+  @Autowired private TaskService taskService;
+  @Autowired private ShoppingItemService shoppingItemService;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private long household;
+  private long member;
+  private long task;
+  private long item;
+  private AuthenticatedUser principal;
+
+  @BeforeEach
+  void setUp() {
+    household = insertHousehold();
+    long owner = insertUser(household);
+    member = insertUser(household);
+    task = insertTask(household);
+    insertResponsible(task, member, 1);
+    jdbc.update("UPDATE tasks SET next_due = TIMESTAMP '2000-01-01 00:00:00' WHERE task_id = ?", task);
+    item = ids.reserve("shopping_items", 1);
+    jdbc.update("INSERT INTO shopping_items (item_id, household_id, added_by, name) VALUES (?, ?, ?, 'Milk')",
+        item, household, owner);
+    principal = new AuthenticatedUser(member, emailOf(member), null, Role.MEMBER, household, 0);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    jdbc.update("DELETE FROM task_logs WHERE household_id = ?", household);
+    jdbc.update("DELETE FROM tasks WHERE household_id = ?", household);
+    jdbc.update("DELETE FROM shopping_items WHERE household_id = ?", household);
+    jdbc.update("DELETE FROM users WHERE household_id = ? OR user_id = ?", household, member);
+    jdbc.update("DELETE FROM households WHERE household_id = ?", household);
+  }
+
+  private int logs() {
+    return jdbc.queryForObject("SELECT COUNT(*) FROM task_logs WHERE task_id = ?", Integer.class, task);
+  }
+
+  @Test
+  void shouldReportTaskMissingToDeletedAccount() {
+    // Arrange
+    jdbc.update("DELETE FROM users WHERE user_id = ?", member);
+
+    // Act & Assert
+    assertThrows(EntityNotFoundException.class, () -> taskService.completeTask(task, principal));
+    assertEquals(0, logs());
+  }
+
+  @Test
+  void shouldReportTasksMissingToMemberWhoLeftHousehold() {
+    // Arrange
+    jdbc.update("UPDATE users SET household_id = NULL WHERE user_id = ?", member);
+
+    // Act & Assert
+    assertEquals("Task not found", taskService.completeTasks(List.of(task), principal).get(0).getMessage());
+    assertEquals(0, logs());
+  }
+
+  @Test
+  void shouldReportItemsMissingToDeletedAccount() {
+    // Arrange
+    jdbc.update("DELETE FROM users WHERE user_id = ?", member);
+
+    // Act & Assert
+    assertThrows(EntityNotFoundException.class, () -> shoppingItemService.markPurchasedBatch(List.of(item), principal));
+    assertFalse(jdbc.queryForObject("SELECT purchased FROM shopping_items WHERE item_id = ?", Boolean.class, item));
+  }
+
+  @Test
+  void shouldReportAccountDeletedAfterConfirmationAsConflict() {
+    // Arrange: the account is deleted on another connection once the completion has loaded the task
+    TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+    // Act
+    DataIntegrityViolationException e = assertThrows(DataIntegrityViolationException.class, () ->
+        tx.executeWithoutResult(status -> {
+          taskService.completeTask(task, principal);
+          CompletableFuture.runAsync(() -> jdbc.update("DELETE FROM users WHERE user_id = ?", member)).join();
+        }));
+
+    // Assert
+    assertEquals(HttpStatus.CONFLICT, new GlobalExceptionHandler().handleDataIntegrityViolation(e).getStatusCode());
+    assertEquals(0, logs());
+  }
+}
@@ -0,0 +1,72 @@
+package com.roomies.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Base for JPA tests on H2 in MySQL mode with the Flyway schema. Rows are inserted with plain
+ * JDBC, with ids reserved from {@link IdSequences} so they never collide with the blocks
+ * Hibernate holds.
+ */
+@DataJpaTest
+@Import(IdSequences.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:query_count;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+abstract class H2JpaTest {
+
+  private static int households;
+  private static int users;
+
+  @Autowired protected JdbcTemplate jdbc;
+  @Autowired protected IdSequences ids;
+
+  protected long insertHousehold() {
+    long id = ids.reserve("households", 1);
+    jdbc.update("INSERT INTO households (household_id, name, join_code) VALUES (?, 'House', ?)",
+        id, "Q" + (++households));
+    return id;
+  }
+
+  protected long insertUser(long householdId) {
+    long id = ids.reserve("users", 1);
+    jdbc.update("INSERT INTO users (user_id, email, display_name, password, household_id) VALUES (?, ?, ?, ?, ?)",
+        id, "q" + (++users) + "@example.com", "User " + users, "x".repeat(60), householdId);
+    return id;
+  }
+
+  protected String emailOf(long userId) {
+    return jdbc.queryForObject("SELECT email FROM users WHERE user_id = ?", String.class, userId);
+  }
+
+  protected long insertTask(long householdId) {
+    long id = ids.reserve("tasks", 1);
+    jdbc.update("INSERT INTO tasks (task_id, household_id, description, frequency, start_date, next_due) "
+        + "VALUES (?, ?, 'Dishes', 'DAILY', CURRENT_DATE, CURRENT_TIMESTAMP)", id, householdId);
+    return id;
+  }
+
+  protected long insertResponsible(long taskId, long userId, int position) {
+    long id = ids.reserve("task_responsibles", 1);
+    jdbc.update("INSERT INTO task_responsibles (responsible_id, task_id, user_id, position) VALUES (?, ?, ?, ?)",
+        id, taskId, userId, position);
+    return id;
+  }
+
+  protected void insertLog(long taskId, long householdId, long userId) {
+    jdbc.update("INSERT INTO task_logs (log_id, task_id, household_id, completed_by) VALUES (?, ?, ?, ?)",
+        ids.reserve("task_logs", 1), taskId, householdId, userId);
+  }
+}
@@ -0,0 +1,86 @@
+package com.roomies.repository;
+
+import com.roomies.entity.Task;
+import com.roomies.entity.TaskResponsible;
+import com.roomies.entity.User;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pooled id generation from {@code id_sequences}, and the insert batching it enables.
+ */
+class PooledIdGenerationTest extends QueryCountTest {
+
+  @Autowired private TaskRepository taskRepo;
+  @Autowired private TaskResponsibleRepository respRepo;
+  @Autowired private UserRepository userRepo;
+
+  private long household;
+  private long task;
+  private List<Long> members;
+
+  @BeforeEach
+  void setUp() {
+    household = insertHousehold();
+    task = insertTask(household);
+    members = new ArrayList<>();
+    for (int i = 0; i < 6; i++) members.add(insertUser(household));
+  }
+
+  private long nextVal(String sequence) {
+    return jdbc.queryForObject("SELECT next_val FROM id_sequences WHERE sequence_name = ?", Long.class, sequence);
+  }
+
+  private List<TaskResponsible> responsibles(int count) {
+    Task t = taskRepo.getReferenceById(task);
+    List<TaskResponsible> out = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      User u = userRepo.getReferenceById(members.get(i));
+      out.add(new TaskResponsible(t, u, i + 1));
+    }
+    return out;
+  }
+
+  @Test
+  void shouldBatchInsertsIntoOneStatement() {
+    // Act
+    long statements = statementsFor(() -> {
+      respRepo.saveAll(responsibles(6));
+      respRepo.flush();
+    });
+
+    // Assert: one INSERT prepared for all six rows; the block reservation runs in its own transaction
+    assertEquals(6, jdbc.queryForObject("SELECT COUNT(*) FROM task_responsibles WHERE task_id = ?",
+        Integer.class, task));
+    assertEquals(1, statements);
+  }
+
+  @Test
+  void shouldHandOutConsecutiveIdsFromOneReservedBlock() {
+    // Act
+    List<Long> ids = respRepo.saveAll(responsibles(3)).stream().map(TaskResponsible::getResponsibleId).toList();
+
+    // Assert: pooled-lo keeps the stored value past every id handed out
+    assertEquals(List.of(ids.get(0), ids.get(0) + 1, ids.get(0) + 2), ids);
+    assertTrue(nextVal("task_responsibles") > ids.get(2));
+  }
+
+  @Test
+  void shouldNotOverlapIdsReservedOutsideHibernate() {
+    // Arrange: Hibernate holds a block, then JDBC reserves the ids after it
+    long first = respRepo.save(responsibles(1).get(0)).getResponsibleId();
+    long reserved = ids.reserve("task_responsibles", 10);
+
+    // Act
+    List<TaskResponsible> more = respRepo.saveAll(responsibles(6).subList(1, 6));
+
+    // Assert
+    assertTrue(reserved > first);
+    more.forEach(r -> assertTrue(r.getResponsibleId() < reserved || r.getResponsibleId() >= reserved + 10));
+  }
+}
@@ -0,0 +1,35 @@
+package com.roomies.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Base for tests that count the JDBC statements Hibernate prepares. The persistence context
+ * is cleared before each measurement, as at the start of a request, so association loads
+ * show up in the count.
+ */
+abstract class QueryCountTest extends H2JpaTest {
+
+  @Autowired private EntityManager em;
+  @Autowired private EntityManagerFactory emf;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void enableStatistics() {
+    statistics = emf.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  /** Statements prepared by {@code work}, starting from an empty persistence context. */
+  protected long statementsFor(Runnable work) {
+    em.flush();
+    em.clear();
+    statistics.clear();
+    work.run();
+    return statistics.getPrepareStatementCount();
+  }
+}
@@ -0,0 +1,111 @@
+package com.roomies.repository;
+
+import com.roomies.dto.task.TaskResponsibleDto;
+import com.roomies.entity.Role;
+import com.roomies.security.AuthenticatedUser;
+import com.roomies.service.HouseholdVersionService;
+import com.roomies.service.TaskService;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Deleting an account mid-rotation: the responsible rows go with the user (ON DELETE CASCADE),
+ * so {@link TaskService#removeFromRotations} must first keep whoever was next in line next.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskService.class, HouseholdVersionService.class})
+class RotationRemovalTest extends H2JpaTest {
+
+  @Autowired private TaskService taskService;
+
+  private long household;
+  private long a;
+  private long b;
+  private long c;
+  private long task;
+  private AuthenticatedUser principal;
+
+  @BeforeEach
+  void setUp() {
+    household = insertHousehold();
+    a = insertUser(household);
+    b = insertUser(household);
+    c = insertUser(household);
+    task = insertTask(household);
+    insertResponsible(task, a, 1);
+    insertResponsible(task, b, 2);
+    insertResponsible(task, c, 3);
+    principal = new AuthenticatedUser(b, emailOf(b), null, Role.MEMBER, household, 0);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    jdbc.update("DELETE FROM tasks WHERE household_id = ?", household);
+    jdbc.update("DELETE FROM users WHERE household_id = ?", household);
+    jdbc.update("DELETE FROM households WHERE household_id = ?", household);
+  }
+
+  private void setOffset(int offset) {
+    jdbc.update("UPDATE tasks SET rotation_offset = ? WHERE task_id = ?", offset, task);
+  }
+
+  private void deleteAccount(long userId) {
+    taskService.removeFromRotations(userId);
+    jdbc.update("DELETE FROM users WHERE user_id = ?", userId);
+  }
+
+  private List<Long> turnOrder() {
+    return taskService.getTaskById(task, principal).getResponsibles().stream()
+        .map(TaskResponsibleDto::getUserId).toList();
+  }
+
+  @Test
+  void shouldKeepNextInLineWhenEarlierResponsibleIsDeleted() {
+    // Arrange: A, B, C at offset 1, so B is next
+    setOffset(1);
+
+    // Act
+    deleteAccount(a);
+
+    // Assert
+    assertEquals(List.of(b, c), turnOrder());
+    assertEquals(List.of(1, 2), jdbc.queryForList(
+        "SELECT position FROM task_responsibles WHERE task_id = ? ORDER BY user_id", Integer.class, task));
+    assertEquals(0, jdbc.queryForObject(
+        "SELECT rotation_offset FROM tasks WHERE task_id = ?", Integer.class, task));
+  }
+
+  @Test
+  void shouldPassTurnOnWhenNextInLineIsDeleted() {
+    // Arrange: A, B, C at offset 4, so B is next
+    setOffset(4);
+
+    // Act
+    deleteAccount(b);
+
+    // Assert
+    assertEquals(List.of(c, a), turnOrder());
+  }
+
+  @Test
+  void shouldBumpHouseholdChangeVersion() {
+    // Arrange
+    long before = jdbc.queryForObject(
+        "SELECT change_version FROM households WHERE household_id = ?", Long.class, household);
+
+    // Act
+    deleteAccount(c);
+
+    // Assert
+    assertTrue(jdbc.queryForObject(
+        "SELECT change_version FROM households WHERE household_id = ?", Long.class, household) > before);
+  }
+}
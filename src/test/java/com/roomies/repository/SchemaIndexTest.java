@@ -0,0 +1,159 @@
+package com.roomies.repository;
+
+import java.util.List;
+import java.util.Map;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Applies the Flyway migrations to an embedded H2 database in MySQL mode and checks
+ * with EXPLAIN that the hot queries are planned on their dedicated indexes.
+ *
+ * <p>H2 only credits an index for avoiding a sort when ORDER BY matches it from the first
+ * column, whereas MySQL also skips columns pinned by equality. The queries below therefore
+ * repeat the equality column in ORDER BY; the result order is the same.
+ */
+class SchemaIndexTest {
+
+  private static final int HOUSEHOLDS = 50;
+
+  private static JdbcTemplate jdbc;
+  private static IdSequences ids;
+
+  @BeforeAll
+  static void migrate() {
+    JdbcDataSource ds = new JdbcDataSource();
+    ds.setURL("jdbc:h2:mem:schema_index;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+    Flyway.configure().dataSource(ds).load().migrate();
+    jdbc = new JdbcTemplate(ds);
+    ids = new IdSequences(jdbc, new DataSourceTransactionManager(ds));
+    seed();
+  }
+
+  /**
+   * Enough rows per household that the planner's statistics resemble production. Ids are
+   * reserved from id_sequences, since the id columns have no AUTO_INCREMENT (V13).
+   */
+  private static void seed() {
+    for (int h = 1; h <= HOUSEHOLDS; h++) {
+      long household = ids.reserve("households", 1);
+      jdbc.update("INSERT INTO households (household_id, name, join_code) VALUES (?, ?, ?)",
+          household, "House " + h, "H" + h);
+      long firstUser = ids.reserve("users", 4);
+      for (int u = 0; u < 4; u++) {
+        jdbc.update("INSERT INTO users (user_id, email, display_name, password, household_id, confirmation_token) "
+            + "VALUES (?, ?, ?, ?, ?, ?)", firstUser + u, "u" + h + "_" + u + "@example.com", "User",
+            "x".repeat(60), household, "token-" + h + "-" + u);
+      }
+      for (int t = 0; t < 20; t++) {
+        jdbc.update("INSERT INTO tasks (task_id, household_id, description, frequency, start_date, next_due) "
+            + "VALUES (?, ?, 'Task ' || ?, 'WEEKLY', CURRENT_DATE, DATEADD('DAY', ?, CURRENT_DATE))",
+            ids.reserve("tasks", 1), household, t, t);
+        jdbc.update("INSERT INTO shopping_items (item_id, household_id, added_by, name, purchased) "
+            + "VALUES (?, ?, ?, 'Item', ?)", ids.reserve("shopping_items", 1), household, firstUser, t % 2);
+      }
+    }
+    int responsibles = jdbc.queryForObject("SELECT COUNT(*) FROM tasks t "
+        + "JOIN users u ON u.household_id = t.household_id", Integer.class);
+    long firstResponsible = ids.reserve("task_responsibles", responsibles);
+    jdbc.update("INSERT INTO task_responsibles (responsible_id, task_id, user_id, position) "
+        + "SELECT ? - 1 + ROW_NUMBER() OVER (ORDER BY t.task_id, u.user_id), t.task_id, u.user_id, "
+        + "MOD(u.user_id, 4) + 1 FROM tasks t "
+        + "JOIN users u ON u.household_id = t.household_id", firstResponsible);
+    long firstLog = ids.reserve("task_logs", responsibles);
+    jdbc.update("INSERT INTO task_logs (log_id, task_id, household_id, completed_by) "
+        + "SELECT ? - 1 + ROW_NUMBER() OVER (ORDER BY r.responsible_id), r.task_id, t.household_id, r.user_id "
+        + "FROM task_responsibles r JOIN tasks t ON t.task_id = r.task_id", firstLog);
+    jdbc.execute("ANALYZE");
+  }
+
+  private static String explain(String sql) {
+    return jdbc.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+  }
+
+  @Test
+  void shouldApplyAllMigrations() {
+    List<Map<String, Object>> history = jdbc.queryForList(
+        "SELECT \"version\", \"success\" FROM \"flyway_schema_history\" ORDER BY \"installed_rank\"");
+    assertFalse(history.isEmpty());
+    assertTrue(history.stream().allMatch(r -> Boolean.TRUE.equals(r.get("success"))));
+  }
+
+  @Test
+  void compositeIndexesHaveExpectedColumnOrder() {
+    assertEquals(List.of("household_id", "next_due"), indexColumns("idx_tasks_household_next_due"));
+    assertEquals(List.of("household_id", "purchased", "added_at"),
+        indexColumns("idx_shop_household_purchased_added"));
+    assertEquals(List.of("task_id", "position"), indexColumns("idx_responsibles_task_position"));
+    assertEquals(List.of("confirmation_token"), indexColumns("idx_users_confirmation_token"));
+    assertEquals(List.of("household_id", "completed_at", "log_id"),
+        indexColumns("idx_logs_household_completed"));
+    assertEquals(List.of("status", "next_attempt_at"), indexColumns("idx_outbox_status_next_attempt"));
+    assertEquals(List.of("household_id", "change_version"), indexColumns("idx_tasks_household_version"));
+    assertEquals(List.of("household_id", "change_version"), indexColumns("idx_shop_household_version"));
+    assertEquals(List.of("household_id", "change_version"),
+        indexColumns("idx_tombstones_household_version"));
+  }
+
+  @Test
+  void householdTasksDueBeforeUseCompositeIndex() {
+    String plan = explain("SELECT * FROM tasks WHERE household_id = 1 AND next_due < CURRENT_DATE "
+        + "ORDER BY household_id, next_due");
+    assertTrue(plan.contains("idx_tasks_household_next_due"), plan);
+  }
+
+  @Test
+  void openShoppingItemsUseHouseholdPurchasedIndex() {
+    String plan = explain("SELECT * FROM shopping_items WHERE household_id = 1 AND purchased = 0 "
+        + "ORDER BY household_id, purchased, added_at");
+    assertTrue(plan.contains("idx_shop_household_purchased_added"), plan);
+  }
+
+  @Test
+  void responsibleAtPositionUsesTaskPositionIndex() {
+    // TaskResponsibleRepository.findByTask_TaskIdAndPosition
+    String plan = explain("SELECT * FROM task_responsibles WHERE task_id = 1 AND position = 1");
+    assertTrue(plan.contains("idx_responsibles_task_position"), plan);
+  }
+
+  @Test
+  void confirmationTokenLookupUsesIndex() {
+    String plan = explain("SELECT * FROM users WHERE confirmation_token = 'token-1-0'");
+    assertTrue(plan.contains("idx_users_confirmation_token"), plan);
+  }
+
+  @Test
+  void householdLogSeekUsesHouseholdCompletedIndex() {
+    // TaskLogRepository.findByHouseholdBefore
+    String plan = explain("SELECT * FROM task_logs WHERE household_id = 1 "
+        + "AND completed_at <= CURRENT_TIMESTAMP AND (completed_at < CURRENT_TIMESTAMP OR log_id < 100) "
+        + "ORDER BY household_id DESC, completed_at DESC, log_id DESC");
+    assertTrue(plan.contains("idx_logs_household_completed"), plan);
+  }
+
+  @Test
+  void devSeedIsIdempotent() {
+    JdbcDataSource ds = new JdbcDataSource();
+    ds.setURL("jdbc:h2:mem:dev_seed;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+    Flyway flyway = Flyway.configure().dataSource(ds)
+        .locations("classpath:db/migration", "classpath:db/dev").load();
+
+    flyway.migrate();
+    flyway.migrate();
+
+    JdbcTemplate dev = new JdbcTemplate(ds);
+    assertEquals(1, dev.queryForObject("SELECT COUNT(*) FROM households", Integer.class));
+    assertEquals(2, dev.queryForObject("SELECT COUNT(*) FROM users", Integer.class));
+  }
+
+  private static List<String> indexColumns(String indexName) {
+    return jdbc.queryForList("SELECT LOWER(column_name) FROM information_schema.index_columns "
+        + "WHERE LOWER(index_name) = ? ORDER BY ordinal_position", String.class, indexName);
+  }
+}
@@ -0,0 +1,152 @@
+package com.roomies.repository;
+
+import com.roomies.dto.shoppingitem.ShoppingItemResponseDto;
+import com.roomies.entity.ShoppingItem;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement counts for the ShoppingItemRepository methods.
+ */
+class ShoppingItemQueryCountTest extends QueryCountTest {
+
+  @Autowired private ShoppingItemRepository shoppingItemRepo;
+
+  private long household;
+
+  @BeforeEach
+  void setUp() {
+    household = insertHousehold();
+  }
+
+  /** Adds {@code count} items, each added (and every other one purchased) by a different user. */
+  private void insertItems(int count) {
+    for (int i = 0; i < count; i++) {
+      long adder = insertUser(household);
+      long buyer = insertUser(household);
+      jdbc.update("INSERT INTO shopping_items (item_id, household_id, added_by, purchased_by, name, purchased) "
+          + "VALUES (?, ?, ?, ?, 'Item', ?)", ids.reserve("shopping_items", 1), household, adder,
+          i % 2 == 0 ? buyer : null, i % 2 == 0);
+    }
+  }
+
+  private List<Long> itemIds() {
+    return jdbc.queryForList("SELECT item_id FROM shopping_items WHERE household_id = ?", Long.class, household);
+  }
+
+  @Test
+  void shoppingListIsOneStatementRegardlessOfSize() {
+    // Arrange
+    insertItems(2);
+    long small = statementsFor(() -> shoppingItemRepo.findResponsesByHousehold(household));
+    insertItems(30);
+
+    // Act
+    long large = statementsFor(() -> shoppingItemRepo.findResponsesByHousehold(household));
+
+    // Assert
+    assertEquals(1, small);
+    assertEquals(1, large);
+  }
+
+  @Test
+  void shoppingListCarriesJoinedNames() {
+    // Arrange
+    insertItems(2);
+
+    // Act
+    List<ShoppingItemResponseDto> items = shoppingItemRepo.findResponsesByHousehold(household);
+
+    // Assert: unpurchased first; the purchased item keeps its buyer's name
+    assertEquals(2, items.size());
+    assertFalse(items.get(0).isPurchased());
+    assertNull(items.get(0).getPurchasedBy());
+    assertTrue(items.get(1).isPurchased());
+    assertNotNull(items.get(1).getPurchasedBy());
+    assertNotEquals(items.get(1).getAddedBy(), items.get(1).getPurchasedBy());
+  }
+
+  @Test
+  void changedSinceIsOneStatementRegardlessOfSize() {
+    // Arrange
+    insertItems(25);
+
+    // Act
+    long statements = statementsFor(() -> shoppingItemRepo.findResponsesChangedSince(household, -1));
+
+    // Assert
+    assertEquals(1, statements);
+  }
+
+  @Test
+  void purchaseBatchLoadsItemsAndConfirmsMemberInOneStatement() {
+    // Arrange
+    insertItems(10);
+    List<Long> ids = itemIds();
+    long member = insertUser(household);
+
+    // Act
+    long statements = statementsFor(() -> {
+      List<ShoppingItem> items = shoppingItemRepo.findAllForMember(household, member, ids);
+      items.forEach(i -> assertNotNull(i.getName()));
+    });
+
+    // Assert
+    assertEquals(1, statements);
+  }
+
+  @Test
+  void singleItemReadsHouseholdIdFromProxy() {
+    // Arrange
+    insertItems(1);
+    Long id = itemIds().get(0);
+
+    // Act
+    long statements = statementsFor(() ->
+        assertEquals(household, shoppingItemRepo.findById(id).orElseThrow().getHousehold().getHouseholdId()));
+
+    // Assert
+    assertEquals(1, statements);
+  }
+
+  @Test
+  void updateIsOneScopedStatementThatBumpsVersion() {
+    // Arrange
+    insertItems(1);
+    Long id = itemIds().get(0);
+    long otherHousehold = insertHousehold();
+
+    // Act
+    long statements = statementsFor(() -> {
+      assertEquals(0, shoppingItemRepo.updateDetails(id, otherHousehold, "Stolen", null));
+      assertEquals(1, shoppingItemRepo.updateDetails(id, household, "Bread", "2"));
+    });
+
+    // Assert
+    assertEquals(2, statements);
+    assertEquals("Bread", jdbc.queryForObject("SELECT name FROM shopping_items WHERE item_id = ?", String.class, id));
+    assertEquals(1, jdbc.queryForObject("SELECT version FROM shopping_items WHERE item_id = ?", Long.class, id));
+  }
+
+  @Test
+  void deleteIsOneScopedStatement() {
+    // Arrange
+    insertItems(1);
+    Long id = itemIds().get(0);
+    long otherHousehold = insertHousehold();
+
+    // Act
+    long statements = statementsFor(() -> {
+      assertEquals(0, shoppingItemRepo.deleteByItemIdAndHouseholdId(id, otherHousehold));
+      assertEquals(1, shoppingItemRepo.deleteByItemIdAndHouseholdId(id, household));
+    });
+
+    // Assert
+    assertEquals(2, statements);
+    assertTrue(itemIds().isEmpty());
+  }
+}
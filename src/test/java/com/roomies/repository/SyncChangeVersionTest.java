@@ -0,0 +1,142 @@
+package com.roomies.repository;
+
+import com.roomies.dto.shoppingitem.ShoppingItemRequestDto;
+import com.roomies.dto.shoppingitem.ShoppingItemResponseDto;
+import com.roomies.dto.sync.SyncResponseDto;
+import com.roomies.dto.task.TaskCreateRequestDto;
+import com.roomies.dto.task.TaskResponseDto;
+import com.roomies.entity.Frequency;
+import com.roomies.entity.Role;
+import com.roomies.entity.Rotation;
+import com.roomies.security.AuthenticatedUser;
+import com.roomies.service.HouseholdVersionService;
+import com.roomies.service.ShoppingItemService;
+import com.roomies.service.SyncService;
+import com.roomies.service.TaskService;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Incremental sync across committed service transactions: every write must reach
+ * {@code GET /api/sync?since=} through the change version stamped before commit, including
+ * rows whose INSERT Hibernate defers to the commit flush.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskService.class, ShoppingItemService.class, SyncService.class, HouseholdVersionService.class})
+class SyncChangeVersionTest extends H2JpaTest {
+
+  @Autowired private TaskService taskService;
+  @Autowired private ShoppingItemService shoppingItemService;
+  @Autowired private SyncService syncService;
+
+  private long household;
+  private long member;
+  private AuthenticatedUser principal;
+
+  @BeforeEach
+  void setUp() {
+    household = insertHousehold();
+    member = insertUser(household);
+    principal = new AuthenticatedUser(member, emailOf(member), null, Role.MEMBER, household, 0);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    jdbc.update("DELETE FROM task_logs WHERE household_id = ?", household);
+    jdbc.update("DELETE FROM tasks WHERE household_id = ?", household);
+    jdbc.update("DELETE FROM shopping_items WHERE household_id = ?", household);
+    jdbc.update("DELETE FROM users WHERE household_id = ?", household);
+    jdbc.update("DELETE FROM households WHERE household_id = ?", household);
+  }
+
+  private ShoppingItemRequestDto item(String name) {
+    ShoppingItemRequestDto dto = new ShoppingItemRequestDto();
+    dto.setName(name);
+    dto.setQuantity("1");
+    return dto;
+  }
+
+  private TaskCreateRequestDto task(String description) {
+    TaskCreateRequestDto dto = new TaskCreateRequestDto();
+    dto.setDescription(description);
+    dto.setFrequency(Frequency.DAILY);
+    dto.setRotation(Rotation.SINGLE);
+    dto.setStartDate(LocalDate.now());
+    dto.setResponsibleUserIds(List.of(member));
+    return dto;
+  }
+
+  private List<String> itemNames(SyncResponseDto sync) {
+    return sync.getShoppingItems().stream().map(ShoppingItemResponseDto::getName).toList();
+  }
+
+  private List<String> taskDescriptions(SyncResponseDto sync) {
+    return sync.getTasks().stream().map(TaskResponseDto::getDescription).toList();
+  }
+
+  @Test
+  void shouldSyncCreatedItemsAndTasks() {
+    // Act
+    shoppingItemService.createItem(item("Milk"), principal.getEmail());
+    taskService.createTask(task("Dishes"), principal.getEmail());
+    SyncResponseDto sync = syncService.getChangesSince(principal, 0L);
+
+    // Assert
+    assertFalse(sync.isFull());
+    assertEquals(2, sync.getVersion());
+    assertEquals(List.of("Milk"), itemNames(sync));
+    assertEquals(List.of("Dishes"), taskDescriptions(sync));
+    assertEquals(0, jdbc.queryForObject(
+        "SELECT COUNT(*) FROM shopping_items WHERE household_id = ? AND change_version = 0", Integer.class, household));
+  }
+
+  @Test
+  void shouldSyncOnlyWhatChangedAfterClientVersion() {
+    // Arrange
+    shoppingItemService.createItem(item("Milk"), principal.getEmail());
+    long seen = syncService.getChangesSince(principal, null).getVersion();
+
+    // Act
+    shoppingItemService.createItem(item("Bread"), principal.getEmail());
+    taskService.createTasks(List.of(task("Trash"), task("Laundry")), principal);
+    SyncResponseDto sync = syncService.getChangesSince(principal, seen);
+
+    // Assert
+    assertEquals(List.of("Bread"), itemNames(sync));
+    assertEquals(List.of("Laundry", "Trash"), taskDescriptions(sync).stream().sorted().toList());
+  }
+
+  @Test
+  void shouldSyncItemsOfDeletedMember() {
+    // Arrange: the leaving member added Eggs and bought the member's Milk
+    long leaving = insertUser(household);
+    AuthenticatedUser leaver = new AuthenticatedUser(leaving, emailOf(leaving), null, Role.MEMBER, household, 0);
+    shoppingItemService.createItem(item("Milk"), principal.getEmail());
+    shoppingItemService.createItem(item("Eggs"), leaver.getEmail());
+    long milk = jdbc.queryForObject("SELECT item_id FROM shopping_items WHERE name = 'Milk' AND household_id = ?",
+        Long.class, household);
+    long eggs = jdbc.queryForObject("SELECT item_id FROM shopping_items WHERE name = 'Eggs' AND household_id = ?",
+        Long.class, household);
+    shoppingItemService.markPurchasedBatch(List.of(milk), leaver);
+    long seen = syncService.getChangesSince(principal, null).getVersion();
+
+    // Act
+    shoppingItemService.removeMember(leaving);
+    jdbc.update("DELETE FROM users WHERE user_id = ?", leaving);
+    SyncResponseDto sync = syncService.getChangesSince(principal, seen);
+
+    // Assert
+    assertEquals(List.of(eggs), sync.getDeletedShoppingItemIds());
+    assertEquals(List.of("Milk"), itemNames(sync));
+    assertNull(sync.getShoppingItems().get(0).getPurchasedBy());
+  }
+}
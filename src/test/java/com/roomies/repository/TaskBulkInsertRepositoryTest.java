@@ -0,0 +1,101 @@
+package com.roomies.repository;
+
+import com.roomies.dto.task.TaskResponseDto;
+import com.roomies.dto.task.TaskResponsibleDto;
+import com.roomies.entity.Frequency;
+import com.roomies.entity.Rotation;
+import com.roomies.repository.projection.NewTaskRow;
+import com.roomies.repository.projection.UserHouseholdRow;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bulk task inserts and the responsible lookup that validates them, on the Flyway schema.
+ */
+class TaskBulkInsertRepositoryTest extends QueryCountTest {
+
+  @Autowired private TaskRepository taskRepo;
+  @Autowired private UserRepository userRepo;
+
+  private long household;
+  private long first;
+  private long second;
+
+  @BeforeEach
+  void setUp() {
+    household = insertHousehold();
+    first = insertUser(household);
+    second = insertUser(household);
+  }
+
+  private NewTaskRow row(String description, List<Long> responsibles) {
+    LocalDate start = LocalDate.now();
+    return new NewTaskRow(description, Frequency.WEEKLY, Rotation.TEAM, start,
+        start.atStartOfDay(), responsibles);
+  }
+
+  @Test
+  void shouldReturnGeneratedIdsInInputOrder() {
+    // Act
+    List<Long> ids = taskRepo.insertAll(household, List.of(
+        row("Dishes", List.of(first)), row("Trash", List.of(second)), row("Floors", List.of(first))));
+
+    // Assert
+    assertEquals(3, ids.size());
+    assertEquals(List.of("Dishes", "Trash", "Floors"), ids.stream()
+        .map(id -> jdbc.queryForObject("SELECT description FROM tasks WHERE task_id = ?", String.class, id))
+        .toList());
+  }
+
+  @Test
+  void shouldInsertResponsiblesInListOrder() {
+    // Act
+    List<Long> ids = taskRepo.insertAll(household, List.of(
+        row("Dishes", List.of(second, first)), row("Trash", List.of(first))));
+
+    // Assert: the board reads back what was written
+    List<TaskResponseDto> board = taskRepo.findBoardByHousehold(household).stream()
+        .sorted(Comparator.comparing(TaskResponseDto::getTaskId))
+        .toList();
+    assertEquals(ids, board.stream().map(TaskResponseDto::getTaskId).toList());
+    assertEquals(List.of(second, first),
+        board.get(0).getResponsibles().stream().map(TaskResponsibleDto::getUserId).toList());
+    assertEquals(List.of(1, 2),
+        board.get(0).getResponsibles().stream().map(TaskResponsibleDto::getPosition).toList());
+    assertEquals(Frequency.WEEKLY, board.get(1).getFrequency());
+    assertEquals(Rotation.TEAM, board.get(1).getRotation());
+    assertEquals(LocalDate.now(), board.get(1).getStartDate());
+  }
+
+  @Test
+  void shouldNotTouchThePersistenceContext() {
+    // Act
+    long statements = statementsFor(() -> taskRepo.insertAll(household, List.of(
+        row("Dishes", List.of(first, second)), row("Trash", List.of(second)))));
+
+    // Assert
+    assertEquals(0, statements);
+  }
+
+  @Test
+  void shouldLookUpHouseholdsOfManyUsersInOneStatement() {
+    // Arrange
+    long other = insertUser(insertHousehold());
+    List<Long> ids = List.of(first, second, other, -1L);
+
+    // Act
+    long statements = statementsFor(() -> assertEquals(3, userRepo.findHouseholdsOf(ids).size()));
+    List<UserHouseholdRow> rows = userRepo.findHouseholdsOf(ids);
+
+    // Assert
+    assertEquals(1, statements);
+    assertTrue(rows.contains(new UserHouseholdRow(first, household)));
+    assertTrue(rows.stream().anyMatch(r -> r.userId() == other && !r.householdId().equals(household)));
+  }
+}
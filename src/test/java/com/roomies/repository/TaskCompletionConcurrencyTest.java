@@ -0,0 +1,202 @@
+package com.roomies.repository;
+
+import com.roomies.entity.Role;
+import com.roomies.exception.GlobalExceptionHandler;
+import com.roomies.security.AuthenticatedUser;
+import com.roomies.service.HouseholdVersionService;
+import com.roomies.service.TaskService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress test for {@code TaskService.completeTask} under parallel load. Each completion runs
+ * in its own committed transaction, as it would per request, including the
+ * {@link HouseholdVersionService} bump of {@code households.change_version} before commit.
+ * All tasks share one household, so completions of distinct tasks wait for each other on the
+ * household row for the length of a commit, but never conflict; completions of the same task
+ * are decided by the optimistic version check on the task row.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskService.class, HouseholdVersionService.class})
+class TaskCompletionConcurrencyTest extends H2JpaTest {
+
+  private static final Logger log = LoggerFactory.getLogger(TaskCompletionConcurrencyTest.class);
+  private static final int COMPLETIONS_PER_TASK = 20;
+  /** Parallel throughput relative to serial below which the household row is a bottleneck; slack for noise. */
+  private static final double PARALLEL_FLOOR = 0.8;
+
+  @Autowired private TaskRepository taskRepo;
+  @Autowired private TaskService taskService;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private final int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+  private TransactionTemplate tx;
+  private long household;
+  private AuthenticatedUser principal;
+  private List<Long> tasks;
+
+  @BeforeEach
+  void setUp() {
+    tx = new TransactionTemplate(transactionManager);
+    household = insertHousehold();
+    List<Long> members = List.of(insertUser(household), insertUser(household), insertUser(household));
+    principal = new AuthenticatedUser(members.get(0), emailOf(members.get(0)), null, Role.MEMBER, household, 0);
+    tasks = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      long task = insertTask(household);
+      for (int p = 0; p < members.size(); p++) insertResponsible(task, members.get(p), p + 1);
+      tasks.add(task);
+    }
+    // Far enough in the past that every completion (one day each) is still due
+    jdbc.update("UPDATE tasks SET rotation = 'SINGLE', start_date = DATE '2000-01-01', "
+        + "next_due = TIMESTAMP '2000-01-01 00:00:00' WHERE household_id = ?", household);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    jdbc.update("DELETE FROM task_logs WHERE household_id = ?", household);
+    jdbc.update("DELETE FROM tasks WHERE household_id = ?", household);
+    jdbc.update("DELETE FROM users WHERE household_id = ?", household);
+    jdbc.update("DELETE FROM households WHERE household_id = ?", household);
+  }
+
+  private void complete(long taskId) {
+    tx.executeWithoutResult(status -> taskService.completeTask(taskId, principal));
+  }
+
+  private long changeVersion() {
+    return jdbc.queryForObject("SELECT change_version FROM households WHERE household_id = ?", Long.class, household);
+  }
+
+  /** Completes each of the first {@code parallelism} tasks on its own thread; returns completions per second. */
+  private double completeDistinctTasks(int parallelism) throws Exception {
+    ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      long start = System.nanoTime();
+      for (Long task : tasks.subList(0, parallelism)) {
+        futures.add(pool.submit(() -> {
+          for (int i = 0; i < COMPLETIONS_PER_TASK; i++) complete(task);
+          return null;
+        }));
+      }
+      for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+      long elapsed = System.nanoTime() - start;
+      return parallelism * COMPLETIONS_PER_TASK / (elapsed / 1e9);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private long version(long taskId) {
+    return jdbc.queryForObject("SELECT version FROM tasks WHERE task_id = ?", Long.class, taskId);
+  }
+
+  private static void await(CyclicBarrier barrier) {
+    try {
+      barrier.await(30, TimeUnit.SECONDS);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  void shouldCompleteDistinctTasksOfOneHouseholdInParallelWithoutConflicts() throws Exception {
+    // Arrange: warm up the path on the first task
+    complete(tasks.get(0));
+
+    // Act
+    double serial = completeDistinctTasks(1);
+    double parallel = completeDistinctTasks(threads);
+
+    // Assert: no completion failed or was lost, and each took its own household version
+    log.info("completeTask throughput, one household: {} /s on 1 thread, {} /s on {} threads ({} cores)",
+        Math.round(serial), Math.round(parallel), threads, Runtime.getRuntime().availableProcessors());
+    assertEquals(1 + 2L * COMPLETIONS_PER_TASK, version(tasks.get(0)));
+    for (Long task : tasks.subList(1, threads)) {
+      assertEquals(COMPLETIONS_PER_TASK, version(task));
+      assertEquals(COMPLETIONS_PER_TASK,
+          jdbc.queryForObject("SELECT rotation_offset FROM tasks WHERE task_id = ?", Integer.class, task));
+      assertEquals(COMPLETIONS_PER_TASK,
+          jdbc.queryForObject("SELECT COUNT(*) FROM task_logs WHERE task_id = ?", Long.class, task));
+    }
+    assertEquals(1 + (long) (threads + 1) * COMPLETIONS_PER_TASK, changeVersion());
+    // The household row is held only around commits, so waiting on it must not make
+    // parallel completions slower than serial ones
+    assertTrue(parallel >= serial * PARALLEL_FLOOR,
+        "parallel " + Math.round(parallel) + "/s fell below serial " + Math.round(serial) + "/s");
+  }
+
+  @Test
+  void shouldLetExactlyOneOfCompletionsFromTheSameVersionWin() throws Exception {
+    // Arrange: every thread loads the task before any of them completes it
+    long task = tasks.get(0);
+    CyclicBarrier loaded = new CyclicBarrier(threads);
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    List<Future<RuntimeException>> outcomes = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      outcomes.add(pool.submit(() -> {
+        try {
+          tx.executeWithoutResult(status -> {
+            taskRepo.findByTaskIdAndHousehold_HouseholdId(task, household).orElseThrow();
+            await(loaded);
+            taskService.completeTask(task, principal);
+          });
+          return null;
+        } catch (OptimisticLockingFailureException e) {
+          return e;
+        }
+      }));
+    }
+
+    // Act
+    List<RuntimeException> losers = new ArrayList<>();
+    for (Future<RuntimeException> f : outcomes) {
+      RuntimeException e = f.get(60, TimeUnit.SECONDS);
+      if (e != null) losers.add(e);
+    }
+    pool.shutdownNow();
+
+    // Assert: one winner is recorded once; every other request is a 409 and leaves nothing behind
+    assertEquals(threads - 1, losers.size());
+    GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    for (RuntimeException e : losers) {
+      assertEquals(HttpStatus.CONFLICT, handler.handleOptimisticLock(e).getStatusCode());
+    }
+    assertEquals(1, version(task));
+    assertEquals(1, jdbc.queryForObject("SELECT rotation_offset FROM tasks WHERE task_id = ?", Integer.class, task));
+    assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM task_logs WHERE task_id = ?", Integer.class, task));
+    assertEquals(1, changeVersion());
+  }
+
+  @Test
+  void shouldBumpVersionOfTaskLoadedForUpdateEvenIfUnchanged() {
+    // Act: TaskService.updateTask when only the responsibles change
+    long task = tasks.get(0);
+    tx.executeWithoutResult(status -> taskRepo.findForUpdateByTaskIdAndHousehold_HouseholdId(task, household).orElseThrow());
+
+    // Assert: so a concurrent completion of the task conflicts with the edit
+    assertEquals(1, version(task));
+  }
+}
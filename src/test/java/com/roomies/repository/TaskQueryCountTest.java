@@ -0,0 +1,379 @@
+package com.roomies.repository;
+
+import com.roomies.dto.task.TaskLogResponseDto;
+import com.roomies.dto.task.TaskResponseDto;
+import com.roomies.dto.task.TaskResponsibleDto;
+import com.roomies.dto.user.UserResponseDto;
+import com.roomies.entity.Role;
+import com.roomies.entity.Task;
+import com.roomies.entity.TaskResponsible;
+import com.roomies.entity.User;
+import com.roomies.security.AuthenticatedUser;
+import com.roomies.service.TaskService;
+import com.roomies.service.util.TaskMapper;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement counts for the task, responsible, log and user repository methods, each
+ * followed by the mapping its service caller performs.
+ */
+class TaskQueryCountTest extends QueryCountTest {
+
+  @Autowired private TaskRepository taskRepo;
+  @Autowired private TaskResponsibleRepository respRepo;
+  @Autowired private TaskLogRepository logRepo;
+  @Autowired private UserRepository userRepo;
+
+  private long household;
+  private List<Long> members;
+
+  @BeforeEach
+  void setUp() {
+    household = insertHousehold();
+    members = List.of(insertUser(household), insertUser(household), insertUser(household));
+  }
+
+  /** Adds tasks shared by all members in rotating order, each completed once. */
+  private void insertTasks(int count) {
+    for (int t = 0; t < count; t++) {
+      long task = insertTask(household);
+      for (int p = 0; p < members.size(); p++) {
+        insertResponsible(task, members.get((t + p) % members.size()), p + 1);
+      }
+      insertLog(task, household, members.get(t % members.size()));
+    }
+  }
+
+  @Nested
+  class TaskList {
+
+    /** What SyncService does for a delta: tasks, then one IN query for their responsibles. */
+    private List<TaskResponseDto> loadEntities() {
+      List<Task> tasks = taskRepo.findByHousehold_HouseholdIdAndChangeVersionGreaterThanOrderByNextDueAsc(household, -1);
+      Map<Long, List<TaskResponsible>> byTaskId = TaskMapper.groupByTaskId(
+          respRepo.findAllByTask_TaskIdInOrderByTask_TaskIdAscPositionAsc(
+              tasks.stream().map(Task::getTaskId).toList()));
+      return tasks.stream()
+          .map(t -> TaskMapper.toDto(t, byTaskId.getOrDefault(t.getTaskId(), List.of())))
+          .toList();
+    }
+
+    private List<String> describe(List<TaskResponseDto> tasks) {
+      return tasks.stream()
+          .sorted(Comparator.comparing(TaskResponseDto::getTaskId))
+          .map(t -> t.getTaskId() + " " + t.getHouseholdId() + " " + t.getDescription() + " "
+              + t.getFrequency() + " " + t.getRotation() + " " + t.getStartDate() + " " + t.getNextDue()
+              + " " + t.getMissedCount() + " " + t.getResponsibles().stream()
+                  .map(r -> r.getPosition() + ":" + r.getUserId() + ":" + r.getFullName()).toList())
+          .toList();
+    }
+
+    @Test
+    void shouldBuildBoardWithoutHibernateStatements() {
+      // Arrange
+      insertTasks(30);
+
+      // Act
+      long statements = statementsFor(() -> assertEquals(30, taskRepo.findBoardByHousehold(household).size()));
+
+      // Assert: the board is read through JdbcTemplate, not the persistence context
+      assertEquals(0, statements);
+    }
+
+    @Test
+    void shouldMatchEntityMapping() {
+      // Arrange
+      insertTasks(12);
+      insertTask(household); // no responsibles
+      insertTasks(1);
+      jdbc.update("UPDATE tasks SET rotation = 'SINGLE', rotation_offset = MOD(task_id, 5)");
+
+      // Act
+      List<TaskResponseDto> board = taskRepo.findBoardByHousehold(household);
+
+      // Assert
+      assertEquals(describe(loadEntities()), describe(board));
+      assertTrue(board.stream().anyMatch(t -> t.getResponsibles().isEmpty()));
+    }
+
+    @Test
+    void shouldPutNextInLineFirst() {
+      // Arrange: one task shared by all members, completed four times
+      long task = insertTask(household);
+      for (int p = 0; p < members.size(); p++) insertResponsible(task, members.get(p), p + 1);
+      jdbc.update("UPDATE tasks SET rotation = 'SINGLE', rotation_offset = 4 WHERE task_id = ?", task);
+
+      // Act
+      TaskResponseDto dto = taskRepo.findBoardByHousehold(household).get(0);
+
+      // Assert: 4 mod 3 = 1, so the member stored second is next
+      assertEquals(List.of(members.get(1), members.get(2), members.get(0)),
+          dto.getResponsibles().stream().map(TaskResponsibleDto::getUserId).toList());
+      assertEquals(List.of(1, 2, 3),
+          dto.getResponsibles().stream().map(TaskResponsibleDto::getPosition).toList());
+    }
+
+    @Test
+    void shouldOrderBoardByNextDueAndResponsiblesByPosition() {
+      // Arrange
+      insertTasks(3);
+      jdbc.update("UPDATE tasks SET next_due = DATEADD('DAY', -1, next_due) WHERE task_id = "
+          + "(SELECT MAX(task_id) FROM tasks)");
+
+      // Act
+      List<TaskResponseDto> board = taskRepo.findBoardByHousehold(household);
+
+      // Assert
+      assertEquals(jdbc.queryForObject("SELECT MAX(task_id) FROM tasks", Long.class), board.get(0).getTaskId());
+      board.forEach(t -> assertEquals(List.of(1, 2, 3),
+          t.getResponsibles().stream().map(TaskResponsibleDto::getPosition).toList()));
+    }
+
+    @Test
+    void shouldStayAtTwoStatementsForSyncDelta() {
+      // Arrange
+      insertTasks(20);
+
+      // Act
+      long statements = statementsFor(() -> {
+        List<Task> tasks = taskRepo.findByHousehold_HouseholdIdAndChangeVersionGreaterThanOrderByNextDueAsc(household, -1);
+        respRepo.findAllByTask_TaskIdInOrderByTask_TaskIdAscPositionAsc(tasks.stream().map(Task::getTaskId).toList())
+            .forEach(r -> assertNotNull(r.getUser().getDisplayName()));
+        tasks.forEach(t -> assertEquals(household, t.getHousehold().getHouseholdId()));
+      });
+
+      // Assert
+      assertEquals(2, statements);
+    }
+  }
+
+  @Nested
+  class SingleTask {
+
+    @Test
+    void shouldRenderOneTaskInTwoStatements() {
+      // Arrange
+      insertTasks(1);
+      Long taskId = jdbc.queryForObject("SELECT MAX(task_id) FROM tasks", Long.class);
+
+      // Act: TaskService.getTaskById
+      long statements = statementsFor(() -> {
+        Task task = taskRepo.findById(taskId).orElseThrow();
+        TaskResponseDto dto = TaskMapper.toDto(task, respRepo.findAllWithUserByTask_TaskIdOrderByPositionAsc(taskId));
+        assertEquals(3, dto.getResponsibles().size());
+      });
+
+      // Assert
+      assertEquals(2, statements);
+    }
+
+    @Test
+    void shouldLoadResponsibleWithoutItsAssociations() {
+      // Arrange
+      insertTasks(1);
+      Long id = jdbc.queryForObject("SELECT MAX(responsible_id) FROM task_responsibles", Long.class);
+
+      // Act
+      long statements = statementsFor(() -> {
+        TaskResponsible r = respRepo.findById(id).orElseThrow();
+        assertNotNull(r.getTask().getTaskId());
+        assertNotNull(r.getUser().getUserId());
+      });
+
+      // Assert
+      assertEquals(1, statements);
+    }
+
+    @Test
+    void shouldLoadResponsiblesForReorderWithoutJoiningUsers() {
+      // Arrange
+      insertTasks(1);
+      Long taskId = jdbc.queryForObject("SELECT MAX(task_id) FROM tasks", Long.class);
+
+      // Act: TaskService.replaceResponsibles only reads user ids
+      long statements = statementsFor(() -> respRepo.findAllByTask_TaskIdOrderByPositionAsc(taskId)
+          .forEach(r -> assertNotNull(r.getUser().getUserId())));
+
+      // Assert
+      assertEquals(1, statements);
+    }
+
+    @Test
+    void shouldDeleteTaskWithItsRowsInOneScopedStatement() {
+      // Arrange
+      insertTasks(1);
+      Long taskId = jdbc.queryForObject("SELECT MAX(task_id) FROM tasks", Long.class);
+      long otherHousehold = insertHousehold();
+
+      // Act: TaskService.deleteTask, first from another household, then from the owner
+      long statements = statementsFor(() -> {
+        assertEquals(0, taskRepo.deleteByTaskIdAndHouseholdId(taskId, otherHousehold));
+        assertEquals(1, taskRepo.deleteByTaskIdAndHouseholdId(taskId, household));
+      });
+
+      // Assert: responsibles and logs go through ON DELETE CASCADE
+      assertEquals(2, statements);
+      assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM task_responsibles WHERE task_id = ?", Integer.class, taskId));
+      assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM task_logs WHERE task_id = ?", Integer.class, taskId));
+    }
+  }
+
+  @Nested
+  class RotationOffset {
+
+    @Test
+    void shouldRotateWithOneVersionedTaskUpdate() {
+      // Arrange
+      insertTasks(1);
+      Long taskId = jdbc.queryForObject("SELECT MAX(task_id) FROM tasks", Long.class);
+
+      // Act: what TaskService.rotateIfSingle adds to a completion
+      long statements = statementsFor(() -> {
+        Task task = taskRepo.findById(taskId).orElseThrow();
+        task.setRotationOffset(task.getRotationOffset() + 1);
+        taskRepo.flush();
+      });
+
+      // Assert: the read and one UPDATE of tasks; task_responsibles is untouched
+      assertEquals(2, statements);
+      assertEquals(1, jdbc.queryForObject("SELECT rotation_offset FROM tasks WHERE task_id = ?", Integer.class, taskId));
+      assertEquals(1, jdbc.queryForObject("SELECT version FROM tasks WHERE task_id = ?", Long.class, taskId));
+    }
+
+    @Test
+    void shouldRejectRotationOfStaleTask() {
+      // Arrange: a concurrent completion (or the sweeper) commits first
+      insertTasks(1);
+      Long taskId = jdbc.queryForObject("SELECT MAX(task_id) FROM tasks", Long.class);
+      statementsFor(() -> { }); // start from an empty persistence context
+      Task task = taskRepo.findById(taskId).orElseThrow();
+      jdbc.update("UPDATE tasks SET rotation_offset = rotation_offset + 1, version = version + 1 WHERE task_id = ?", taskId);
+
+      // Act & Assert
+      task.setRotationOffset(task.getRotationOffset() + 1);
+      assertThrows(ObjectOptimisticLockingFailureException.class, () -> taskRepo.saveAndFlush(task));
+    }
+  }
+
+  @Nested
+  class BulkCompletion {
+
+    private long completeAll() {
+      List<Long> taskIds = jdbc.queryForList("SELECT task_id FROM tasks", Long.class);
+      TaskService service = new TaskService(taskRepo, respRepo, logRepo, userRepo, event -> {});
+      AuthenticatedUser principal = new AuthenticatedUser(
+          members.get(0), emailOf(members.get(0)), null, Role.MEMBER, household, 0);
+      return statementsFor(() -> {
+        service.completeTasks(taskIds, principal);
+        taskRepo.flush();
+      });
+    }
+
+    @Test
+    void shouldNotGrowStatementsWithTaskCount() {
+      // Arrange
+      insertTasks(3);
+      long few = completeAll();
+      jdbc.update("DELETE FROM task_logs");
+      jdbc.update("DELETE FROM task_responsibles");
+      jdbc.update("DELETE FROM tasks");
+      insertTasks(40);
+
+      // Act
+      long many = completeAll();
+
+      // Assert: one read, then one batched INSERT of logs and one batched UPDATE of tasks
+      assertEquals(few, many);
+      assertEquals(3, many);
+      assertEquals(40 + 40, jdbc.queryForObject("SELECT COUNT(*) FROM task_logs", Integer.class));
+    }
+  }
+
+  @Nested
+  class Logs {
+
+    @Test
+    void shouldLoadLogPageWithTasksAndUsersInOneStatement() {
+      // Arrange
+      insertTasks(15);
+
+      // Act
+      long statements = statementsFor(() -> assertEquals(10, TaskLogResponseDto.fromEntities(
+          logRepo.findLatestByHousehold(household, Limit.of(10))).size()));
+
+      // Assert
+      assertEquals(1, statements);
+    }
+
+    @Test
+    void shouldSeekLogPageInOneStatement() {
+      // Arrange
+      insertTasks(15);
+
+      // Act
+      long statements = statementsFor(() -> TaskLogResponseDto.fromEntities(
+          logRepo.findByHouseholdBefore(household, Instant.now().plusSeconds(60), Long.MAX_VALUE, Limit.of(10))));
+
+      // Assert
+      assertEquals(1, statements);
+    }
+
+    @Test
+    void shouldAddOnlyTheCountQueryForOffsetPages() {
+      // Arrange
+      insertTasks(15);
+
+      // Act
+      long statements = statementsFor(() -> TaskLogResponseDto.fromEntities(logRepo.findByHouseholdId(
+          household, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "completedAt"))).getContent()));
+
+      // Assert
+      assertEquals(2, statements);
+    }
+  }
+
+  @Nested
+  class Users {
+
+    @Test
+    void shouldBuildPrincipalFromUserRowAlone() {
+      // Arrange
+      String email = emailOf(members.get(0));
+
+      // Act
+      long statements = statementsFor(() -> {
+        User user = userRepo.findByEmail(email).orElseThrow();
+        assertEquals(household, AuthenticatedUser.fromEntity(user).getHouseholdId());
+      });
+
+      // Assert
+      assertEquals(1, statements);
+    }
+
+    @Test
+    void shouldRenderProfileWithHouseholdInOneStatement() {
+      // Arrange
+      String email = emailOf(members.get(0));
+
+      // Act
+      long statements = statementsFor(() -> assertEquals("House",
+          UserResponseDto.fromEntity(userRepo.findWithHouseholdByEmail(email).orElseThrow()).getHouseholdName()));
+
+      // Assert
+      assertEquals(1, statements);
+    }
+  }
+}
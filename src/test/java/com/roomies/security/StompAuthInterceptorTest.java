@@ -0,0 +1,120 @@
+package com.roomies.security;
+
+import com.roomies.entity.Role;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StompAuthInterceptor.
+ */
+@ExtendWith(MockitoExtension.class)
+class StompAuthInterceptorTest {
+
+  @Mock private AccessTokenResolver tokenResolver;
+
+  @InjectMocks private StompAuthInterceptor interceptor;
+
+  private final Map<String, Object> session = new HashMap<>();
+
+  private static AuthenticatedUser member(Long householdId) {
+    return new AuthenticatedUser(1L, "a@example.com", null, Role.MEMBER, householdId, 0);
+  }
+
+  private Message<byte[]> frame(StompCommand command, String destination, String authorization) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+    accessor.setSessionId("s1");
+    accessor.setSessionAttributes(session);
+    if (destination != null) accessor.setDestination(destination);
+    if (authorization != null) accessor.setNativeHeader("Authorization", authorization);
+    accessor.setLeaveMutable(true);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+
+  @Nested
+  class Connect {
+
+    @Test
+    void shouldSetUserAndCacheHouseholdForValidToken() {
+      // Arrange
+      when(tokenResolver.resolve("good")).thenReturn(member(7L));
+      Message<byte[]> msg = frame(StompCommand.CONNECT, null, "Bearer good");
+
+      // Act
+      interceptor.preSend(msg, null);
+
+      // Assert
+      StompHeaderAccessor accessor = StompHeaderAccessor.getAccessor(msg, StompHeaderAccessor.class);
+      Authentication user = (Authentication) accessor.getUser();
+      assertEquals(1L, ((AuthenticatedUser) user.getPrincipal()).getUserId());
+      assertEquals(7L, session.get(StompAuthInterceptor.HOUSEHOLD_ATTR));
+    }
+
+    @Test
+    void shouldRejectMissingOrInvalidToken() {
+      // Arrange
+      when(tokenResolver.resolve("bad")).thenReturn(null);
+
+      // Act & Assert
+      assertThrows(AccessDeniedException.class,
+          () -> interceptor.preSend(frame(StompCommand.CONNECT, null, null), null));
+      assertThrows(AccessDeniedException.class,
+          () -> interceptor.preSend(frame(StompCommand.CONNECT, null, "Bearer bad"), null));
+      assertTrue(session.isEmpty());
+    }
+  }
+
+  @Nested
+  class Subscribe {
+
+    @Test
+    void shouldAllowOwnHouseholdWithoutResolvingTokenAgain() {
+      // Arrange
+      session.put(StompAuthInterceptor.HOUSEHOLD_ATTR, 7L);
+      Message<byte[]> msg = frame(StompCommand.SUBSCRIBE, "/topic/household/7", null);
+
+      // Act & Assert
+      assertSame(msg, interceptor.preSend(msg, null));
+      verifyNoInteractions(tokenResolver);
+    }
+
+    @Test
+    void shouldRejectOtherHousehold() {
+      // Arrange
+      session.put(StompAuthInterceptor.HOUSEHOLD_ATTR, 7L);
+
+      // Act & Assert
+      assertThrows(AccessDeniedException.class,
+          () -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/household/8", null), null));
+    }
+
+    @Test
+    void shouldRejectSessionsWithoutHousehold() {
+      assertThrows(AccessDeniedException.class,
+          () -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/household/7", null), null));
+    }
+  }
+
+  @Test
+  void shouldPassThroughOtherFrames() {
+    // Arrange
+    Message<byte[]> msg = frame(StompCommand.SEND, "/app/anything", null);
+
+    // Act & Assert
+    assertSame(msg, interceptor.preSend(msg, null));
+  }
+}
@@ -31,7 +31,7 @@ class AuthServiceTest {
   @Mock private UserRepository userRepo;
   @Mock private PasswordEncoder passwordEncoder;
   @Mock private JwtService jwtService;
-  @Mock private EmailService emailService;
+  @Mock private EmailOutboxService mailOutbox;
   @Mock private AuthenticationManager authManager;
 
   @InjectMocks private AuthService authService;
@@ -56,7 +56,7 @@ class AuthServiceTest {
       // Assert
       ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
       verify(userRepo).save(userCaptor.capture());
-      verify(emailService).sendVerificationMail(eq("test@example.com"), anyString());
+      verify(mailOutbox).enqueueVerificationMail(eq("test@example.com"), anyString());
 
       User savedUser = userCaptor.getValue();
       assertEquals("Test User", savedUser.getDisplayName());
@@ -80,7 +80,7 @@ class AuthServiceTest {
           () -> authService.registerUser(request));
       assertEquals("Email already in use", ex.getMessage());
       verify(userRepo, never()).save(any());
-      verify(emailService, never()).sendVerificationMail(any(), any());
+      verify(mailOutbox, never()).enqueueVerificationMail(any(), any());
     }
   }
 
@@ -100,7 +100,7 @@ class AuthServiceTest {
       user.setConfirmed(true);
 
       when(userRepo.findByEmail(request.getEmail())).thenReturn(Optional.of(user));
-      when(jwtService.generateToken(request.getEmail())).thenReturn("access-token");
+      when(jwtService.generateToken(user)).thenReturn("access-token");
       when(jwtService.generateRefreshToken(request.getEmail())).thenReturn("refresh-token");
 
       // Act
@@ -165,7 +165,7 @@ class AuthServiceTest {
       when(jwtService.extractUsernameFromRefreshToken(oldRefreshToken)).thenReturn(email);
       when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
       when(jwtService.isRefreshTokenValid(oldRefreshToken, email)).thenReturn(true);
-      when(jwtService.generateToken(email)).thenReturn("new-access-token");
+      when(jwtService.generateToken(user)).thenReturn("new-access-token");
       when(jwtService.generateRefreshToken(email)).thenReturn("new-refresh-token");
 
       // Act
@@ -0,0 +1,173 @@
+package com.roomies.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.roomies.entity.EmailOutbox;
+import com.roomies.repository.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for EmailOutboxDispatcher, delivering to an in-process GreenMail SMTP server.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+  @RegisterExtension
+  static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+  private static final Instant NOW = Instant.parse("2025-06-15T10:00:00Z");
+  private static final int MAX_ATTEMPTS = 3;
+
+  @Mock private EmailOutboxRepository outboxRepo;
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private EmailOutboxDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    JavaMailSenderImpl sender = new JavaMailSenderImpl();
+    sender.setHost("localhost");
+    sender.setPort(greenMail.getSmtp().getPort());
+    dispatcher = new EmailOutboxDispatcher(outboxRepo, jdbcTemplate, transactionManager,
+        new EmailService(sender), 2, 10, MAX_ATTEMPTS,
+        Duration.ofSeconds(30), Duration.ofMinutes(2), Duration.ofMinutes(5));
+  }
+
+  private static EmailOutbox mail(long id, String to, int attempts) {
+    EmailOutbox mail = new EmailOutbox(to, "Subject " + id, "<p>Hello</p>", NOW.minusSeconds(60));
+    ReflectionTestUtils.setField(mail, "outboxId", id);
+    ReflectionTestUtils.setField(mail, "attempts", attempts);
+    return mail;
+  }
+
+  private void givenDue(EmailOutbox... mails) {
+    when(outboxRepo.findDue(NOW, Limit.of(10))).thenReturn(List.of(mails));
+  }
+
+  /** Update counts of the claims, in due order. */
+  private void givenClaimed(Integer first, Integer... rest) {
+    when(jdbcTemplate.update(eq(EmailOutboxDispatcher.CLAIM_SQL), any(), any(), any(), any()))
+        .thenReturn(first, rest);
+  }
+
+  @Test
+  void shouldDeliverClaimedMailsAndMarkThemSent() throws Exception {
+    // Arrange
+    givenDue(mail(1L, "a@example.com", 0), mail(2L, "b@example.com", 0), mail(3L, "c@example.com", 0));
+    givenClaimed(1, 1, 1);
+
+    // Act
+    int sent = dispatcher.dispatch(NOW);
+
+    // Assert
+    assertEquals(3, sent);
+    List<String> subjects = new ArrayList<>();
+    for (MimeMessage received : greenMail.getReceivedMessages()) {
+      subjects.add(received.getSubject());
+    }
+    subjects.sort(null);
+    assertEquals(List.of("Subject 1", "Subject 2", "Subject 3"), subjects);
+    verify(jdbcTemplate).update(eq(EmailOutboxDispatcher.SENT_SQL), any(), eq(1L));
+    verify(jdbcTemplate).update(eq(EmailOutboxDispatcher.SENT_SQL), any(), eq(2L));
+    verify(jdbcTemplate).update(eq(EmailOutboxDispatcher.SENT_SQL), any(), eq(3L));
+  }
+
+  @Test
+  void shouldSkipMailsClaimedByAnotherInstance() {
+    // Arrange: second row's guarded claim matched nothing
+    givenDue(mail(1L, "a@example.com", 0), mail(2L, "b@example.com", 0));
+    givenClaimed(1, 0);
+
+    // Act
+    int sent = dispatcher.dispatch(NOW);
+
+    // Assert
+    assertEquals(1, sent);
+    assertEquals(1, greenMail.getReceivedMessages().length);
+    verify(jdbcTemplate, never()).update(eq(EmailOutboxDispatcher.SENT_SQL), any(), eq(2L));
+  }
+
+  @Test
+  void shouldNotTreatUnknownUpdateCountAsClaimed() {
+    // Arrange: a driver answering SUCCESS_NO_INFO (-2) does not say the guard matched
+    givenDue(mail(1L, "a@example.com", 0));
+    givenClaimed(Statement.SUCCESS_NO_INFO);
+
+    // Act
+    int sent = dispatcher.dispatch(NOW);
+
+    // Assert
+    assertEquals(0, sent);
+    assertEquals(0, greenMail.getReceivedMessages().length);
+  }
+
+  @Test
+  void shouldScheduleRetryWhenSmtpIsDown() {
+    // Arrange
+    givenDue(mail(1L, "a@example.com", 0));
+    givenClaimed(1);
+    greenMail.stop();
+
+    // Act
+    int sent = dispatcher.dispatch(NOW);
+
+    // Assert
+    assertEquals(0, sent);
+    verify(jdbcTemplate).update(eq(EmailOutboxDispatcher.RETRY_SQL), any(), anyString(), eq(1L));
+    verify(jdbcTemplate, never()).update(eq(EmailOutboxDispatcher.DEAD_SQL), any(), any());
+  }
+
+  @Test
+  void shouldDeadLetterAfterLastAttempt() {
+    // Arrange: this claim is the final attempt
+    givenDue(mail(1L, "a@example.com", MAX_ATTEMPTS - 1));
+    givenClaimed(1);
+    greenMail.stop();
+
+    // Act
+    dispatcher.dispatch(NOW);
+
+    // Assert
+    verify(jdbcTemplate).update(eq(EmailOutboxDispatcher.DEAD_SQL), anyString(), eq(1L));
+    verify(jdbcTemplate, never()).update(eq(EmailOutboxDispatcher.RETRY_SQL), any(), any(), any());
+  }
+
+  @Test
+  void shouldDoNothingWhenNothingIsDue() {
+    // Arrange
+    when(outboxRepo.findDue(NOW, Limit.of(10))).thenReturn(List.of());
+
+    // Act & Assert
+    assertEquals(0, dispatcher.dispatch(NOW));
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void backoffShouldDoubleUpToCap() {
+    assertEquals(Duration.ofSeconds(30), dispatcher.backoff(1));
+    assertEquals(Duration.ofSeconds(60), dispatcher.backoff(2));
+    assertEquals(Duration.ofMinutes(2), dispatcher.backoff(3));
+    assertEquals(Duration.ofMinutes(2), dispatcher.backoff(40));
+  }
+}
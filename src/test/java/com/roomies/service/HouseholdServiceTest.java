@@ -8,6 +8,10 @@ import com.roomies.entity.Role;
 import com.roomies.entity.User;
 import com.roomies.repository.HouseholdRepository;
 import com.roomies.repository.UserRepository;
+import com.roomies.security.PrincipalCache;
+import com.roomies.service.event.HouseholdChangeEvent;
+import com.roomies.service.event.HouseholdChangeEvent.Action;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.util.Optional;
@@ -30,6 +35,8 @@ class HouseholdServiceTest {
 
   @Mock private HouseholdRepository householdRepo;
   @Mock private UserRepository userRepo;
+  @Mock private PrincipalCache principalCache;
+  @Mock private ApplicationEventPublisher events;
 
   @InjectMocks private HouseholdService householdService;
 
@@ -57,6 +64,7 @@ class HouseholdServiceTest {
       assertEquals("Cool House", user.getHousehold().getName());
       assertEquals(Role.ADMIN, user.getRole());
       verify(householdRepo).save(any(Household.class));
+      verify(principalCache).invalidate(user);
     }
 
     @Test
@@ -92,10 +100,12 @@ class HouseholdServiceTest {
       dto.setJoinCode(joinCode);
 
       User user = new User();
+      user.setUserId(5L);
       user.setEmail(email);
       user.setHousehold(null);
 
       Household household = new Household();
+      household.setHouseholdId(42L);
       household.setJoinCode(joinCode);
 
       when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
@@ -107,6 +117,8 @@ class HouseholdServiceTest {
       // Assert
       assertEquals(household, user.getHousehold());
       verify(userRepo).save(user);
+      verify(principalCache).invalidate(user);
+      verify(events).publishEvent(HouseholdChangeEvent.of(42L, Subject.MEMBER, Action.CREATED, 5L));
     }
 
     @Test
@@ -183,7 +195,7 @@ class HouseholdServiceTest {
       bob.setDisplayName("Bob");
       bob.setHousehold(household);
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(currentUser));
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(currentUser));
       when(userRepo.findByHousehold_HouseholdIdOrderByDisplayNameAsc(42L))
           .thenReturn(List.of(alice, bob));
 
@@ -206,7 +218,7 @@ class HouseholdServiceTest {
       assertEquals("bob@example.com", dto.getMembers().get(1).getEmail());
       assertEquals(Long.valueOf(2L), dto.getMembers().get(1).getUserId());
 
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
       verify(userRepo).findByHousehold_HouseholdIdOrderByDisplayNameAsc(42L);
       verifyNoMoreInteractions(userRepo);
     }
@@ -215,13 +227,13 @@ class HouseholdServiceTest {
     void shouldThrowIfUserNotFound() {
       // Arrange
       String email = "missing@example.com";
-      when(userRepo.findByEmail(email)).thenReturn(Optional.empty());
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.empty());
 
       // Act & Assert
       assertThrows(EntityNotFoundException.class,
           () -> householdService.getMyHouseholdDetails(email));
 
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
       verify(userRepo, never()).findByHousehold_HouseholdIdOrderByDisplayNameAsc(anyLong());
     }
 
@@ -233,13 +245,13 @@ class HouseholdServiceTest {
       user.setEmail(email);
       user.setHousehold(null);
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
 
       // Act & Assert
       assertThrows(IllegalStateException.class,
           () -> householdService.getMyHouseholdDetails(email));
 
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
       verify(userRepo, never()).findByHousehold_HouseholdIdOrderByDisplayNameAsc(anyLong());
     }
   }
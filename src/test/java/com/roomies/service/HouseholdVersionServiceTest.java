@@ -0,0 +1,200 @@
+package com.roomies.service;
+
+import com.roomies.repository.IdSequences;
+import com.roomies.service.event.HouseholdChangeEvent;
+import com.roomies.service.event.HouseholdChangeEvent.Action;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
+import jakarta.persistence.EntityManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs HouseholdVersionService's SQL against the migrated schema on H2 in MySQL mode.
+ */
+class HouseholdVersionServiceTest {
+
+  private static final Instant NOW = Instant.parse("2025-03-01T12:00:00Z");
+  private static final Duration RETENTION = Duration.ofDays(30);
+
+  private static JdbcTemplate jdbc;
+  private static IdSequences ids;
+  private static int households;
+
+  private HouseholdVersionService versions;
+  private long household;
+  private long otherHousehold;
+
+  @BeforeAll
+  static void migrate() {
+    JdbcDataSource ds = new JdbcDataSource();
+    ds.setURL("jdbc:h2:mem:household_version;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+    Flyway.configure().dataSource(ds).load().migrate();
+    jdbc = new JdbcTemplate(ds);
+    ids = new IdSequences(jdbc, new DataSourceTransactionManager(ds));
+  }
+
+  @BeforeEach
+  void setUp() {
+    versions = new HouseholdVersionService(jdbc, mock(EntityManager.class), RETENTION, Clock.fixed(NOW, ZoneOffset.UTC));
+    household = insertHousehold();
+    otherHousehold = insertHousehold();
+  }
+
+  private static long insertHousehold() {
+    long id = ids.reserve("households", 1);
+    jdbc.update("INSERT INTO households (household_id, name, join_code) VALUES (?, 'House', ?)",
+        id, "V" + (++households));
+    return id;
+  }
+
+  private long insertTask(long householdId) {
+    long id = ids.reserve("tasks", 1);
+    jdbc.update("INSERT INTO tasks (task_id, household_id, description, frequency, start_date, next_due) "
+        + "VALUES (?, ?, 'Dishes', 'DAILY', CURRENT_DATE, CURRENT_TIMESTAMP)", id, householdId);
+    return id;
+  }
+
+  private long insertUser(long householdId) {
+    long id = ids.reserve("users", 1);
+    jdbc.update("INSERT INTO users (user_id, email, display_name, password, household_id) VALUES (?, ?, 'User', ?, ?)",
+        id, "v" + id + "@example.com", "x".repeat(60), householdId);
+    return id;
+  }
+
+  private void insertResponsible(long taskId, long userId) {
+    jdbc.update("INSERT INTO task_responsibles (responsible_id, task_id, user_id, position) VALUES (?, ?, ?, 1)",
+        ids.reserve("task_responsibles", 1), taskId, userId);
+  }
+
+  private long insertItem(long householdId, long addedBy, Long purchasedBy) {
+    long id = ids.reserve("shopping_items", 1);
+    jdbc.update("INSERT INTO shopping_items (item_id, household_id, added_by, purchased_by, name, purchased) "
+        + "VALUES (?, ?, ?, ?, 'Milk', ?)", id, householdId, addedBy, purchasedBy, purchasedBy != null);
+    return id;
+  }
+
+  private long itemVersion(long itemId) {
+    return jdbc.queryForObject("SELECT change_version FROM shopping_items WHERE item_id = ?", Long.class, itemId);
+  }
+
+  private long taskVersion(long taskId) {
+    return jdbc.queryForObject("SELECT change_version FROM tasks WHERE task_id = ?", Long.class, taskId);
+  }
+
+  @Test
+  void shouldAssignIncreasingVersionsAndStampRows() {
+    // Arrange
+    long t1 = insertTask(household);
+    long t2 = insertTask(household);
+
+    // Act
+    long v1 = versions.record(new HouseholdChangeEvent(household, Subject.TASK, Action.CREATED, List.of(t1)));
+    long v2 = versions.record(new HouseholdChangeEvent(household, Subject.TASK, Action.UPDATED, List.of(t1, t2)));
+
+    // Assert
+    assertEquals(1, v1);
+    assertEquals(2, v2);
+    assertEquals(2, taskVersion(t1));
+    assertEquals(2, taskVersion(t2));
+    assertEquals(2, versions.currentVersion(household));
+    assertEquals(0, versions.currentVersion(otherHousehold));
+  }
+
+  @Test
+  void shouldNotStampRowsOfAnotherHousehold() {
+    // Arrange
+    long foreign = insertTask(otherHousehold);
+
+    // Act
+    versions.record(new HouseholdChangeEvent(household, Subject.TASK, Action.UPDATED, List.of(foreign)));
+
+    // Assert
+    assertEquals(0, taskVersion(foreign));
+  }
+
+  @Test
+  void shouldRecordTombstonesForDeletes() {
+    // Act
+    long v1 = versions.record(new HouseholdChangeEvent(household, Subject.SHOPPING_ITEM, Action.DELETED, List.of(40L)));
+    versions.record(new HouseholdChangeEvent(household, Subject.TASK, Action.DELETED, List.of(41L)));
+    versions.record(new HouseholdChangeEvent(household, Subject.SHOPPING_ITEM, Action.DELETED, List.of(42L)));
+
+    // Assert
+    assertEquals(List.of(40L, 42L), versions.deletedSince(household, Subject.SHOPPING_ITEM, 0));
+    assertEquals(List.of(42L), versions.deletedSince(household, Subject.SHOPPING_ITEM, v1));
+    assertEquals(List.of(41L), versions.deletedSince(household, Subject.TASK, 0));
+    assertEquals(List.of(), versions.deletedSince(otherHousehold, Subject.TASK, 0));
+  }
+
+  @Test
+  void shouldPurgeTombstonesPastRetentionAndRaiseFloor() {
+    // Arrange: two deletes recorded 31 days ago, one now
+    HouseholdVersionService earlier = new HouseholdVersionService(jdbc, mock(EntityManager.class), RETENTION,
+        Clock.fixed(NOW.minus(Duration.ofDays(31)), ZoneOffset.UTC));
+    earlier.record(new HouseholdChangeEvent(household, Subject.TASK, Action.DELETED, List.of(50L)));
+    long v2 = earlier.record(new HouseholdChangeEvent(household, Subject.SHOPPING_ITEM, Action.DELETED, List.of(51L)));
+    versions.record(new HouseholdChangeEvent(household, Subject.SHOPPING_ITEM, Action.DELETED, List.of(52L)));
+
+    // Act
+    versions.purgeTombstones();
+
+    // Assert
+    assertEquals(v2, versions.tombstoneFloor(household));
+    assertEquals(0, versions.tombstoneFloor(otherHousehold));
+    assertEquals(List.of(52L), versions.deletedSince(household, Subject.SHOPPING_ITEM, 0));
+    assertEquals(List.of(), versions.deletedSince(household, Subject.TASK, 0));
+  }
+
+  @Test
+  void shouldOnlyBumpVersionWhenMemberJoins() {
+    // Arrange
+    long member = insertUser(household);
+    long task = insertTask(household);
+    insertResponsible(task, member);
+
+    // Act
+    long version = versions.record(new HouseholdChangeEvent(household, Subject.MEMBER, Action.CREATED, List.of(member)));
+
+    // Assert
+    assertEquals(1, version);
+    assertEquals(1, versions.currentVersion(household));
+    assertEquals(0, taskVersion(task));
+  }
+
+  @Test
+  void shouldStampTasksAndItemsShowingRenamedMember() {
+    // Arrange
+    long member = insertUser(household);
+    long other = insertUser(household);
+    long theirTask = insertTask(household);
+    long otherTask = insertTask(household);
+    insertResponsible(theirTask, member);
+    insertResponsible(otherTask, other);
+    long added = insertItem(household, member, null);
+    long purchased = insertItem(household, other, member);
+    long unrelated = insertItem(household, other, null);
+
+    // Act
+    long version = versions.record(new HouseholdChangeEvent(household, Subject.MEMBER, Action.UPDATED, List.of(member)));
+
+    // Assert
+    assertEquals(version, taskVersion(theirTask));
+    assertEquals(0, taskVersion(otherTask));
+    assertEquals(version, itemVersion(added));
+    assertEquals(version, itemVersion(purchased));
+    assertEquals(0, itemVersion(unrelated));
+  }
+}
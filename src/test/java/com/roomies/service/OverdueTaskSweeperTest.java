@@ -0,0 +1,192 @@
+package com.roomies.service;
+
+import com.roomies.entity.Frequency;
+import com.roomies.repository.TaskRepository;
+import com.roomies.repository.projection.OverdueTaskRow;
+import com.roomies.service.event.HouseholdChangeEvent;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OverdueTaskSweeper.
+ */
+@ExtendWith(MockitoExtension.class)
+class OverdueTaskSweeperTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+  private static final LocalDateTime CUTOFF = TODAY.atStartOfDay();
+  private static final Long HOUSEHOLD = 9L;
+  // Half past midnight UTC: still the 14th in the Americas
+  private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-15T00:30:00Z"), ZoneOffset.UTC);
+
+  @Mock private TaskRepository taskRepo;
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Mock private PlatformTransactionManager transactionManager;
+  @Mock private ApplicationEventPublisher events;
+
+  private OverdueTaskSweeper sweeper;
+
+  @BeforeEach
+  void setUp() {
+    sweeper = new OverdueTaskSweeper(taskRepo, jdbcTemplate, transactionManager, events, 2, CLOCK);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Object[]> captureBatch() {
+    ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate).batchUpdate(eq(OverdueTaskSweeper.ADVANCE_SQL), captor.capture());
+    return captor.getValue();
+  }
+
+  @Test
+  void shouldAdvanceToLatestOccurrenceAndRecordMissed() {
+    // Arrange: daily task ten days overdue
+    LocalDateTime due = CUTOFF.minusDays(10);
+    when(taskRepo.findOverdue(CUTOFF, Limit.of(2)))
+        .thenReturn(List.of(new OverdueTaskRow(1L, HOUSEHOLD, Frequency.DAILY, due, 0)));
+    when(jdbcTemplate.batchUpdate(eq(OverdueTaskSweeper.ADVANCE_SQL), anyList())).thenReturn(new int[] {1});
+
+    // Act
+    int advanced = sweeper.sweep(TODAY);
+
+    // Assert
+    assertEquals(1, advanced);
+    List<Object[]> batch = captureBatch();
+    assertEquals(1, batch.size());
+    assertArrayEquals(new Object[] {CUTOFF, 10, 1L, due}, batch.get(0));
+    verify(taskRepo, never()).findOverdueAfter(any(), any(), any(), any());
+    verify(events).publishEvent(new HouseholdChangeEvent(HOUSEHOLD, HouseholdChangeEvent.Subject.TASK,
+        HouseholdChangeEvent.Action.UPDATED, List.of(1L)));
+  }
+
+  @Test
+  void shouldTakeTodayFromUtcClockOnScheduledSweep() {
+    // Arrange
+    when(taskRepo.findOverdue(CUTOFF, Limit.of(2))).thenReturn(List.of());
+
+    // Act
+    sweeper.sweep();
+
+    // Assert
+    verify(taskRepo).findOverdue(CUTOFF, Limit.of(2));
+  }
+
+  @Test
+  void shouldKeepMonthEndClampingWhenAdvancingMonthly() {
+    // Arrange: monthly task anchored on Jan 31, never completed
+    LocalDateTime due = LocalDate.of(2025, 1, 31).atStartOfDay();
+    when(taskRepo.findOverdue(CUTOFF, Limit.of(2)))
+        .thenReturn(List.of(new OverdueTaskRow(5L, HOUSEHOLD, Frequency.MONTHLY, due, 0)));
+    when(jdbcTemplate.batchUpdate(eq(OverdueTaskSweeper.ADVANCE_SQL), anyList())).thenReturn(new int[] {1});
+
+    // Act
+    sweeper.sweep(TODAY);
+
+    // Assert: Feb 28 clamps every later month, so the latest occurrence is May 28
+    Object[] row = captureBatch().get(0);
+    assertEquals(LocalDate.of(2025, 5, 28).atStartOfDay(), row[0]);
+    assertEquals(4, row[1]);
+  }
+
+  @Test
+  void shouldSeekPastLastRowOfFullChunk() {
+    // Arrange
+    OverdueTaskRow a = new OverdueTaskRow(1L, HOUSEHOLD, Frequency.DAILY, CUTOFF.minusDays(5), 0);
+    OverdueTaskRow b = new OverdueTaskRow(2L, HOUSEHOLD, Frequency.DAILY, CUTOFF.minusDays(3), 0);
+    OverdueTaskRow c = new OverdueTaskRow(3L, HOUSEHOLD, Frequency.DAILY, CUTOFF.minusDays(2), 0);
+    when(taskRepo.findOverdue(CUTOFF, Limit.of(2))).thenReturn(List.of(a, b));
+    when(taskRepo.findOverdueAfter(CUTOFF, b.nextDue(), 2L, Limit.of(2))).thenReturn(List.of(c));
+    when(jdbcTemplate.batchUpdate(eq(OverdueTaskSweeper.ADVANCE_SQL), anyList()))
+        .thenReturn(new int[] {1, 1}, new int[] {1});
+
+    // Act
+    int advanced = sweeper.sweep(TODAY);
+
+    // Assert
+    assertEquals(3, advanced);
+    verify(jdbcTemplate, times(2)).batchUpdate(eq(OverdueTaskSweeper.ADVANCE_SQL), anyList());
+  }
+
+  @Test
+  void shouldNotCountRowsChangedConcurrently() {
+    // Arrange: task was completed between read and update, so its next_due guard fails
+    when(taskRepo.findOverdue(CUTOFF, Limit.of(2))).thenReturn(List.of(
+        new OverdueTaskRow(1L, HOUSEHOLD, Frequency.DAILY, CUTOFF.minusDays(4), 0)));
+    when(jdbcTemplate.batchUpdate(eq(OverdueTaskSweeper.ADVANCE_SQL), anyList())).thenReturn(new int[] {0});
+
+    // Act & Assert
+    assertEquals(0, sweeper.sweep(TODAY));
+    verifyNoInteractions(events);
+  }
+
+  @Test
+  void shouldReadBackRowsWhoseUpdateCountIsUnknown() throws Exception {
+    // Arrange: the driver answers SUCCESS_NO_INFO; task 2 was completed in between, landing
+    // on the same next_due but with missed_count reset
+    when(taskRepo.findOverdue(CUTOFF, Limit.of(2))).thenReturn(List.of(
+        new OverdueTaskRow(1L, HOUSEHOLD, Frequency.DAILY, CUTOFF.minusDays(4), 1),
+        new OverdueTaskRow(2L, HOUSEHOLD, Frequency.DAILY, CUTOFF.minusDays(4), 1)));
+    when(jdbcTemplate.batchUpdate(eq(OverdueTaskSweeper.ADVANCE_SQL), anyList()))
+        .thenReturn(new int[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+    ResultSet advanced = row(1L, CUTOFF, 5);
+    ResultSet completed = row(2L, CUTOFF, 0);
+    doAnswer(inv -> {
+      RowCallbackHandler handler = inv.getArgument(1);
+      handler.processRow(advanced);
+      handler.processRow(completed);
+      return null;
+    }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+    // Act
+    int count = sweeper.sweep(TODAY);
+
+    // Assert
+    assertEquals(1, count);
+    verify(events).publishEvent(new HouseholdChangeEvent(HOUSEHOLD, HouseholdChangeEvent.Subject.TASK,
+        HouseholdChangeEvent.Action.UPDATED, List.of(1L)));
+  }
+
+  private static ResultSet row(long taskId, LocalDateTime nextDue, int missedCount) throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getLong("task_id")).thenReturn(taskId);
+    when(rs.getTimestamp("next_due")).thenReturn(Timestamp.valueOf(nextDue));
+    when(rs.getInt("missed_count")).thenReturn(missedCount);
+    return rs;
+  }
+
+  @Test
+  void shouldSkipTasksStillWithinCurrentPeriod() {
+    // Arrange: weekly task due three days ago is overdue but has no missed occurrence yet
+    when(taskRepo.findOverdue(CUTOFF, Limit.of(2))).thenReturn(List.of(
+        new OverdueTaskRow(1L, HOUSEHOLD, Frequency.WEEKLY, CUTOFF.minusDays(3), 0)));
+
+    // Act
+    int advanced = sweeper.sweep(TODAY);
+
+    // Assert
+    assertEquals(0, advanced);
+    verifyNoInteractions(jdbcTemplate);
+  }
+}
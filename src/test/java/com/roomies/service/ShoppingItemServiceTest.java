@@ -1,11 +1,16 @@
 package com.roomies.service;
 
 import com.roomies.dto.shoppingitem.ShoppingItemRequestDto;
+import com.roomies.dto.shoppingitem.ShoppingItemResponseDto;
 import com.roomies.entity.Household;
+import com.roomies.entity.Role;
 import com.roomies.entity.ShoppingItem;
 import com.roomies.entity.User;
 import com.roomies.repository.ShoppingItemRepository;
 import com.roomies.repository.UserRepository;
+import com.roomies.security.AuthenticatedUser;
+import com.roomies.service.event.HouseholdChangeEvent;
+import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -17,10 +22,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
-import org.springframework.security.access.AccessDeniedException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,6 +38,7 @@ class ShoppingItemServiceTest {
 
   @Mock private ShoppingItemRepository shoppingItemRepo;
   @Mock private UserRepository userRepo;
+  @Mock private ApplicationEventPublisher events;
 
   @InjectMocks private ShoppingItemService shoppingItemService;
 
@@ -79,114 +85,120 @@ class ShoppingItemServiceTest {
     @Test
     void shouldReturnItemsWhenUserInHousehold() {
       String email = "user@example.com";
-      String name = "Test User";
-      Household household = new Household();
-      household.setHouseholdId(1L);
+      ShoppingItemResponseDto item = new ShoppingItemResponseDto(
+          3L, "Milk", "1", false, "Test User", null, LocalDateTime.now(), null);
 
-      User user = new User();
-      user.setEmail(email);
-      user.setDisplayName(name);
-      user.setHousehold(household);
+      AuthenticatedUser principal = new AuthenticatedUser(10L, email, null, Role.MEMBER, 1L, 0);
 
-      ShoppingItem item = new ShoppingItem();
-      item.setHousehold(household);
-      item.setAddedBy(user);
+      when(shoppingItemRepo.findResponsesByHousehold(1L)).thenReturn(List.of(item));
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(shoppingItemRepo.findByHousehold_HouseholdId(1L)).thenReturn(List.of(item));
+      assertEquals(List.of(item), shoppingItemService.getItemsForHousehold(principal));
+      verifyNoInteractions(userRepo);
+    }
+
+    @Test
+    void shouldThrowWhenPrincipalHasNoHousehold() {
+      AuthenticatedUser principal = new AuthenticatedUser(10L, "user@example.com", null, Role.MEMBER, null, 0);
 
-      assertEquals(1, shoppingItemService.getItemsForHousehold(email).size());
+      assertThrows(IllegalStateException.class, () -> shoppingItemService.getItemsForHousehold(principal));
+      verifyNoInteractions(shoppingItemRepo);
     }
   }
 
   @Nested
   class DeleteItem {
-    @Test
-    void shouldDeleteItemWhenUserInSameHousehold() {
-      String email = "user@example.com";
-      Household household = new Household();
-      household.setHouseholdId(1L);
-
-      User user = new User();
-      user.setEmail(email);
-      user.setHousehold(household);
 
-      ShoppingItem item = new ShoppingItem();
-      item.setItemId(10L);
-      item.setHousehold(household);
+    private final AuthenticatedUser principal =
+        new AuthenticatedUser(5L, "user@example.com", null, Role.MEMBER, 1L, 0);
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(shoppingItemRepo.findById(10L)).thenReturn(Optional.of(item));
+    @Test
+    void shouldDeleteWithOneHouseholdScopedStatement() {
+      // Arrange
+      when(shoppingItemRepo.deleteByItemIdAndHouseholdId(10L, 1L)).thenReturn(1);
 
-      assertDoesNotThrow(() -> shoppingItemService.deleteItem(10L, email));
+      // Act
+      shoppingItemService.deleteItem(10L, principal);
 
-      verify(shoppingItemRepo).delete(item);
+      // Assert
+      verify(events).publishEvent(new HouseholdChangeEvent(1L, HouseholdChangeEvent.Subject.SHOPPING_ITEM,
+          HouseholdChangeEvent.Action.DELETED, List.of(10L)));
+      verifyNoMoreInteractions(shoppingItemRepo);
+      verifyNoInteractions(userRepo);
     }
 
     @Test
-    void shouldThrowAccessDeniedIfUserNotInSameHousehold() {
-      String email = "user@example.com";
-      Household h1 = new Household(); h1.setHouseholdId(1L);
-      Household h2 = new Household(); h2.setHouseholdId(2L);
+    void shouldReportItemOfAnotherHouseholdAsMissing() {
+      // Arrange: the scoped delete matches no row
+      when(shoppingItemRepo.deleteByItemIdAndHouseholdId(10L, 1L)).thenReturn(0);
 
-      User user = new User();
-      user.setEmail(email);
-      user.setHousehold(h1);
-
-      ShoppingItem item = new ShoppingItem();
-      item.setItemId(10L);
-      item.setHousehold(h2);
-
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(shoppingItemRepo.findById(10L)).thenReturn(Optional.of(item));
+      // Act & Assert
+      assertThrows(EntityNotFoundException.class, () -> shoppingItemService.deleteItem(10L, principal));
+      verifyNoInteractions(events);
+    }
 
-      assertThrows(org.springframework.security.access.AccessDeniedException.class,
-          () -> shoppingItemService.deleteItem(10L, email));
+    @Test
+    void shouldThrowWhenUserHasNoHousehold() {
+      // Arrange
+      AuthenticatedUser homeless = new AuthenticatedUser(5L, "user@example.com", null, Role.MEMBER, null, 0);
 
-      verify(shoppingItemRepo, never()).delete(any());
+      // Act & Assert
+      assertThrows(IllegalStateException.class, () -> shoppingItemService.deleteItem(10L, homeless));
+      verifyNoInteractions(shoppingItemRepo);
     }
   }
 
   @Nested
   class UpdateItem {
-    @Test
-    void shouldUpdateItemWhenUserIsAuthorized() {
-      String email = "user@example.com";
+
+    private final AuthenticatedUser principal =
+        new AuthenticatedUser(5L, "user@example.com", null, Role.MEMBER, 1L, 0);
+
+    private ShoppingItemRequestDto bread() {
       ShoppingItemRequestDto dto = new ShoppingItemRequestDto();
       dto.setName("Bread");
       dto.setQuantity("1");
+      return dto;
+    }
 
-      Household household = new Household();
-      household.setHouseholdId(1L);
-
-      User user = new User();
-      user.setEmail(email);
-      user.setHousehold(household);
-
-      ShoppingItem item = new ShoppingItem();
-      item.setItemId(20L);
-      item.setHousehold(household);
+    @Test
+    void shouldUpdateWithOneHouseholdScopedStatement() {
+      // Arrange
+      when(shoppingItemRepo.updateDetails(20L, 1L, "Bread", "1")).thenReturn(1);
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(shoppingItemRepo.findById(20L)).thenReturn(Optional.of(item));
+      // Act
+      shoppingItemService.updateItem(20L, bread(), principal);
 
-      assertDoesNotThrow(() -> shoppingItemService.updateItem(20L, dto, email));
+      // Assert
+      verify(events).publishEvent(new HouseholdChangeEvent(1L, HouseholdChangeEvent.Subject.SHOPPING_ITEM,
+          HouseholdChangeEvent.Action.UPDATED, List.of(20L)));
+      verifyNoMoreInteractions(shoppingItemRepo);
+      verifyNoInteractions(userRepo);
+    }
 
-      verify(shoppingItemRepo).save(item);
-      assertEquals("Bread", item.getName());
-      assertEquals("1", item.getQuantity());
+    @Test
+    void shouldReportItemOfAnotherHouseholdAsMissing() {
+      // Arrange
+      when(shoppingItemRepo.updateDetails(20L, 1L, "Bread", "1")).thenReturn(0);
+
+      // Act & Assert
+      ShoppingItemRequestDto dto = bread();
+      assertThrows(EntityNotFoundException.class, () -> shoppingItemService.updateItem(20L, dto, principal));
+      verifyNoInteractions(events);
     }
   }
 
   @Nested
   class MarkPurchasedBatch {
 
-    private User makeUser(String email, Long hhId) {
+    private static final Long HH_ID = 1L;
+
+    private final AuthenticatedUser principal =
+        new AuthenticatedUser(5L, "user@example.com", null, Role.MEMBER, HH_ID, 0);
+
+    private User userReference() {
       User u = new User();
-      u.setEmail(email);
-      Household h = new Household();
-      h.setHouseholdId(hhId);
-      u.setHousehold(h);
+      u.setUserId(5L);
+      when(userRepo.getReferenceById(5L)).thenReturn(u);
       return u;
     }
 
@@ -203,18 +215,15 @@ class ShoppingItemServiceTest {
 
     @Test
     void shouldMarkItemsPurchased_whenAllInHouseholdAndNotPurchased() {
-      String email = "user@example.com";
-      Long hhId = 1L;
-      User user = makeUser(email, hhId);
+      User user = userReference();
 
-      ShoppingItem i1 = makeItem(10L, hhId, false, "Milk");
-      ShoppingItem i2 = makeItem(11L, hhId, false, "Bread");
+      ShoppingItem i1 = makeItem(10L, HH_ID, false, "Milk");
+      ShoppingItem i2 = makeItem(11L, HH_ID, false, "Bread");
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(shoppingItemRepo.findByHousehold_HouseholdIdAndItemIdIn(hhId, Arrays.asList(10L, 11L)))
+      when(shoppingItemRepo.findAllForMember(HH_ID, 5L, Arrays.asList(10L, 11L)))
           .thenReturn(Arrays.asList(i1, i2));
 
-      List<String> changed = shoppingItemService.markPurchasedBatch(Arrays.asList(10L, 11L), email);
+      List<String> changed = shoppingItemService.markPurchasedBatch(Arrays.asList(10L, 11L), principal);
 
       assertEquals(2, changed.size());
       assertTrue(i1.isPurchased());
@@ -227,25 +236,25 @@ class ShoppingItemServiceTest {
       verify(shoppingItemRepo).saveAll(argThat(list -> StreamSupport.stream(list.spliterator(), false)
           .collect(Collectors.toSet())
           .containsAll(Arrays.asList(i1, i2))));
+      verify(events).publishEvent(new HouseholdChangeEvent(HH_ID, HouseholdChangeEvent.Subject.SHOPPING_ITEM,
+          HouseholdChangeEvent.Action.PURCHASED, List.of(10L, 11L)));
+      verify(userRepo, never()).findByEmail(any());
     }
 
     @Test
     void shouldSkipAlreadyPurchasedItems_andOnlySaveWhenSomethingChanged() {
-      String email = "user@example.com";
-      Long hhId = 1L;
-      User user = makeUser(email, hhId);
+      User user = userReference();
 
-      ShoppingItem already = makeItem(10L, hhId, true, "Eggs");
+      ShoppingItem already = makeItem(10L, HH_ID, true, "Eggs");
       already.setPurchasedBy(user);
       already.setPurchasedAt(LocalDateTime.now().minusHours(1));
 
-      ShoppingItem notYet = makeItem(11L, hhId, false, "Butter");
+      ShoppingItem notYet = makeItem(11L, HH_ID, false, "Butter");
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(shoppingItemRepo.findByHousehold_HouseholdIdAndItemIdIn(hhId, Arrays.asList(10L, 11L)))
+      when(shoppingItemRepo.findAllForMember(HH_ID, 5L, Arrays.asList(10L, 11L)))
           .thenReturn(Arrays.asList(already, notYet));
 
-      List<String> changed = shoppingItemService.markPurchasedBatch(Arrays.asList(10L, 11L), email);
+      List<String> changed = shoppingItemService.markPurchasedBatch(Arrays.asList(10L, 11L), principal);
 
       assertEquals(1, changed.size());
       assertEquals("Butter", changed.get(0));
@@ -258,49 +267,41 @@ class ShoppingItemServiceTest {
 
     @Test
     void shouldNotSaveWhenAllAlreadyPurchased() {
-      String email = "user@example.com";
-      Long hhId = 1L;
-      User user = makeUser(email, hhId);
+      userReference();
 
-      ShoppingItem a = makeItem(10L, hhId, true, "A");
-      ShoppingItem b = makeItem(11L, hhId, true, "B");
+      ShoppingItem a = makeItem(10L, HH_ID, true, "A");
+      ShoppingItem b = makeItem(11L, HH_ID, true, "B");
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(shoppingItemRepo.findByHousehold_HouseholdIdAndItemIdIn(hhId, Arrays.asList(10L, 11L)))
+      when(shoppingItemRepo.findAllForMember(HH_ID, 5L, Arrays.asList(10L, 11L)))
           .thenReturn(Arrays.asList(a, b));
 
-      List<String> changed = shoppingItemService.markPurchasedBatch(Arrays.asList(10L, 11L), email);
+      List<String> changed = shoppingItemService.markPurchasedBatch(Arrays.asList(10L, 11L), principal);
 
       assertTrue(changed.isEmpty());
       verify(shoppingItemRepo, never()).saveAll(anyList());
+      verifyNoInteractions(events);
     }
 
     @Test
     void shouldThrowWhenAnyItemNotInSameHousehold() {
-      String email = "user@example.com";
-      Long hhId = 1L;
-      User user = makeUser(email, hhId);
-
-      ShoppingItem i1 = makeItem(10L, hhId, false, "Milk");
+      ShoppingItem i1 = makeItem(10L, HH_ID, false, "Milk");
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(shoppingItemRepo.findByHousehold_HouseholdIdAndItemIdIn(hhId, Arrays.asList(10L, 99L)))
+      when(shoppingItemRepo.findAllForMember(HH_ID, 5L, Arrays.asList(10L, 99L)))
           .thenReturn(Collections.singletonList(i1));
 
       List<Long> ids = Arrays.asList(10L, 99L);
-      assertThrows(AccessDeniedException.class,
-          () -> shoppingItemService.markPurchasedBatch(ids, email));
+      assertThrows(EntityNotFoundException.class,
+          () -> shoppingItemService.markPurchasedBatch(ids, principal));
 
       verify(shoppingItemRepo, never()).saveAll(anyList());
     }
 
     @Test
     void shouldThrowWhenNoIdsProvided() {
-      String email = "user@example.com";
       List<Long> ids = Collections.emptyList();
 
       assertThrows(IllegalArgumentException.class,
-          () -> shoppingItemService.markPurchasedBatch(ids, email));
+          () -> shoppingItemService.markPurchasedBatch(ids, principal));
 
       verify(shoppingItemRepo, never()).saveAll(anyList());
       verifyNoInteractions(userRepo);
@@ -308,14 +309,12 @@ class ShoppingItemServiceTest {
 
     @Test
     void shouldThrowWhenTooManyIds() {
-      String email = "user@example.com";
-
       // build a list of size 201
       List<Long> ids = Arrays.asList(new Long[201]);
       for (int i = 0; i < ids.size(); i++) ids.set(i, (long) i + 1);
 
       assertThrows(IllegalArgumentException.class,
-          () -> shoppingItemService.markPurchasedBatch(ids, email));
+          () -> shoppingItemService.markPurchasedBatch(ids, principal));
 
       verify(shoppingItemRepo, never()).saveAll(anyList());
       verifyNoInteractions(userRepo);
@@ -323,20 +322,68 @@ class ShoppingItemServiceTest {
 
     @Test
     void shouldThrowWhenUserHasNoHousehold() {
-      String email = "user@example.com";
-      User user = new User();
-      user.setEmail(email);
-      user.setHousehold(null);
-
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-
+      AuthenticatedUser homeless = new AuthenticatedUser(5L, "user@example.com", null, Role.MEMBER, null, 0);
 
       List<Long> ids = Arrays.asList(1L, 2L);
 
       assertThrows(IllegalStateException.class,
-          () -> shoppingItemService.markPurchasedBatch(ids, email));
+          () -> shoppingItemService.markPurchasedBatch(ids, homeless));
 
-      verify(shoppingItemRepo, never()).saveAll(anyList());
+      verifyNoInteractions(shoppingItemRepo);
+    }
+  }
+
+  @Nested
+  class RemoveMember {
+
+    private ShoppingItem item(Long id, Long hhId, User purchasedBy) {
+      ShoppingItem it = new ShoppingItem();
+      it.setItemId(id);
+      Household h = new Household();
+      h.setHouseholdId(hhId);
+      it.setHousehold(h);
+      it.setPurchasedBy(purchasedBy);
+      return it;
+    }
+
+    @Test
+    void shouldDeleteAddedItemsAndClearBuyerAnnouncingBoth() {
+      // Arrange
+      User leaving = new User();
+      leaving.setUserId(5L);
+      ShoppingItem own1 = item(10L, 1L, null);
+      ShoppingItem own2 = item(11L, 1L, leaving);
+      ShoppingItem bought = item(12L, 1L, leaving);
+
+      when(shoppingItemRepo.findByAddedBy_UserId(5L)).thenReturn(List.of(own1, own2));
+      when(shoppingItemRepo.findByPurchasedBy_UserIdAndAddedBy_UserIdNot(5L, 5L)).thenReturn(List.of(bought));
+
+      // Act
+      shoppingItemService.removeMember(5L);
+
+      // Assert
+      verify(shoppingItemRepo).deleteAllInBatch(List.of(own1, own2));
+      verify(shoppingItemRepo).saveAll(List.of(bought));
+      assertNull(bought.getPurchasedBy());
+      verify(events).publishEvent(new HouseholdChangeEvent(1L, HouseholdChangeEvent.Subject.SHOPPING_ITEM,
+          HouseholdChangeEvent.Action.DELETED, List.of(10L, 11L)));
+      verify(events).publishEvent(new HouseholdChangeEvent(1L, HouseholdChangeEvent.Subject.SHOPPING_ITEM,
+          HouseholdChangeEvent.Action.UPDATED, List.of(12L)));
+    }
+
+    @Test
+    void shouldDoNothingForUserWithoutItems() {
+      // Arrange
+      when(shoppingItemRepo.findByAddedBy_UserId(5L)).thenReturn(List.of());
+      when(shoppingItemRepo.findByPurchasedBy_UserIdAndAddedBy_UserIdNot(5L, 5L)).thenReturn(List.of());
+
+      // Act
+      shoppingItemService.removeMember(5L);
+
+      // Assert
+      verify(shoppingItemRepo, never()).deleteAllInBatch(any());
+      verify(shoppingItemRepo, never()).saveAll(any());
+      verifyNoInteractions(events);
     }
   }
-}
\ No newline at end of file
+}
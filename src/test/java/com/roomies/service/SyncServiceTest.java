@@ -0,0 +1,126 @@
+package com.roomies.service;
+
+import com.roomies.dto.sync.SyncResponseDto;
+import com.roomies.entity.*;
+import com.roomies.repository.ShoppingItemRepository;
+import com.roomies.repository.TaskRepository;
+import com.roomies.repository.TaskResponsibleRepository;
+import com.roomies.security.AuthenticatedUser;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SyncService.
+ */
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+  private static final Long HH = 3L;
+
+  @Mock private TaskRepository taskRepo;
+  @Mock private TaskResponsibleRepository respRepo;
+  @Mock private ShoppingItemRepository shoppingItemRepo;
+  @Mock private HouseholdVersionService versionService;
+
+  @InjectMocks private SyncService syncService;
+
+  private static AuthenticatedUser principal(Long householdId) {
+    return new AuthenticatedUser(1L, "a@example.com", null, Role.MEMBER, householdId, 0);
+  }
+
+  private static Task task(Long id) {
+    Household h = new Household();
+    h.setHouseholdId(HH);
+    Task t = new Task();
+    t.setTaskId(id);
+    t.setHousehold(h);
+    t.setDescription("Dishes");
+    t.setFrequency(Frequency.DAILY);
+    t.setStartDate(LocalDate.of(2025, 1, 1));
+    t.setNextDue(LocalDate.of(2025, 1, 1).atStartOfDay());
+    return t;
+  }
+
+  @Test
+  void shouldReturnOnlyChangesAndTombstonesSinceVersion() {
+    // Arrange
+    when(versionService.currentVersion(HH)).thenReturn(12L);
+    when(taskRepo.findByHousehold_HouseholdIdAndChangeVersionGreaterThanOrderByNextDueAsc(HH, 10L))
+        .thenReturn(List.of(task(5L)));
+    when(respRepo.findAllByTask_TaskIdInOrderByTask_TaskIdAscPositionAsc(List.of(5L))).thenReturn(List.of());
+    when(shoppingItemRepo.findResponsesChangedSince(HH, 10L)).thenReturn(List.of());
+    when(versionService.deletedSince(HH, Subject.TASK, 10L)).thenReturn(List.of());
+    when(versionService.deletedSince(HH, Subject.SHOPPING_ITEM, 10L)).thenReturn(List.of(8L));
+
+    // Act
+    SyncResponseDto res = syncService.getChangesSince(principal(HH), 10L);
+
+    // Assert
+    assertEquals(12L, res.getVersion());
+    assertFalse(res.isFull());
+    assertEquals(1, res.getTasks().size());
+    assertEquals(5L, res.getTasks().get(0).getTaskId());
+    assertTrue(res.getShoppingItems().isEmpty());
+    assertEquals(List.of(8L), res.getDeletedShoppingItemIds());
+    verify(taskRepo, never()).findBoardByHousehold(any());
+  }
+
+  @Test
+  void shouldReturnFullSnapshotWithoutSince() {
+    // Arrange
+    when(versionService.currentVersion(HH)).thenReturn(12L);
+    when(taskRepo.findBoardByHousehold(HH)).thenReturn(List.of());
+    when(shoppingItemRepo.findResponsesByHousehold(HH)).thenReturn(List.of());
+
+    // Act
+    SyncResponseDto res = syncService.getChangesSince(principal(HH), null);
+
+    // Assert
+    assertTrue(res.isFull());
+    assertEquals(12L, res.getVersion());
+    assertTrue(res.getDeletedTaskIds().isEmpty());
+    verify(versionService, never()).deletedSince(any(), any(), anyLong());
+  }
+
+  @Test
+  void shouldFallBackToFullSnapshotWhenClientIsAhead() {
+    // Arrange: client version from another database or a reset household
+    when(versionService.currentVersion(HH)).thenReturn(4L);
+    when(taskRepo.findBoardByHousehold(HH)).thenReturn(List.of());
+    when(shoppingItemRepo.findResponsesByHousehold(HH)).thenReturn(List.of());
+
+    // Act & Assert
+    assertTrue(syncService.getChangesSince(principal(HH), 9L).isFull());
+  }
+
+  @Test
+  void shouldFallBackToFullSnapshotWhenTombstonesSinceClientVersionWerePurged() {
+    // Arrange: deletes up to version 7 are no longer recorded
+    when(versionService.currentVersion(HH)).thenReturn(12L);
+    when(versionService.tombstoneFloor(HH)).thenReturn(7L);
+    when(taskRepo.findBoardByHousehold(HH)).thenReturn(List.of());
+    when(shoppingItemRepo.findResponsesByHousehold(HH)).thenReturn(List.of());
+
+    // Act
+    SyncResponseDto res = syncService.getChangesSince(principal(HH), 6L);
+
+    // Assert
+    assertTrue(res.isFull());
+    verify(versionService, never()).deletedSince(any(), any(), anyLong());
+  }
+
+  @Test
+  void shouldThrowWhenUserHasNoHousehold() {
+    assertThrows(IllegalStateException.class, () -> syncService.getChangesSince(principal(null), 1L));
+  }
+}
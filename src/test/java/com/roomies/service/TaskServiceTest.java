@@ -1,11 +1,19 @@
 package com.roomies.service;
 
+import com.roomies.dto.task.TaskCompletionResultDto;
 import com.roomies.dto.task.TaskCreateRequestDto;
 import com.roomies.dto.task.TaskLogResponseDto;
+import com.roomies.dto.task.TaskLogSliceResponseDto;
 import com.roomies.dto.task.TaskResponseDto;
 import com.roomies.dto.task.TaskUpdateRequestDto;
 import com.roomies.entity.*;
 import com.roomies.repository.*;
+import com.roomies.repository.projection.NewTaskRow;
+import com.roomies.repository.projection.UserHouseholdRow;
+import com.roomies.security.AuthenticatedUser;
+import com.roomies.service.event.HouseholdChangeEvent;
+import com.roomies.service.util.LogCursor;
+import java.time.Instant;
 import java.time.LocalDate;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -13,14 +21,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +50,7 @@ class TaskServiceTest {
   @Mock private TaskResponsibleRepository respRepo;
   @Mock private TaskLogRepository logRepo;
   @Mock private UserRepository userRepo;
+  @Mock private ApplicationEventPublisher events;
 
   @InjectMocks private TaskService taskService;
 
@@ -99,6 +113,100 @@ class TaskServiceTest {
     }
   }
 
+  @Nested
+  class CreateTasks {
+
+    private final AuthenticatedUser principal =
+        new AuthenticatedUser(10L, "user@example.com", null, Role.MEMBER, 1L, 0);
+
+    @Captor private ArgumentCaptor<Collection<Long>> usersCap;
+    @Captor private ArgumentCaptor<List<NewTaskRow>> rowsCap;
+
+    private TaskCreateRequestDto dto(String description, List<Long> responsibles) {
+      TaskCreateRequestDto dto = new TaskCreateRequestDto();
+      dto.setDescription(description);
+      dto.setFrequency(Frequency.WEEKLY);
+      dto.setRotation(Rotation.TEAM);
+      dto.setStartDate(LocalDate.now());
+      dto.setResponsibleUserIds(responsibles);
+      return dto;
+    }
+
+    @Test
+    void shouldValidateAllResponsiblesInOneQueryAndInsertInBulk() {
+      // Arrange
+      when(userRepo.findHouseholdsOf(any())).thenReturn(List.of(
+          new UserHouseholdRow(2L, 1L), new UserHouseholdRow(3L, 1L)));
+      when(taskRepo.insertAll(eq(1L), anyList())).thenReturn(List.of(100L, 101L));
+
+      // Act
+      List<Long> ids = taskService.createTasks(
+          List.of(dto("Dishes", List.of(2L, 3L, 2L)), dto("Trash", List.of(3L))), principal);
+
+      // Assert
+      assertEquals(List.of(100L, 101L), ids);
+      verify(userRepo).findHouseholdsOf(usersCap.capture());
+      assertEquals(List.of(2L, 3L), List.copyOf(usersCap.getValue()));
+
+      verify(taskRepo).insertAll(eq(1L), rowsCap.capture());
+      List<NewTaskRow> rows = rowsCap.getValue();
+      assertEquals("Dishes", rows.get(0).description());
+      assertEquals(List.of(2L, 3L), rows.get(0).responsibleUserIds());
+      assertEquals(LocalDate.now().atStartOfDay(), rows.get(0).nextDue());
+      assertEquals(List.of(3L), rows.get(1).responsibleUserIds());
+
+      verify(events).publishEvent(new HouseholdChangeEvent(
+          1L, HouseholdChangeEvent.Subject.TASK, HouseholdChangeEvent.Action.CREATED, List.of(100L, 101L)));
+      verifyNoInteractions(respRepo);
+      verify(userRepo, never()).findById(any());
+    }
+
+    @Test
+    void shouldRejectResponsibleFromAnotherHousehold() {
+      // Arrange
+      when(userRepo.findHouseholdsOf(any())).thenReturn(List.of(
+          new UserHouseholdRow(2L, 1L), new UserHouseholdRow(99L, 2L)));
+
+      // Act & Assert
+      assertThrows(AccessDeniedException.class, () -> taskService.createTasks(
+          List.of(dto("Dishes", List.of(2L)), dto("Trash", List.of(99L))), principal));
+      verify(taskRepo, never()).insertAll(any(), any());
+      verifyNoInteractions(events);
+    }
+
+    @Test
+    void shouldRejectUnknownResponsible() {
+      // Arrange
+      when(userRepo.findHouseholdsOf(any())).thenReturn(List.of(new UserHouseholdRow(2L, 1L)));
+
+      // Act & Assert
+      assertThrows(jakarta.persistence.EntityNotFoundException.class, () -> taskService.createTasks(
+          List.of(dto("Dishes", List.of(2L, 404L))), principal));
+      verify(taskRepo, never()).insertAll(any(), any());
+    }
+
+    @Test
+    void shouldRejectResponsibleWithoutHousehold() {
+      // Arrange
+      when(userRepo.findHouseholdsOf(any())).thenReturn(List.of(new UserHouseholdRow(5L, null)));
+
+      // Act & Assert
+      assertThrows(AccessDeniedException.class, () -> taskService.createTasks(
+          List.of(dto("Dishes", List.of(5L))), principal));
+    }
+
+    @Test
+    void shouldRequireHousehold() {
+      // Arrange
+      AuthenticatedUser homeless = new AuthenticatedUser(10L, "user@example.com", null, Role.MEMBER, null, 0);
+
+      // Act & Assert
+      assertThrows(IllegalStateException.class, () -> taskService.createTasks(
+          List.of(dto("Dishes", List.of(2L))), homeless));
+      verifyNoInteractions(userRepo, taskRepo);
+    }
+  }
+
   @Nested
   class UpdateTask {
 
@@ -151,14 +259,13 @@ class TaskServiceTest {
       task.setStartDate(LocalDate.now().minusDays(1));
       task.setNextDue(null); // should be initialized
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(owner));
-      when(taskRepo.findById(100L)).thenReturn(Optional.of(task));
+      when(taskRepo.findForUpdateByTaskIdAndHousehold_HouseholdId(100L, 1L)).thenReturn(Optional.of(task));
 
       TaskUpdateRequestDto dto = baseUpdateDto();
       // important: don't set responsibleUserIds (null) → no changes to responsibles
 
       // Act
-      taskService.updateTask(100L, dto, email);
+      taskService.updateTask(100L, dto, AuthenticatedUser.fromEntity(owner));
 
       // Assert (core fields)
       assertEquals("Updated desc", task.getDescription());
@@ -187,9 +294,9 @@ class TaskServiceTest {
       task.setTaskId(200L);
       task.setHousehold(h);
       task.setStartDate(LocalDate.now());
+      task.setRotationOffset(3);
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(owner));
-      when(taskRepo.findById(200L)).thenReturn(Optional.of(task));
+      when(taskRepo.findForUpdateByTaskIdAndHousehold_HouseholdId(200L, 1L)).thenReturn(Optional.of(task));
 
       // current responsibles: [1(pos1), 2(pos2)]
       when(respRepo.findAllByTask_TaskIdOrderByPositionAsc(200L))
@@ -207,7 +314,7 @@ class TaskServiceTest {
       ArgumentCaptor<List<TaskResponsible>> saveCap = ArgumentCaptor.forClass(List.class);
 
       // Act
-      taskService.updateTask(200L, dto, email);
+      taskService.updateTask(200L, dto, AuthenticatedUser.fromEntity(owner));
 
       // Assert: delete not called (no removals)
       verify(respRepo, never()).deleteAll(any());
@@ -232,6 +339,9 @@ class TaskServiceTest {
       assertEquals(1, posByUser.get(2L));
       assertEquals(2, posByUser.get(3L));
       assertEquals(3, posByUser.get(1L));
+
+      // The stored order is now the effective one
+      assertEquals(0, task.getRotationOffset());
     }
 
     @Test
@@ -250,8 +360,7 @@ class TaskServiceTest {
       task.setHousehold(h);
       task.setStartDate(LocalDate.now());
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(owner));
-      when(taskRepo.findById(300L)).thenReturn(Optional.of(task));
+      when(taskRepo.findForUpdateByTaskIdAndHousehold_HouseholdId(300L, 1L)).thenReturn(Optional.of(task));
 
       when(respRepo.findAllByTask_TaskIdOrderByPositionAsc(300L))
           .thenReturn(List.of(tr(task, u1, 1), tr(task, u2, 2), tr(task, u3, 3)));
@@ -268,7 +377,7 @@ class TaskServiceTest {
       ArgumentCaptor<List<TaskResponsible>> saveCap = ArgumentCaptor.forClass(List.class);
 
       // Act
-      taskService.updateTask(300L, dto, email);
+      taskService.updateTask(300L, dto, AuthenticatedUser.fromEntity(owner));
 
       // Assert: remove u1 and u3
       verify(respRepo).deleteAll(deleteCap.capture());
@@ -301,8 +410,7 @@ class TaskServiceTest {
       task.setHousehold(h);
       task.setStartDate(LocalDate.now());
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(owner));
-      when(taskRepo.findById(400L)).thenReturn(Optional.of(task));
+      when(taskRepo.findForUpdateByTaskIdAndHousehold_HouseholdId(400L, 1L)).thenReturn(Optional.of(task));
 
       // existing: [1(pos1)]
       when(respRepo.findAllByTask_TaskIdOrderByPositionAsc(400L))
@@ -319,7 +427,7 @@ class TaskServiceTest {
       ArgumentCaptor<List<TaskResponsible>> saveCap = ArgumentCaptor.forClass(List.class);
 
       // Act
-      taskService.updateTask(400L, dto, email);
+      taskService.updateTask(400L, dto, AuthenticatedUser.fromEntity(owner));
 
       // Assert: save changes for u2(pos1 new) and u1(pos2 moved)
       verify(respRepo).saveAll(saveCap.capture());
@@ -346,14 +454,13 @@ class TaskServiceTest {
       task.setHousehold(h);
       task.setStartDate(LocalDate.now());
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(owner));
-      when(taskRepo.findById(500L)).thenReturn(Optional.of(task));
+      when(taskRepo.findForUpdateByTaskIdAndHousehold_HouseholdId(500L, 1L)).thenReturn(Optional.of(task));
 
       TaskUpdateRequestDto dto = baseUpdateDto();
       dto.setResponsibleUserIds(List.of()); // empty
 
       // Act + Assert
-      assertThrows(IllegalArgumentException.class, () -> taskService.updateTask(500L, dto, email));
+      assertThrows(IllegalArgumentException.class, () -> taskService.updateTask(500L, dto, AuthenticatedUser.fromEntity(owner)));
 
       verify(respRepo, never()).deleteAll(any());
       verify(respRepo, never()).saveAll(any());
@@ -374,8 +481,7 @@ class TaskServiceTest {
       task.setHousehold(h1);
       task.setStartDate(LocalDate.now());
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(owner));
-      when(taskRepo.findById(600L)).thenReturn(Optional.of(task));
+      when(taskRepo.findForUpdateByTaskIdAndHousehold_HouseholdId(600L, 1L)).thenReturn(Optional.of(task));
 
       TaskUpdateRequestDto dto = baseUpdateDto();
       dto.setResponsibleUserIds(List.of(99L));
@@ -383,11 +489,23 @@ class TaskServiceTest {
       when(userRepo.findById(99L)).thenReturn(Optional.of(outsider));
 
       // Act + Assert
-      assertThrows(AccessDeniedException.class, () -> taskService.updateTask(600L, dto, email));
+      assertThrows(AccessDeniedException.class, () -> taskService.updateTask(600L, dto, AuthenticatedUser.fromEntity(owner)));
 
       verify(respRepo, never()).deleteAll(any());
       verify(respRepo, never()).saveAll(any());
     }
+
+    @Test
+    void shouldReportTaskOfAnotherHouseholdAsMissing() {
+      // Arrange: the scoped, version-bumping read finds nothing for the caller's household
+      AuthenticatedUser principal = new AuthenticatedUser(10L, "owner@example.com", null, Role.MEMBER, 1L, 0);
+      when(taskRepo.findForUpdateByTaskIdAndHousehold_HouseholdId(700L, 1L)).thenReturn(Optional.empty());
+
+      // Act & Assert
+      TaskUpdateRequestDto dto = baseUpdateDto();
+      assertThrows(jakarta.persistence.EntityNotFoundException.class, () -> taskService.updateTask(700L, dto, principal));
+      verifyNoInteractions(respRepo, userRepo, events);
+    }
   }
 
 
@@ -409,17 +527,17 @@ class TaskServiceTest {
       task.setStartDate(LocalDate.now().minusDays(1));
       task.setNextDue(LocalDateTime.now());
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(taskRepo.findById(5L)).thenReturn(Optional.of(task));
+      when(userRepo.getReferenceById(10L)).thenReturn(user);
+      when(taskRepo.findForMember(5L, 1L, 10L)).thenReturn(Optional.of(task));
 
-      assertDoesNotThrow(() -> taskService.completeTask(5L, email));
+      assertDoesNotThrow(() -> taskService.completeTask(5L, AuthenticatedUser.fromEntity(user)));
 
       verify(logRepo).save(any(TaskLog.class));
       assertNull(task.getNextDue(), "Once task should have null nextDue after completion");
     }
 
     @Test
-    void shouldThrowIfOnceTaskAlreadyCompleted() {
+    void shouldStampLogWithTaskHousehold() {
       String email = "user@example.com";
 
       Household household = new Household(); household.setHouseholdId(1L);
@@ -429,132 +547,247 @@ class TaskServiceTest {
       Task task = new Task();
       task.setTaskId(5L);
       task.setHousehold(household);
-      task.setFrequency(Frequency.ONCE);
-      task.setNextDue(null); // already completed
+      task.setFrequency(Frequency.DAILY);
+      task.setRotation(Rotation.TEAM);
+      task.setStartDate(LocalDate.now().minusDays(1));
+      task.setNextDue(LocalDate.now().atStartOfDay());
+
+      when(userRepo.getReferenceById(10L)).thenReturn(user);
+      when(taskRepo.findForMember(5L, 1L, 10L)).thenReturn(Optional.of(task));
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(taskRepo.findById(5L)).thenReturn(Optional.of(task));
+      taskService.completeTask(5L, AuthenticatedUser.fromEntity(user));
 
-      assertThrows(IllegalStateException.class, () -> taskService.completeTask(5L, email));
+      ArgumentCaptor<TaskLog> saved = ArgumentCaptor.forClass(TaskLog.class);
+      verify(logRepo).save(saved.capture());
+      assertEquals(1L, saved.getValue().getHouseholdId());
     }
-  }
 
-  @Nested
-  class DeleteTask {
     @Test
-    void shouldDeleteTaskWhenUserInSameHousehold() {
+    void shouldRotateSingleTaskByAdvancingOffsetOnly() {
+      // Arrange
       String email = "user@example.com";
       Household household = new Household(); household.setHouseholdId(1L);
+      User user = new User(); user.setUserId(10L); user.setEmail(email); user.setHousehold(household);
 
-      User user = new User(); user.setEmail(email); user.setHousehold(household);
+      Task task = new Task();
+      task.setTaskId(5L);
+      task.setHousehold(household);
+      task.setFrequency(Frequency.DAILY);
+      task.setRotation(Rotation.SINGLE);
+      task.setStartDate(LocalDate.now().minusDays(1));
+      task.setNextDue(LocalDate.now().atStartOfDay());
+      task.setRotationOffset(4);
 
-      Task task = new Task(); task.setTaskId(20L); task.setHousehold(household);
+      when(userRepo.getReferenceById(10L)).thenReturn(user);
+      when(taskRepo.findForMember(5L, 1L, 10L)).thenReturn(Optional.of(task));
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(taskRepo.findById(20L)).thenReturn(Optional.of(task));
+      // Act
+      taskService.completeTask(5L, AuthenticatedUser.fromEntity(user));
 
-      assertDoesNotThrow(() -> taskService.deleteTask(20L, email));
+      // Assert: no responsible rows read, locked or rewritten
+      assertEquals(5, task.getRotationOffset());
+      verifyNoInteractions(respRepo);
+    }
 
-      verify(taskRepo).delete(task);
+    @Test
+    void shouldNotRotateTeamTask() {
+      // Arrange
+      String email = "user@example.com";
+      Household household = new Household(); household.setHouseholdId(1L);
+      User user = new User(); user.setUserId(10L); user.setEmail(email); user.setHousehold(household);
+
+      Task task = new Task();
+      task.setTaskId(5L);
+      task.setHousehold(household);
+      task.setFrequency(Frequency.DAILY);
+      task.setRotation(Rotation.TEAM);
+      task.setStartDate(LocalDate.now().minusDays(1));
+      task.setNextDue(LocalDate.now().atStartOfDay());
+
+      when(userRepo.getReferenceById(10L)).thenReturn(user);
+      when(taskRepo.findForMember(5L, 1L, 10L)).thenReturn(Optional.of(task));
+
+      // Act
+      taskService.completeTask(5L, AuthenticatedUser.fromEntity(user));
+
+      // Assert
+      assertEquals(0, task.getRotationOffset());
+      verifyNoInteractions(respRepo);
     }
 
     @Test
-    void shouldThrowAccessDeniedIfNotSameHousehold() {
+    void shouldThrowIfOnceTaskAlreadyCompleted() {
       String email = "user@example.com";
-      Household h1 = new Household(); h1.setHouseholdId(1L);
-      Household h2 = new Household(); h2.setHouseholdId(2L);
 
-      User user = new User(); user.setEmail(email); user.setHousehold(h1);
+      Household household = new Household(); household.setHouseholdId(1L);
 
-      Task task = new Task(); task.setTaskId(20L); task.setHousehold(h2);
+      User user = new User(); user.setUserId(10L); user.setEmail(email); user.setHousehold(household);
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(taskRepo.findById(20L)).thenReturn(Optional.of(task));
+      Task task = new Task();
+      task.setTaskId(5L);
+      task.setHousehold(household);
+      task.setFrequency(Frequency.ONCE);
+      task.setNextDue(null); // already completed
 
-      assertThrows(AccessDeniedException.class, () -> taskService.deleteTask(20L, email));
+      when(taskRepo.findForMember(5L, 1L, 10L)).thenReturn(Optional.of(task));
 
-      verify(taskRepo, never()).delete(any());
+      assertThrows(IllegalStateException.class, () -> taskService.completeTask(5L, AuthenticatedUser.fromEntity(user)));
     }
   }
 
   @Nested
-  class GetTasksForHousehold {
-
-    @Test
-    void shouldReturnMappedDtosForUsersHousehold() {
-      String email = "user@example.com";
+  class CompleteTasks {
 
-      Household household = new Household();
-      household.setHouseholdId(1L);
+    private final AuthenticatedUser principal =
+        new AuthenticatedUser(10L, "user@example.com", null, Role.MEMBER, 1L, 0);
 
-      User user = new User();
-      user.setEmail(email);
-      user.setDisplayName("Alice");
-      user.setHousehold(household);
+    @Captor private ArgumentCaptor<List<TaskLog>> logs;
 
+    private Task dueTask(long id, Frequency frequency, LocalDateTime nextDue) {
+      Household household = new Household(); household.setHouseholdId(1L);
       Task task = new Task();
-      task.setTaskId(11L);
+      task.setTaskId(id);
       task.setHousehold(household);
-      task.setDescription("Clean kitchen");
-      task.setFrequency(Frequency.DAILY);
+      task.setFrequency(frequency);
       task.setRotation(Rotation.SINGLE);
-      task.setStartDate(LocalDate.now());
+      task.setStartDate(LocalDate.now().minusDays(7));
+      task.setNextDue(nextDue);
+      return task;
+    }
 
-      TaskResponsible resp = new TaskResponsible();
-      resp.setTask(task);
-      resp.setUser(user);
-      resp.setPosition(1);
+    @Test
+    void shouldLoadTasksInOneQueryAndSaveLogsTogether() {
+      // Arrange
+      Task dishes = dueTask(5L, Frequency.DAILY, LocalDate.now().atStartOfDay());
+      Task trash = dueTask(6L, Frequency.ONCE, LocalDate.now().atStartOfDay());
+      when(taskRepo.findAllForMember(1L, 10L, List.of(5L, 6L))).thenReturn(List.of(trash, dishes));
+      User user = new User(); user.setUserId(10L);
+      when(userRepo.getReferenceById(10L)).thenReturn(user);
 
-      // Arrange stubs for new 2-step fetch
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(taskRepo.findByHousehold_HouseholdIdOrderByNextDueAsc(1L)).thenReturn(List.of(task));
+      // Act
+      List<TaskCompletionResultDto> results = taskService.completeTasks(List.of(5L, 6L, 5L), principal);
 
-      // NEW: batch fetch for all responsibles for the returned tasks
-      when(respRepo.findAllByTask_TaskIdInOrderByTask_TaskIdAscPositionAsc(List.of(11L)))
-          .thenReturn(List.of(resp));
+      // Assert
+      assertEquals(List.of(5L, 6L), results.stream().map(TaskCompletionResultDto::getTaskId).toList());
+      assertTrue(results.stream().allMatch(r -> r.getStatus() == TaskCompletionResultDto.Status.COMPLETED));
+      assertEquals(LocalDate.now().plusDays(1).atStartOfDay(), dishes.getNextDue());
+      assertEquals(1, dishes.getRotationOffset());
+      assertNull(trash.getNextDue());
+
+      verify(logRepo).saveAll(logs.capture());
+      assertEquals(2, logs.getValue().size());
+      verify(logRepo, never()).save(any());
+      verify(userRepo, never()).findByEmail(any());
+      verify(events).publishEvent(new HouseholdChangeEvent(
+          1L, HouseholdChangeEvent.Subject.TASK, HouseholdChangeEvent.Action.COMPLETED, List.of(5L, 6L)));
+    }
+
+    @Test
+    void shouldReportMissingAndRejectedTasksWithoutFailingOthers() {
+      // Arrange: 7 is in another household, 8 is not due until tomorrow
+      Task dishes = dueTask(5L, Frequency.DAILY, LocalDate.now().atStartOfDay());
+      Task early = dueTask(8L, Frequency.DAILY, LocalDate.now().plusDays(1).atStartOfDay());
+      when(taskRepo.findAllForMember(1L, 10L, List.of(5L, 7L, 8L))).thenReturn(List.of(dishes, early));
 
       // Act
-      List<TaskResponseDto> result = taskService.getTasksForHousehold(email);
+      List<TaskCompletionResultDto> results = taskService.completeTasks(List.of(5L, 7L, 8L), principal);
 
-      // Assert DTO mapping
-      assertEquals(1, result.size());
-      TaskResponseDto dto = result.get(0);
-      assertEquals("Clean kitchen", dto.getDescription());
-      assertEquals(Frequency.DAILY, dto.getFrequency());
-      assertEquals(1, dto.getResponsibles().size());
-      assertEquals("Alice", dto.getResponsibles().get(0).getFullName());
+      // Assert
+      assertEquals(List.of(TaskCompletionResultDto.Status.COMPLETED, TaskCompletionResultDto.Status.NOT_FOUND,
+          TaskCompletionResultDto.Status.REJECTED), results.stream().map(TaskCompletionResultDto::getStatus).toList());
+      assertEquals("Task cannot be completed before its due date", results.get(2).getMessage());
+      assertEquals(0, early.getRotationOffset());
+
+      verify(logRepo).saveAll(logs.capture());
+      assertEquals(1, logs.getValue().size());
+      verify(events).publishEvent(new HouseholdChangeEvent(
+          1L, HouseholdChangeEvent.Subject.TASK, HouseholdChangeEvent.Action.COMPLETED, List.of(5L)));
+    }
 
-      // Assert we used the batch method and NOT the per-task one
-      verify(respRepo, times(1))
-          .findAllByTask_TaskIdInOrderByTask_TaskIdAscPositionAsc(List.of(11L));
-      verify(respRepo, never()).findAllByTask_TaskIdOrderByPositionAsc(anyLong());
+    @Test
+    void shouldNotWriteOrPublishWhenNothingCompleted() {
+      // Arrange
+      Task done = dueTask(6L, Frequency.ONCE, null);
+      when(taskRepo.findAllForMember(1L, 10L, List.of(6L))).thenReturn(List.of(done));
+
+      // Act
+      List<TaskCompletionResultDto> results = taskService.completeTasks(List.of(6L), principal);
+
+      // Assert
+      assertEquals("Task already completed", results.get(0).getMessage());
+      verifyNoInteractions(logRepo, events);
     }
 
     @Test
-    void shouldBatchFetchResponsiblesOnce_forAllTasks() {
-      String email = "user@example.com";
-      Household h = new Household(); h.setHouseholdId(1L);
+    void shouldRequireHousehold() {
+      // Arrange
+      AuthenticatedUser homeless = new AuthenticatedUser(10L, "user@example.com", null, Role.MEMBER, null, 0);
 
-      User u = new User(); u.setEmail(email); u.setHousehold(h);
+      // Act & Assert
+      assertThrows(IllegalStateException.class, () -> taskService.completeTasks(List.of(5L), homeless));
+      verifyNoInteractions(taskRepo, logRepo);
+    }
+  }
 
-      Task t1 = new Task(); t1.setTaskId(11L); t1.setHousehold(h);
-      Task t2 = new Task(); t2.setTaskId(22L); t2.setHousehold(h);
+  @Nested
+  class DeleteTask {
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(u));
-      when(taskRepo.findByHousehold_HouseholdIdOrderByNextDueAsc(1L)).thenReturn(List.of(t1, t2));
+    private final AuthenticatedUser principal =
+        new AuthenticatedUser(10L, "user@example.com", null, Role.MEMBER, 1L, 0);
 
-      TaskResponsible r11 = new TaskResponsible(); r11.setTask(t1); r11.setUser(u); r11.setPosition(1);
-      TaskResponsible r22 = new TaskResponsible(); r22.setTask(t2); r22.setUser(u); r22.setPosition(1);
+    @Test
+    void shouldDeleteWithOneHouseholdScopedStatement() {
+      // Arrange
+      when(taskRepo.deleteByTaskIdAndHouseholdId(20L, 1L)).thenReturn(1);
 
-      when(respRepo.findAllByTask_TaskIdInOrderByTask_TaskIdAscPositionAsc(List.of(11L, 22L)))
-          .thenReturn(List.of(r11, r22));
+      // Act
+      taskService.deleteTask(20L, principal);
 
-      List<TaskResponseDto> out = taskService.getTasksForHousehold(email);
+      // Assert: no task or user is loaded first
+      verify(events).publishEvent(new HouseholdChangeEvent(1L, HouseholdChangeEvent.Subject.TASK,
+          HouseholdChangeEvent.Action.DELETED, List.of(20L)));
+      verifyNoMoreInteractions(taskRepo);
+      verifyNoInteractions(userRepo, respRepo);
+    }
 
-      assertEquals(2, out.size());
-      verify(respRepo, times(1))
-          .findAllByTask_TaskIdInOrderByTask_TaskIdAscPositionAsc(List.of(11L, 22L));
-      verify(respRepo, never()).findAllByTask_TaskIdOrderByPositionAsc(anyLong());
+    @Test
+    void shouldReportTaskOfAnotherHouseholdAsMissing() {
+      // Arrange: the scoped delete matches no row
+      when(taskRepo.deleteByTaskIdAndHouseholdId(20L, 1L)).thenReturn(0);
+
+      // Act & Assert
+      assertThrows(jakarta.persistence.EntityNotFoundException.class, () -> taskService.deleteTask(20L, principal));
+      verifyNoInteractions(events);
+    }
+  }
+
+  @Nested
+  class GetTasksForHousehold {
+
+    @Test
+    void shouldReturnBoardForPrincipalsHousehold() {
+      // Arrange
+      AuthenticatedUser principal = new AuthenticatedUser(10L, "user@example.com", null, Role.MEMBER, 1L, 0);
+      TaskResponseDto board = new TaskResponseDto();
+      board.setTaskId(11L);
+      when(taskRepo.findBoardByHousehold(1L)).thenReturn(List.of(board));
+
+      // Act
+      List<TaskResponseDto> result = taskService.getTasksForHousehold(principal);
+
+      // Assert: one read-model query, no entity loads or user lookup
+      assertEquals(List.of(board), result);
+      verify(taskRepo).findBoardByHousehold(1L);
+      verifyNoMoreInteractions(taskRepo);
+      verifyNoInteractions(respRepo, userRepo);
+    }
+
+    @Test
+    void shouldThrowWhenPrincipalHasNoHousehold() {
+      AuthenticatedUser principal = new AuthenticatedUser(10L, "user@example.com", null, Role.MEMBER, null, 0);
+
+      assertThrows(IllegalStateException.class, () -> taskService.getTasksForHousehold(principal));
+      verifyNoInteractions(taskRepo);
     }
   }
 
@@ -580,18 +813,61 @@ class TaskServiceTest {
       resp.setUser(user);
       resp.setPosition(1);
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
-      when(taskRepo.findById(77L)).thenReturn(Optional.of(task));
-      when(respRepo.findAllByTask_TaskIdOrderByPositionAsc(77L)).thenReturn(List.of(resp));
+      when(taskRepo.findByTaskIdAndHousehold_HouseholdId(77L, 1L)).thenReturn(Optional.of(task));
+      when(respRepo.findAllWithUserByTask_TaskIdOrderByPositionAsc(77L)).thenReturn(List.of(resp));
 
       // Act
-      TaskResponseDto dto = taskService.getTaskById(77L, email);
+      TaskResponseDto dto = taskService.getTaskById(77L, AuthenticatedUser.fromEntity(user));
 
       // Assert
       assertEquals("Vacuum living room", dto.getDescription());
       assertEquals(Frequency.WEEKLY, dto.getFrequency());
       assertEquals(1, dto.getResponsibles().size());
       assertEquals("Bob", dto.getResponsibles().get(0).getFullName());
+      verify(userRepo, never()).findByEmail(any());
+    }
+
+    @Test
+    void shouldReportTaskOfAnotherHouseholdAsMissing() {
+      // Arrange: the scoped read finds nothing for the caller's household
+      AuthenticatedUser principal = new AuthenticatedUser(10L, "user@example.com", null, Role.MEMBER, 1L, 0);
+      when(taskRepo.findByTaskIdAndHousehold_HouseholdId(77L, 1L)).thenReturn(Optional.empty());
+
+      // Act & Assert
+      assertThrows(jakarta.persistence.EntityNotFoundException.class, () -> taskService.getTaskById(77L, principal));
+      verifyNoInteractions(respRepo);
+    }
+
+    @Test
+    void shouldListResponsiblesInEffectiveRotationOrder() {
+      // Arrange: three responsibles stored as 1..3, after four completions
+      String email = "user@example.com";
+      Household household = new Household(); household.setHouseholdId(1L);
+      User caller = new User(); caller.setEmail(email); caller.setHousehold(household);
+
+      Task task = new Task();
+      task.setTaskId(77L);
+      task.setHousehold(household);
+      task.setFrequency(Frequency.WEEKLY);
+      task.setRotation(Rotation.SINGLE);
+      task.setStartDate(LocalDate.now());
+      task.setRotationOffset(4);
+
+      List<TaskResponsible> stored = new java.util.ArrayList<>();
+      for (int p = 1; p <= 3; p++) {
+        User u = new User(); u.setUserId((long) p); u.setDisplayName("User " + p);
+        stored.add(new TaskResponsible(task, u, p));
+      }
+
+      when(taskRepo.findByTaskIdAndHousehold_HouseholdId(77L, 1L)).thenReturn(Optional.of(task));
+      when(respRepo.findAllWithUserByTask_TaskIdOrderByPositionAsc(77L)).thenReturn(stored);
+
+      // Act
+      TaskResponseDto dto = taskService.getTaskById(77L, AuthenticatedUser.fromEntity(caller));
+
+      // Assert: 4 mod 3 = 1 rotation, so the second stored responsible is next
+      assertEquals(List.of(2L, 3L, 1L), dto.getResponsibles().stream().map(r -> r.getUserId()).toList());
+      assertEquals(List.of(1, 2, 3), dto.getResponsibles().stream().map(r -> r.getPosition()).toList());
     }
   }
 
@@ -637,14 +913,14 @@ class TaskServiceTest {
       TaskLog l1 = new TaskLog(t1, u, java.time.Instant.now());
       TaskLog l2 = new TaskLog(t2, u, java.time.Instant.now());
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(u));
+      AuthenticatedUser principal = AuthenticatedUser.fromEntity(u);
 
       // Return a page with two logs for whatever pageable we get
-      when(logRepo.findByTask_Household_HouseholdId(eq(1L), any(Pageable.class)))
+      when(logRepo.findByHouseholdId(eq(1L), any(Pageable.class)))
           .thenAnswer(inv -> new PageImpl<>(List.of(l1, l2)));
 
       // Act
-      List<TaskLogResponseDto> out = taskService.getTaskLogs(email, 0, 20);
+      List<TaskLogResponseDto> out = taskService.getTaskLogs(principal, 0, 20);
 
       // Assert mapping
       assertEquals(2, out.size());
@@ -656,7 +932,7 @@ class TaskServiceTest {
 
       // Assert paging + sort used DESC on completedAt
       ArgumentCaptor<Pageable> cap = ArgumentCaptor.forClass(Pageable.class);
-      verify(logRepo).findByTask_Household_HouseholdId(eq(1L), cap.capture());
+      verify(logRepo).findByHouseholdId(eq(1L), cap.capture());
       Pageable used = cap.getValue();
       assertEquals(0, used.getPageNumber());
       assertEquals(20, used.getPageSize());
@@ -671,12 +947,12 @@ class TaskServiceTest {
       Household h = hh();
       User u = user(email, h);
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(u));
-      when(logRepo.findByTask_Household_HouseholdId(eq(1L), any(Pageable.class)))
+      AuthenticatedUser principal = AuthenticatedUser.fromEntity(u);
+      when(logRepo.findByHouseholdId(eq(1L), any(Pageable.class)))
           .thenAnswer(inv -> new PageImpl<>(List.of())); // empty page ok
 
       // Act
-      List<TaskLogResponseDto> out = taskService.getTaskLogs(email, -5, 1000);
+      List<TaskLogResponseDto> out = taskService.getTaskLogs(principal, -5, 1000);
 
       // Assert output (empty, fine)
       assertNotNull(out);
@@ -684,7 +960,7 @@ class TaskServiceTest {
 
       // Assert clamped paging arguments
       ArgumentCaptor<Pageable> cap = ArgumentCaptor.forClass(Pageable.class);
-      verify(logRepo).findByTask_Household_HouseholdId(eq(1L), cap.capture());
+      verify(logRepo).findByHouseholdId(eq(1L), cap.capture());
       Pageable used = cap.getValue();
       assertEquals(0, used.getPageNumber(), "negative page should clamp to 0");
       assertEquals(100, used.getPageSize(), "size should cap to 100");
@@ -698,10 +974,94 @@ class TaskServiceTest {
       u.setDisplayName("Alice");
       u.setHousehold(null); // no household
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(u));
+      AuthenticatedUser principal = AuthenticatedUser.fromEntity(u);
+
+      assertThrows(IllegalStateException.class, () -> taskService.getTaskLogs(principal, 0, 20));
+      verify(logRepo, never()).findByHouseholdId(anyLong(), any(Pageable.class));
+    }
+  }
+
+  @Nested
+  class GetTaskLogsAfter {
+
+    private final Instant base = Instant.parse("2025-06-01T12:00:00Z");
+
+    private AuthenticatedUser principal(Long householdId) {
+      return new AuthenticatedUser(10L, "user@example.com", null, Role.MEMBER, householdId, 0);
+    }
+
+    private TaskLog log(long id, Instant completedAt) {
+      Household h = new Household();
+      h.setHouseholdId(1L);
+      Task t = new Task();
+      t.setTaskId(100L + id);
+      t.setHousehold(h);
+      User u = new User();
+      u.setUserId(10L);
+      u.setDisplayName("Alice");
+
+      TaskLog l = new TaskLog(t, u, completedAt);
+      ReflectionTestUtils.setField(l, "logId", id);
+      return l;
+    }
+
+    @Test
+    void shouldReturnFirstSliceWithCursorWhenMoreRowsExist() {
+      // Arrange: size 2, repository returns size + 1 rows
+      TaskLog l3 = log(3L, base);
+      TaskLog l2 = log(2L, base);            // same second as l3, tie broken by log id
+      TaskLog l1 = log(1L, base.minusSeconds(60));
+      when(logRepo.findLatestByHousehold(1L, Limit.of(3))).thenReturn(List.of(l3, l2, l1));
+
+      // Act
+      TaskLogSliceResponseDto out = taskService.getTaskLogsAfter(principal(1L), "", 2);
+
+      // Assert
+      assertTrue(out.isHasNext());
+      assertEquals(List.of(3L, 2L), out.getItems().stream().map(TaskLogResponseDto::getLogId).toList());
+      assertEquals(new LogCursor(base, 2L), LogCursor.decode(out.getNextCursor()));
+      verify(logRepo, never()).findByHouseholdId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void shouldSeekFromCursorAndEndWithoutNextCursor() {
+      // Arrange
+      String cursor = new LogCursor(base, 2L).encode();
+      TaskLog l1 = log(1L, base.minusSeconds(60));
+      when(logRepo.findByHouseholdBefore(1L, base, 2L, Limit.of(21))).thenReturn(List.of(l1));
+
+      // Act
+      TaskLogSliceResponseDto out = taskService.getTaskLogsAfter(principal(1L), cursor, 20);
 
-      assertThrows(IllegalStateException.class, () -> taskService.getTaskLogs(email, 0, 20));
-      verify(logRepo, never()).findByTask_Household_HouseholdId(anyLong(), any(Pageable.class));
+      // Assert
+      assertFalse(out.isHasNext());
+      assertNull(out.getNextCursor());
+      assertEquals(1, out.getItems().size());
+      verify(logRepo, never()).findLatestByHousehold(anyLong(), any());
+    }
+
+    @Test
+    void shouldCapSizeTo100() {
+      when(logRepo.findLatestByHousehold(1L, Limit.of(101))).thenReturn(List.of());
+
+      TaskLogSliceResponseDto out = taskService.getTaskLogsAfter(principal(1L), null, 1000);
+
+      assertTrue(out.getItems().isEmpty());
+      assertFalse(out.isHasNext());
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+      assertThrows(IllegalArgumentException.class,
+          () -> taskService.getTaskLogsAfter(principal(1L), "not-a-cursor", 20));
+      verifyNoInteractions(logRepo);
+    }
+
+    @Test
+    void shouldThrowWhenUserHasNoHousehold() {
+      assertThrows(IllegalStateException.class,
+          () -> taskService.getTaskLogsAfter(principal(null), "", 20));
+      verifyNoInteractions(logRepo);
     }
   }
 
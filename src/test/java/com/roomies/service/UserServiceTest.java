@@ -6,15 +6,21 @@ import com.roomies.entity.Household;
 import com.roomies.entity.Role;
 import com.roomies.entity.User;
 import com.roomies.repository.UserRepository;
+import com.roomies.security.PrincipalCache;
+import com.roomies.service.event.HouseholdChangeEvent;
+import com.roomies.service.event.HouseholdChangeEvent.Action;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,6 +31,10 @@ class UserServiceTest {
 
   @Mock private UserRepository userRepo;
   @Mock private PasswordEncoder passwordEncoder;
+  @Mock private PrincipalCache principalCache;
+  @Mock private ApplicationEventPublisher events;
+  @Mock private TaskService taskService;
+  @Mock private ShoppingItemService shoppingItemService;
 
   @InjectMocks private UserService userService;
 
@@ -47,7 +57,7 @@ class UserServiceTest {
       user.setHousehold(h);
       user.setRole(Role.MEMBER);
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
 
       // Act
       UserResponseDto dto = userService.getCurrentUser(email);
@@ -61,7 +71,7 @@ class UserServiceTest {
       assertEquals("Solsiden 3B", dto.getHouseholdName());
       assertEquals(Role.MEMBER, dto.getRole());
 
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
       verifyNoMoreInteractions(userRepo);
     }
 
@@ -77,7 +87,7 @@ class UserServiceTest {
       user.setHousehold(null); // no household
       user.setRole(Role.ADMIN);
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
 
       // Act
       UserResponseDto dto = userService.getCurrentUser(email);
@@ -91,7 +101,7 @@ class UserServiceTest {
       assertNull(dto.getHouseholdName());
       assertEquals(Role.ADMIN, dto.getRole());
 
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
       verifyNoMoreInteractions(userRepo);
     }
 
@@ -99,12 +109,12 @@ class UserServiceTest {
     void shouldThrowWhenUserNotFound() {
       // Arrange
       String email = "missing@example.com";
-      when(userRepo.findByEmail(email)).thenReturn(Optional.empty());
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.empty());
 
       // Act & Assert
       assertThrows(EntityNotFoundException.class, () -> userService.getCurrentUser(email));
 
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
       verifyNoMoreInteractions(userRepo);
     }
   }
@@ -122,7 +132,7 @@ class UserServiceTest {
       user.setDisplayName("Old Name");
       user.setPassword("$2a$10$hash"); // existing hash
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
       when(userRepo.save(user)).thenReturn(user);
 
       UserUpdateRequestDto dto = new UserUpdateRequestDto();
@@ -134,10 +144,35 @@ class UserServiceTest {
       // Assert
       assertEquals("New Name", user.getDisplayName());
       assertEquals("New Name", resp.getDisplayName());
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
       verify(userRepo).save(user);
       verifyNoMoreInteractions(userRepo);
       verifyNoInteractions(passwordEncoder);
+      verifyNoInteractions(events); // not in a household
+    }
+
+    @Test
+    void shouldPublishMemberChangeWhenRenamingHouseholdMember() {
+      // Arrange
+      String email = "user@example.com";
+      Household household = new Household();
+      household.setHouseholdId(7L);
+      User user = new User();
+      user.setUserId(1L);
+      user.setEmail(email);
+      user.setDisplayName("Old Name");
+      user.setHousehold(household);
+
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
+
+      UserUpdateRequestDto dto = new UserUpdateRequestDto();
+      dto.setDisplayName("New Name");
+
+      // Act
+      userService.updateCurrentUser(dto, email);
+
+      // Assert
+      verify(events).publishEvent(HouseholdChangeEvent.of(7L, Subject.MEMBER, Action.UPDATED, 1L));
     }
 
     @Test
@@ -150,7 +185,7 @@ class UserServiceTest {
       user.setDisplayName("Name");
       user.setPassword("$2a$10$oldhash");
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
       when(passwordEncoder.matches("oldPass", "$2a$10$oldhash")).thenReturn(true);
       when(passwordEncoder.encode("newPass123")).thenReturn("$2a$10$newhash");
       when(userRepo.save(user)).thenReturn(user);
@@ -164,6 +199,7 @@ class UserServiceTest {
 
       // Assert
       assertEquals("$2a$10$newhash", user.getPassword());
+      assertEquals(1, user.getTokenVersion(), "password change must invalidate issued tokens");
       assertEquals("Name", resp.getDisplayName()); // unchanged
       verify(passwordEncoder).matches("oldPass", "$2a$10$oldhash");
       verify(passwordEncoder).encode("newPass123");
@@ -178,7 +214,7 @@ class UserServiceTest {
       user.setEmail(email);
       user.setPassword("$2a$10$oldhash");
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
 
       UserUpdateRequestDto dto = new UserUpdateRequestDto();
       dto.setNewPassword("newPass123"); // currentPassword missing
@@ -188,9 +224,10 @@ class UserServiceTest {
           () -> userService.updateCurrentUser(dto, email));
       assertTrue(ex.getMessage().toLowerCase().contains("current password"));
 
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
       verify(userRepo, never()).save(any());
       verifyNoInteractions(passwordEncoder);
+      verifyNoInteractions(principalCache);
     }
 
     @Test
@@ -201,7 +238,7 @@ class UserServiceTest {
       user.setEmail(email);
       user.setPassword("$2a$10$oldhash");
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
       when(passwordEncoder.matches("wrong", "$2a$10$oldhash")).thenReturn(false);
 
       UserUpdateRequestDto dto = new UserUpdateRequestDto();
@@ -226,7 +263,7 @@ class UserServiceTest {
       user.setDisplayName("Same Name");
       user.setPassword("$2a$10$hash");
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
 
       UserUpdateRequestDto dto = new UserUpdateRequestDto();
       dto.setDisplayName("Same Name"); // same as current
@@ -237,7 +274,7 @@ class UserServiceTest {
 
       // Assert
       assertEquals("Same Name", resp.getDisplayName());
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
       verify(userRepo, never()).save(any());
       verifyNoInteractions(passwordEncoder);
     }
@@ -251,7 +288,7 @@ class UserServiceTest {
       user.setDisplayName("Name");
       user.setPassword("$2a$10$hash");
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
 
       UserUpdateRequestDto dto = new UserUpdateRequestDto();
       dto.setDisplayName(null);
@@ -263,7 +300,7 @@ class UserServiceTest {
 
       // Assert
       assertEquals("Name", resp.getDisplayName());
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
       verify(userRepo, never()).save(any());
       verifyNoInteractions(passwordEncoder);
     }
@@ -272,14 +309,14 @@ class UserServiceTest {
     void shouldThrowWhenUserNotFoundOnUpdate() {
       // Arrange
       String email = "missing@example.com";
-      when(userRepo.findByEmail(email)).thenReturn(Optional.empty());
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.empty());
 
       UserUpdateRequestDto dto = new UserUpdateRequestDto();
       dto.setDisplayName("X");
 
       // Act & Assert
       assertThrows(EntityNotFoundException.class, () -> userService.updateCurrentUser(dto, email));
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
       verify(userRepo, never()).save(any());
     }
   }
@@ -295,26 +332,67 @@ class UserServiceTest {
       user.setUserId(1L);
       user.setEmail(email);
 
-      when(userRepo.findByEmail(email)).thenReturn(Optional.of(user));
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
 
       // Act
       assertDoesNotThrow(() -> userService.deleteCurrentUser(email));
 
       // Assert
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
+      verify(taskService).removeFromRotations(1L);
       verify(userRepo).delete(user);
+      verify(principalCache).invalidate(user);
+    }
+
+    @Test
+    void shouldClearShoppingItemsBeforeDeletingUser() {
+      // Arrange
+      String email = "user@example.com";
+      User user = new User();
+      user.setUserId(1L);
+      user.setEmail(email);
+
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
+
+      // Act
+      userService.deleteCurrentUser(email);
+
+      // Assert
+      InOrder order = inOrder(shoppingItemService, userRepo);
+      order.verify(shoppingItemService).removeMember(1L);
+      order.verify(userRepo).delete(user);
+    }
+
+    @Test
+    void shouldPublishMemberChangeWhenDeletingHouseholdMember() {
+      // Arrange
+      String email = "user@example.com";
+      Household household = new Household();
+      household.setHouseholdId(7L);
+      User user = new User();
+      user.setUserId(1L);
+      user.setEmail(email);
+      user.setHousehold(household);
+
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.of(user));
+
+      // Act
+      userService.deleteCurrentUser(email);
+
+      // Assert
+      verify(events).publishEvent(HouseholdChangeEvent.of(7L, Subject.MEMBER, Action.DELETED, 1L));
     }
 
     @Test
     void shouldThrowWhenUserNotFoundOnDelete() {
       // Arrange
       String email = "missing@example.com";
-      when(userRepo.findByEmail(email)).thenReturn(Optional.empty());
+      when(userRepo.findWithHouseholdByEmail(email)).thenReturn(Optional.empty());
 
       // Act & Assert
       assertThrows(EntityNotFoundException.class, () -> userService.deleteCurrentUser(email));
 
-      verify(userRepo).findByEmail(email);
+      verify(userRepo).findWithHouseholdByEmail(email);
       verify(userRepo, never()).delete(any());
     }
   }
@@ -0,0 +1,116 @@
+package com.roomies.service.event;
+
+import com.roomies.dto.household.HouseholdChangeDto;
+import com.roomies.dto.household.HouseholdFeedFrameDto;
+import com.roomies.service.event.HouseholdChangeEvent.Action;
+import com.roomies.service.event.HouseholdChangeEvent.Subject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for HouseholdChangeBroadcaster.
+ */
+@ExtendWith(MockitoExtension.class)
+class HouseholdChangeBroadcasterTest {
+
+  @Mock private SimpMessageSendingOperations messaging;
+
+  private SimpleMeterRegistry meterRegistry;
+  private HouseholdChangeBroadcaster broadcaster;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    broadcaster = new HouseholdChangeBroadcaster(messaging, meterRegistry, Duration.ofMillis(50));
+  }
+
+  @AfterEach
+  void tearDown() {
+    broadcaster.shutdown();
+  }
+
+  private static HouseholdChangeEvent event(Subject subject, Action action, Long... ids) {
+    return new HouseholdChangeEvent(1L, subject, action, List.of(ids));
+  }
+
+  @Test
+  void shouldSendOneFramePerHouseholdAndWindow() {
+    // Arrange
+    HouseholdChangeEvent a = event(Subject.SHOPPING_ITEM, Action.PURCHASED, 10L, 11L);
+    HouseholdChangeEvent b = event(Subject.SHOPPING_ITEM, Action.PURCHASED, 12L);
+    HouseholdChangeEvent other = new HouseholdChangeEvent(2L, Subject.TASK, Action.COMPLETED, List.of(5L));
+
+    // Act
+    broadcaster.onChange(a);
+    broadcaster.onChange(b);
+    broadcaster.onChange(other);
+
+    // Assert
+    ArgumentCaptor<HouseholdFeedFrameDto> frame = ArgumentCaptor.forClass(HouseholdFeedFrameDto.class);
+    verify(messaging, timeout(2_000)).convertAndSend(eq("/topic/household/1"), frame.capture());
+    verify(messaging, timeout(2_000)).convertAndSend(eq("/topic/household/2"), any(Object.class));
+    assertEquals(HouseholdFeedFrameDto.CHANGES, frame.getValue().getType());
+    assertEquals(1, frame.getValue().getChanges().size());
+    assertEquals(List.of(10L, 11L, 12L), frame.getValue().getChanges().get(0).getIds());
+    assertEquals(0.0, meterRegistry.get("roomies.ws.coalescer.pending").gauge().value());
+  }
+
+  @Test
+  void shouldIgnoreEventsWithoutHousehold() throws InterruptedException {
+    // Act
+    broadcaster.onChange(new HouseholdChangeEvent(null, Subject.TASK, Action.CREATED, List.of(1L)));
+    Thread.sleep(150);
+
+    // Assert
+    verifyNoInteractions(messaging);
+  }
+
+  @Test
+  void coalesceShouldMergeBySubjectAndActionInFirstSeenOrder() {
+    // Act
+    List<HouseholdChangeDto> changes = HouseholdChangeBroadcaster.coalesce(List.of(
+        event(Subject.TASK, Action.UPDATED, 1L),
+        event(Subject.SHOPPING_ITEM, Action.CREATED, 7L),
+        event(Subject.TASK, Action.UPDATED, 2L, 1L),
+        event(Subject.TASK, Action.COMPLETED, 2L)));
+
+    // Assert
+    assertEquals(3, changes.size());
+    assertEquals("TASK", changes.get(0).getSubject());
+    assertEquals("UPDATED", changes.get(0).getAction());
+    assertEquals(List.of(1L, 2L), changes.get(0).getIds());
+    assertEquals("SHOPPING_ITEM", changes.get(1).getSubject());
+    assertEquals("COMPLETED", changes.get(2).getAction());
+  }
+
+  @Test
+  void coalesceShouldReportDeletedIdsOnlyAsDeleted() {
+    // Act
+    List<HouseholdChangeDto> changes = HouseholdChangeBroadcaster.coalesce(List.of(
+        event(Subject.SHOPPING_ITEM, Action.CREATED, 3L),
+        event(Subject.SHOPPING_ITEM, Action.UPDATED, 3L, 4L),
+        event(Subject.SHOPPING_ITEM, Action.DELETED, 3L),
+        event(Subject.TASK, Action.UPDATED, 3L)));
+
+    // Assert: item 3 is gone, task 3 is unrelated
+    assertEquals(3, changes.size());
+    assertEquals("UPDATED", changes.get(0).getAction());
+    assertEquals(List.of(4L), changes.get(0).getIds());
+    assertEquals("DELETED", changes.get(1).getAction());
+    assertEquals(List.of(3L), changes.get(1).getIds());
+    assertEquals("TASK", changes.get(2).getSubject());
+  }
+}
@@ -0,0 +1,124 @@
+package com.roomies.service.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OutboundBackpressure.
+ */
+class OutboundBackpressureTest {
+
+  private static final String SESSION = "s1";
+  private static final int MAX_QUEUED = 3;
+
+  private SimpleMeterRegistry meterRegistry;
+  private OutboundBackpressure backpressure;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    meterRegistry = new SimpleMeterRegistry();
+    backpressure = new OutboundBackpressure(new ObjectMapper(), meterRegistry, MAX_QUEUED);
+    backpressure.register(SESSION);
+  }
+
+  private static Message<byte[]> frame(SimpMessageType type, String body) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+    accessor.setSessionId(SESSION);
+    accessor.setDestination("/topic/household/1");
+    accessor.setSubscriptionId("sub-0");
+    return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+  }
+
+  private double gauge(String name) {
+    return meterRegistry.get(name).gauge().value();
+  }
+
+  @Test
+  void shouldPassMessagesWhileBelowLimit() {
+    // Arrange
+    Message<byte[]> msg = frame(SimpMessageType.MESSAGE, "{}");
+
+    // Act & Assert
+    for (int i = 0; i < MAX_QUEUED; i++) {
+      assertSame(msg, backpressure.preSend(msg, null));
+    }
+    assertEquals(MAX_QUEUED, gauge("roomies.ws.outbound.queued"));
+  }
+
+  @Test
+  void shouldReplaceOverflowWithResyncAndDropUntilDrained() {
+    // Arrange: fill the backlog
+    for (int i = 0; i < MAX_QUEUED; i++) {
+      backpressure.preSend(frame(SimpMessageType.MESSAGE, "{}"), null);
+    }
+
+    // Act
+    Message<?> overflow = backpressure.preSend(frame(SimpMessageType.MESSAGE, "{}"), null);
+    Message<?> afterResync = backpressure.preSend(frame(SimpMessageType.MESSAGE, "{}"), null);
+
+    // Assert
+    assertNotNull(overflow);
+    String body = new String((byte[]) overflow.getPayload(), StandardCharsets.UTF_8);
+    assertTrue(body.contains("\"RESYNC\""), body);
+    assertEquals(SESSION, SimpMessageHeaderAccessor.getSessionId(overflow.getHeaders()));
+    assertEquals("sub-0", SimpMessageHeaderAccessor.getSubscriptionId(overflow.getHeaders()));
+    assertNull(afterResync);
+    assertEquals(2.0, meterRegistry.get("roomies.ws.outbound.dropped").counter().count());
+    assertEquals(1.0, meterRegistry.get("roomies.ws.outbound.resyncs").counter().count());
+  }
+
+  @Test
+  void shouldResumeOnceBacklogDrains() {
+    // Arrange: overflow, then the client reads everything including the RESYNC frame
+    for (int i = 0; i <= MAX_QUEUED; i++) {
+      backpressure.preSend(frame(SimpMessageType.MESSAGE, "{}"), null);
+    }
+    for (int i = 0; i <= MAX_QUEUED; i++) {
+      backpressure.onSent(SESSION);
+    }
+
+    // Act
+    Message<byte[]> msg = frame(SimpMessageType.MESSAGE, "{}");
+
+    // Assert
+    assertSame(msg, backpressure.preSend(msg, null));
+    assertEquals(1.0, gauge("roomies.ws.outbound.queued"));
+  }
+
+  @Test
+  void shouldNeverDropControlFrames() {
+    // Arrange
+    for (int i = 0; i <= MAX_QUEUED; i++) {
+      backpressure.preSend(frame(SimpMessageType.MESSAGE, "{}"), null);
+    }
+    Message<byte[]> heartbeat = frame(SimpMessageType.HEARTBEAT, "");
+
+    // Act & Assert
+    assertSame(heartbeat, backpressure.preSend(heartbeat, null));
+  }
+
+  @Test
+  void shouldIgnoreUnknownSessionsAndNotGoNegative() {
+    // Arrange
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId("unknown");
+    Message<byte[]> msg = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+    // Act
+    backpressure.onSent(SESSION);
+
+    // Assert
+    assertSame(msg, backpressure.preSend(msg, null));
+    assertEquals(0.0, gauge("roomies.ws.outbound.queued"));
+    assertEquals(1.0, gauge("roomies.ws.outbound.sessions"));
+  }
+}
@@ -0,0 +1,146 @@
+package com.roomies.service.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InMemoryIdempotencyStore.
+ */
+class InMemoryIdempotencyStoreTest {
+
+  private InMemoryIdempotencyStore store;
+  private AtomicInteger runs;
+
+  @BeforeEach
+  void setUp() {
+    store = new InMemoryIdempotencyStore(
+        new SimpleMeterRegistry(), 100, Duration.ofHours(1), Duration.ofSeconds(5));
+    runs = new AtomicInteger();
+  }
+
+  private String complete() {
+    return "done " + runs.incrementAndGet();
+  }
+
+  @Test
+  void shouldRunActionOnFirstRequest() {
+    // Act
+    IdempotencyStore.Outcome outcome = store.execute("k", this::complete);
+
+    // Assert
+    assertEquals(new IdempotencyStore.Outcome("done 1", false), outcome);
+  }
+
+  @Test
+  void shouldReplayOutcomeWithoutRunningAgain() {
+    // Arrange
+    store.execute("k", this::complete);
+
+    // Act
+    IdempotencyStore.Outcome outcome = store.execute("k", this::complete);
+
+    // Assert
+    assertEquals(new IdempotencyStore.Outcome("done 1", true), outcome);
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  void shouldKeepKeysApart() {
+    // Arrange
+    store.execute("k", this::complete);
+
+    // Act
+    IdempotencyStore.Outcome outcome = store.execute("other", this::complete);
+
+    // Assert
+    assertFalse(outcome.replayed());
+    assertEquals(2, runs.get());
+  }
+
+  @Test
+  void shouldNotRecordFailure() {
+    // Arrange
+    assertThrows(IllegalStateException.class, () -> store.execute("k", () -> {
+      throw new IllegalStateException("Task cannot be completed before its due date");
+    }));
+
+    // Act
+    IdempotencyStore.Outcome outcome = store.execute("k", this::complete);
+
+    // Assert
+    assertEquals(new IdempotencyStore.Outcome("done 1", false), outcome);
+  }
+
+  @Test
+  void shouldMakeConcurrentRetryWaitForFirstOutcome() throws Exception {
+    // Arrange: the first request is inside its action when the retry arrives
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+    try {
+      Future<IdempotencyStore.Outcome> first = pool.submit(() -> store.execute("k", () -> {
+        started.countDown();
+        awaitQuietly(release);
+        return complete();
+      }));
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      // Act
+      Future<IdempotencyStore.Outcome> retry = pool.submit(() -> store.execute("k", this::complete));
+      release.countDown();
+
+      // Assert
+      assertFalse(first.get(5, TimeUnit.SECONDS).replayed());
+      assertEquals(new IdempotencyStore.Outcome("done 1", true), retry.get(5, TimeUnit.SECONDS));
+      assertEquals(1, runs.get());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldRejectRetryWhenFirstRequestOutlastsWait() throws Exception {
+    // Arrange: the first request stays inside its action past the retry's wait
+    store = new InMemoryIdempotencyStore(
+        new SimpleMeterRegistry(), 100, Duration.ofHours(1), Duration.ofMillis(50));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      Future<IdempotencyStore.Outcome> first = pool.submit(() -> store.execute("k", () -> {
+        started.countDown();
+        awaitQuietly(release);
+        return complete();
+      }));
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      // Act & Assert
+      assertThrows(ConcurrencyFailureException.class, () -> store.execute("k", this::complete));
+
+      release.countDown();
+      assertEquals(new IdempotencyStore.Outcome("done 1", false), first.get(5, TimeUnit.SECONDS));
+      assertEquals(1, runs.get());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.roomies.service.idempotency;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JdbcIdempotencyStore.
+ */
+@ExtendWith(MockitoExtension.class)
+class JdbcIdempotencyStoreTest {
+
+  private static final Instant NOW = Instant.parse("2025-03-01T12:00:00Z");
+
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Mock private Supplier<String> action;
+
+  private JdbcIdempotencyStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new JdbcIdempotencyStore(jdbcTemplate, Duration.ofHours(24), Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  /** Makes the claim fail once, as if another request already inserted the key. */
+  private void claimedBefore(String outcome, Instant expiresAt) throws Exception {
+    when(jdbcTemplate.update(eq(JdbcIdempotencyStore.CLAIM_SQL), eq("k"), any(Timestamp.class)))
+        .thenThrow(new DuplicateKeyException("duplicate"))
+        .thenReturn(1);
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getString("outcome")).thenReturn(outcome);
+    when(rs.getTimestamp("expires_at")).thenReturn(Timestamp.from(expiresAt));
+    when(jdbcTemplate.query(eq(JdbcIdempotencyStore.FIND_SQL), ArgumentMatchers.<RowMapper<Object>>any(), eq("k")))
+        .thenAnswer(inv -> List.of(inv.<RowMapper<?>>getArgument(1).mapRow(rs, 0)));
+  }
+
+  @Test
+  void shouldClaimRunAndRecordOnFirstRequest() {
+    // Arrange
+    when(action.get()).thenReturn("Task completed");
+
+    // Act
+    IdempotencyStore.Outcome outcome = store.execute("k", action);
+
+    // Assert
+    assertEquals(new IdempotencyStore.Outcome("Task completed", false), outcome);
+    verify(jdbcTemplate).update(JdbcIdempotencyStore.CLAIM_SQL, "k", Timestamp.from(NOW.plus(Duration.ofHours(24))));
+    verify(jdbcTemplate).update(JdbcIdempotencyStore.RECORD_SQL, "Task completed", "k");
+  }
+
+  @Test
+  void shouldReplayRecordedOutcome() throws Exception {
+    // Arrange
+    claimedBefore("Task completed", NOW.plusSeconds(60));
+
+    // Act
+    IdempotencyStore.Outcome outcome = store.execute("k", action);
+
+    // Assert
+    assertEquals(new IdempotencyStore.Outcome("Task completed", true), outcome);
+    verifyNoInteractions(action);
+  }
+
+  @Test
+  void shouldRejectRetryWhileFirstRequestRuns() throws Exception {
+    // Arrange
+    claimedBefore(null, NOW.plusSeconds(60));
+
+    // Act & Assert
+    assertThrows(ConcurrencyFailureException.class, () -> store.execute("k", action));
+    verifyNoInteractions(action);
+  }
+
+  @Test
+  void shouldReclaimExpiredKey() throws Exception {
+    // Arrange
+    claimedBefore("Task completed", NOW.minusSeconds(1));
+    when(action.get()).thenReturn("Task completed");
+
+    // Act
+    IdempotencyStore.Outcome outcome = store.execute("k", action);
+
+    // Assert
+    assertFalse(outcome.replayed());
+    verify(jdbcTemplate).update(JdbcIdempotencyStore.DELETE_EXPIRED_KEY_SQL, "k", Timestamp.from(NOW));
+    verify(action).get();
+  }
+
+  @Test
+  void shouldReleaseKeyWhenActionFails() {
+    // Arrange
+    when(action.get()).thenThrow(new IllegalStateException("Task cannot be completed before its due date"));
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> store.execute("k", action));
+    verify(jdbcTemplate).update(JdbcIdempotencyStore.RELEASE_SQL, "k");
+    verify(jdbcTemplate, never()).update(eq(JdbcIdempotencyStore.RECORD_SQL), any(), any());
+  }
+}
@@ -0,0 +1,170 @@
+package com.roomies.service.util;
+
+import com.roomies.entity.Frequency;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Property tests: the closed-form operations must agree with stepping
+ * {@link TaskSchedule#nextAfter} one period at a time.
+ */
+class TaskScheduleTest {
+
+  private static final long SEED = 20250615L;
+  private static final int SAMPLES = 5_000;
+  private static final Frequency[] REPEATING = {
+      Frequency.DAILY, Frequency.EVERY_OTHER_DAY, Frequency.WEEKLY,
+      Frequency.EVERY_OTHER_WEEK, Frequency.MONTHLY
+  };
+
+  /** Reference implementation: the original catch-up loop. */
+  private static LocalDateTime loopOnOrAfter(LocalDateTime anchor, Frequency f, LocalDate target) {
+    LocalDateTime candidate = anchor;
+    while (candidate.toLocalDate().isBefore(target)) {
+      candidate = TaskSchedule.nextAfter(candidate, f);
+    }
+    return candidate;
+  }
+
+  private static LocalDate randomDate(Random rnd) {
+    // 1896..2404 covers skipped century leap years (1900, 2100, 2200, 2300) and 2000/2400
+    return LocalDate.of(1896, 1, 1).plusDays(rnd.nextInt(185_000));
+  }
+
+  /** Biases toward month ends, where MONTHLY clamping matters. */
+  private static LocalDate randomAnchor(Random rnd) {
+    LocalDate d = randomDate(rnd);
+    return rnd.nextBoolean() ? d.withDayOfMonth(d.lengthOfMonth()).minusDays(rnd.nextInt(4)) : d;
+  }
+
+  @Nested
+  class Advance {
+
+    @Test
+    void shouldMatchRepeatedNextAfter() {
+      Random rnd = new Random(SEED);
+      for (int i = 0; i < SAMPLES; i++) {
+        LocalDateTime from = randomAnchor(rnd).atStartOfDay();
+        Frequency f = REPEATING[rnd.nextInt(REPEATING.length)];
+        int steps = rnd.nextInt(60);
+
+        LocalDateTime expected = from;
+        for (int s = 0; s < steps; s++) {
+          expected = TaskSchedule.nextAfter(expected, f);
+        }
+
+        assertEquals(expected, TaskSchedule.advance(from, f, steps),
+            () -> f + " x" + steps + " from " + from);
+      }
+    }
+
+    @Test
+    void shouldKeepMonthEndClampSticky() {
+      LocalDateTime jan31 = LocalDate.of(2023, 1, 31).atStartOfDay();
+
+      assertEquals(LocalDate.of(2023, 2, 28), TaskSchedule.advance(jan31, Frequency.MONTHLY, 1).toLocalDate());
+      assertEquals(LocalDate.of(2023, 3, 28), TaskSchedule.advance(jan31, Frequency.MONTHLY, 2).toLocalDate());
+      assertEquals(LocalDate.of(2025, 1, 28), TaskSchedule.advance(jan31, Frequency.MONTHLY, 24).toLocalDate());
+    }
+
+    @Test
+    void shouldReturnSameInstantForOnce() {
+      LocalDateTime from = LocalDate.of(2024, 5, 1).atStartOfDay();
+      assertEquals(from, TaskSchedule.advance(from, Frequency.ONCE, 10));
+    }
+
+    @Test
+    void shouldRejectNegativeSteps() {
+      LocalDateTime from = LocalDate.of(2024, 5, 1).atStartOfDay();
+      assertThrows(IllegalArgumentException.class, () -> TaskSchedule.advance(from, Frequency.DAILY, -1));
+    }
+  }
+
+  @Nested
+  class FirstOnOrAfter {
+
+    @Test
+    void shouldMatchCatchUpLoop() {
+      Random rnd = new Random(SEED);
+      for (int i = 0; i < SAMPLES; i++) {
+        LocalDateTime anchor = randomAnchor(rnd).atStartOfDay();
+        Frequency f = REPEATING[rnd.nextInt(REPEATING.length)];
+        LocalDate target = anchor.toLocalDate().plusDays(rnd.nextInt(4_000) - 100);
+
+        assertEquals(loopOnOrAfter(anchor, f, target), TaskSchedule.firstOnOrAfter(anchor, f, target),
+            () -> f + " from " + anchor + " to " + target);
+      }
+    }
+
+    @Test
+    void shouldMatchLoopForEveryTargetAcrossLeapYears() {
+      LocalDateTime anchor = LocalDate.of(2023, 8, 31).atStartOfDay();
+      for (LocalDate target = anchor.toLocalDate(); target.isBefore(LocalDate.of(2029, 1, 1));
+           target = target.plusDays(1)) {
+        for (Frequency f : REPEATING) {
+          assertEquals(loopOnOrAfter(anchor, f, target), TaskSchedule.firstOnOrAfter(anchor, f, target));
+        }
+      }
+    }
+
+    @Test
+    void shouldCountStepsTakenByCatchUpLoop() {
+      Random rnd = new Random(SEED + 1);
+      for (int i = 0; i < SAMPLES; i++) {
+        LocalDateTime anchor = randomAnchor(rnd).atStartOfDay();
+        Frequency f = REPEATING[rnd.nextInt(REPEATING.length)];
+        LocalDate target = anchor.toLocalDate().plusDays(rnd.nextInt(1_000));
+
+        long expected = 0;
+        for (LocalDateTime c = anchor; c.toLocalDate().isBefore(target); c = TaskSchedule.nextAfter(c, f)) {
+          expected++;
+        }
+
+        assertEquals(expected, TaskSchedule.stepsToReach(anchor, f, target),
+            () -> f + " from " + anchor + " to " + target);
+      }
+    }
+
+    @Test
+    void shouldReturnAnchorWhenAlreadyOnOrAfterTarget() {
+      LocalDateTime anchor = LocalDate.of(2025, 3, 10).atStartOfDay();
+
+      assertEquals(anchor, TaskSchedule.firstOnOrAfter(anchor, Frequency.WEEKLY, LocalDate.of(2025, 3, 10)));
+      assertEquals(anchor, TaskSchedule.firstOnOrAfter(anchor, Frequency.MONTHLY, LocalDate.of(2025, 1, 1)));
+    }
+
+    @Test
+    void shouldNeverAdvanceOnce() {
+      LocalDateTime anchor = LocalDate.of(2020, 1, 1).atStartOfDay();
+      assertEquals(anchor, TaskSchedule.firstOnOrAfter(anchor, Frequency.ONCE, LocalDate.of(2025, 1, 1)));
+    }
+  }
+
+  @Nested
+  class AlignFromStart {
+
+    @Test
+    void shouldAlignDecadeOldDailyTaskToToday() {
+      LocalDate today = LocalDate.of(2025, 6, 15);
+
+      LocalDateTime next = TaskSchedule.alignFromStart(today.minusYears(10), Frequency.DAILY, today);
+
+      assertEquals(today.atStartOfDay(), next);
+    }
+
+    @Test
+    void shouldAlignEveryOtherWeekToNextOccurrence() {
+      LocalDate start = LocalDate.of(2025, 1, 6);   // Monday
+      LocalDate today = LocalDate.of(2025, 2, 4);   // 29 days later
+
+      LocalDateTime next = TaskSchedule.alignFromStart(start, Frequency.EVERY_OTHER_WEEK, today);
+
+      assertEquals(LocalDate.of(2025, 2, 17).atStartOfDay(), next);
+    }
+  }
+}